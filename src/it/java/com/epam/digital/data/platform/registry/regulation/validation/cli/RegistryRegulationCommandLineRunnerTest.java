@@ -21,8 +21,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.deliveredtechnologies.rulebook.model.RuleBook;
-import com.deliveredtechnologies.rulebook.model.runner.RuleBookRunner;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.command.CommandManager;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.service.OpenShiftService;
@@ -31,17 +29,17 @@ import com.epam.digital.data.platform.registry.regulation.validation.cli.support
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.CommandLineOptionsConverter;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.SystemExit;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidatorFactory;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.DatafactorySettingsRulesRegistry;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationRuleSet;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.MainLiquibaseRulesRegistry;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
-import com.google.common.collect.Sets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.apache.commons.cli.Options;
@@ -420,7 +418,7 @@ class RegistryRegulationCommandLineRunnerTest {
       CommandLineOptionsConverter commandLineOptionsConverter,
       SystemExit systemExit) {
     var validatorFactory = new RegulationValidatorFactory(resourceLoader, new YAMLMapper(),
-        new JsonMapper(), settingsYamlRuleBook(), mainLiquibaseRuleBook());
+        new JsonMapper(), settingsYamlRuleSet(), mainLiquibaseRuleSet());
 
     var elementTemplatePath = Objects.requireNonNull(
             getClass().getClassLoader().getResource("business-process-modeler-element-template.json"))
@@ -434,21 +432,12 @@ class RegistryRegulationCommandLineRunnerTest {
             jsonMapper));
   }
 
-  private RuleBook<Set<ValidationError>> settingsYamlRuleBook() {
-    return getRuleBookRunner(
-        "com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules");
+  private ValidationRuleSet settingsYamlRuleSet() {
+    return ValidationRuleSet.of(DatafactorySettingsRulesRegistry::ruleClasses);
   }
 
-  private RuleBook<Set<ValidationError>> mainLiquibaseRuleBook() {
-    return getRuleBookRunner(
-        "com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.rules");
-  }
-
-  @SuppressWarnings("unchecked")
-  private RuleBook<Set<ValidationError>> getRuleBookRunner(String rulePackage) {
-    var springAwareRuleBookRunner = new RuleBookRunner(rulePackage);
-    springAwareRuleBookRunner.setDefaultResult(Sets.newHashSet());
-    return springAwareRuleBookRunner;
+  private ValidationRuleSet mainLiquibaseRuleSet() {
+    return ValidationRuleSet.of(MainLiquibaseRulesRegistry::ruleClasses);
   }
 
   private List<String> correctRegistryRegulations() {
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and schema validation of a BPMN model with the Camunda parser, which creates a document
+ * builder and a validator for every file under a global lock, and with the pooled parsers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ModelParsersBenchmark {
+
+  @Param({"process.bpmn", "process-for-validating-inputs.bpmn"})
+  private String bpmnFileName;
+
+  private byte[] content;
+
+  @Setup
+  public void setUp() throws IOException {
+    content = Files.readAllBytes(
+        Path.of("src/test/resources/registry-regulation/correct", bpmnFileName));
+  }
+
+  @Benchmark
+  public BpmnModelInstance readAndValidateWithCamundaParser() {
+    var model = Bpmn.readModelFromStream(new ByteArrayInputStream(content));
+    Bpmn.validateModel(model);
+    return model;
+  }
+
+  @Benchmark
+  public BpmnModelInstance readAndValidateWithPooledParser() {
+    var model = ModelParsers.readBpmnModel(new ByteArrayInputStream(content));
+    ModelParsers.validateBpmnModel(model);
+    return model;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.ElementTemplate;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.ActivityBindings.BindingType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary.TemplatedElement;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Resolution of all the element template properties of a templated activity, reported per
+ * activity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActivityBindingsBenchmark {
+
+  private static final int ACTIVITIES = 16;
+
+  private final List<TemplatedElement> activities = new ArrayList<>();
+  private final List<ElementTemplate> activityTemplates = new ArrayList<>();
+
+  @Setup
+  public void setUp() throws IOException {
+    var elementTemplates = new Jackson2ObjectMapperBuilder()
+        .failOnUnknownProperties(false)
+        .build()
+        .readValue(new File("src/test/resources/business-process-modeler-element-template.json"),
+            new TypeReference<List<ElementTemplate>>() {
+            })
+        .stream()
+        .collect(Collectors.toMap(ElementTemplate::getId, Function.identity()));
+    List<TemplatedElement> templatedActivities;
+    try (var inputStream = new FileInputStream(
+        "src/test/resources/registry-regulation/correct/process-for-validating-inputs.bpmn")) {
+      templatedActivities = BpmnSummary.read(inputStream)
+          .getTemplatedElements()
+          .stream()
+          .filter(TemplatedElement::isActivity)
+          .filter(activity -> elementTemplates.containsKey(activity.getModelerTemplate()))
+          .collect(Collectors.toList());
+    }
+    for (var i = 0; i < ACTIVITIES; i++) {
+      var activity = templatedActivities.get(i % templatedActivities.size());
+      activities.add(activity);
+      activityTemplates.add(elementTemplates.get(activity.getModelerTemplate()));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ACTIVITIES)
+  public void resolveTemplateProperties(Blackhole blackhole) {
+    for (var i = 0; i < ACTIVITIES; i++) {
+      var activityBindings = ActivityBindings.of(activities.get(i));
+      for (var property : activityTemplates.get(i).getProperties()) {
+        var binding = property.getBinding();
+        BindingType.of(binding.getType())
+            .map(bindingType -> activityBindings.get(bindingType,
+                bindingType.getBindingName(binding)))
+            .filter(Objects::nonNull)
+            .ifPresent(blackhole::consume);
+      }
+    }
+  }
+}
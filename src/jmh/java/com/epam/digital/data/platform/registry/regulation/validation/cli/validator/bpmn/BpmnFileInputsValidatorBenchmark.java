@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of the BPMN inputs against the correct regulation fixtures. Parsed BPMN models and
+ * the Liquibase changelog index stay cached between invocations as they do between the validators
+ * of a run, while the regulation index is rebuilt on every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BpmnFileInputsValidatorBenchmark {
+
+  private static final String CORRECT_REGULATION = "src/test/resources/registry-regulation/correct";
+
+  private RegulationFiles regulationFiles;
+  private BpmnFileInputsValidator validator;
+
+  @Setup
+  public void setUp() {
+    regulationFiles = RegulationFiles.builder()
+        .bpmnFiles(List.of(new File(CORRECT_REGULATION, "process-for-validating-inputs.bpmn")))
+        .liquibaseFiles(List.of(new File(CORRECT_REGULATION, "test-main-liquibase.xml")))
+        .bpTrembitaConfig(List.of(new File(CORRECT_REGULATION, "configuration.yml")))
+        .excerptFiles(List.of(new File(CORRECT_REGULATION, "excerpts-docx")))
+        .diiaNotificationTemplateDirectory(List.of(new File(CORRECT_REGULATION, "diia")))
+        .formFiles(List.of(new File(CORRECT_REGULATION, "ui-form.json")))
+        .build();
+    var bpmnModelCache = new BpmnModelCache();
+    validator = new BpmnFileInputsValidator(
+        "src/test/resources/business-process-modeler-element-template.json",
+        List.of("testRole"), bpmnModelCache, new RegulationIndexer(new YAMLMapper(),
+        bpmnModelCache, new ChangeIndexCache(), ValidationExecutor.sequential()));
+  }
+
+  @Benchmark
+  public Set<ValidationError> validate() {
+    // a copy of the regulation files, so the regulation index is not reused between invocations
+    return validator.validate(regulationFiles.map(UnaryOperator.identity()),
+        ValidationContext.of(RegulationFileType.BPMN));
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of a single BPMN file, either parsing the model from scratch or reusing the model
+ * parsed by a previous validator of the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BpmnFileValidatorBenchmark {
+
+  @Param({"process.bpmn", "process-for-validating-inputs.bpmn"})
+  private String bpmnFileName;
+
+  private File bpmnFile;
+  private BpmnFileValidator warmValidator;
+
+  @Setup
+  public void setUp() {
+    bpmnFile = new File("src/test/resources/registry-regulation/correct", bpmnFileName);
+    warmValidator = new BpmnFileValidator(new BpmnModelCache());
+    warmValidator.validate(bpmnFile, ValidationContext.of(RegulationFileType.BPMN));
+  }
+
+  @Benchmark
+  public Set<ValidationError> validateParsingModel() {
+    return new BpmnFileValidator(new BpmnModelCache())
+        .validate(bpmnFile, ValidationContext.of(RegulationFileType.BPMN));
+  }
+
+  @Benchmark
+  public Set<ValidationError> validateCachedModel() {
+    return warmValidator.validate(bpmnFile, ValidationContext.of(RegulationFileType.BPMN));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.json;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * Schema validation of the YAML and JSON regulation files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSchemaFileValidatorBenchmark {
+
+  @Param({
+      "roles.yml:roles-schema.json:ROLES",
+      "bp-auth.yml:bp-auth-schema.json:BP_AUTH",
+      "ui-form.json:forms-schema.json:FORMS"
+  })
+  private String fixture;
+
+  private File regulationFile;
+  private ValidationContext context;
+  private JsonSchemaFileValidator validator;
+
+  @Setup
+  public void setUp() {
+    var fixtureParts = fixture.split(":");
+    regulationFile = new File("src/test/resources/registry-regulation/correct", fixtureParts[0]);
+    context = ValidationContext.of(RegulationFileType.valueOf(fixtureParts[2]));
+    validator = new JsonSchemaFileValidator("classpath:schema/" + fixtureParts[1],
+        new DefaultResourceLoader(), new YAMLMapper());
+  }
+
+  @Benchmark
+  public Set<ValidationError> validate() {
+    return validator.validate(regulationFile, context);
+  }
+}
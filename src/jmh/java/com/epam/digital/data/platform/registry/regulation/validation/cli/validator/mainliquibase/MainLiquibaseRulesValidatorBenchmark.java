@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationRuleSet;
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Liquibase rules validation of the main changelog, parsing the changelog on every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MainLiquibaseRulesValidatorBenchmark {
+
+  @Param({
+      "registry-regulation/correct/test-main-liquibase.xml",
+      "registry-regulation/broken/main-liquibase/test-main-liquibase.xml"
+  })
+  private String changeLogFileName;
+
+  private File changeLogFile;
+  private ValidationRuleSet ruleSet;
+
+  @Setup
+  public void setUp() {
+    changeLogFile = new File("src/test/resources", changeLogFileName);
+    ruleSet = ValidationRuleSet.of(MainLiquibaseRulesRegistry::ruleClasses);
+  }
+
+  @Benchmark
+  public Set<ValidationError> validate() {
+    return new MainLiquibaseRulesValidator(ruleSet, new ChangeIndexCache())
+        .validate(changeLogFile, ValidationContext.of(RegulationFileType.LIQUIBASE));
+  }
+}
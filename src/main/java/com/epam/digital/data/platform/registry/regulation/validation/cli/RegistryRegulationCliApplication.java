@@ -16,6 +16,8 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.command.Commands;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.daemon.DaemonClient;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -23,6 +25,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class RegistryRegulationCliApplication {
 
   public static void main(String[] args) {
+    if (args.length > 0 && Commands.CLIENT.getCommandName().equals(args[0])) {
+      System.exit(DaemonClient.run(args));
+    }
     SpringApplication.run(RegistryRegulationCliApplication.class, args);
   }
 }
\ No newline at end of file
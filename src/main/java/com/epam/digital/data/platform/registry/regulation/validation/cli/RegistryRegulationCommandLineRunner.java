@@ -20,13 +20,19 @@ import com.epam.digital.data.platform.registry.regulation.validation.cli.command
 import com.epam.digital.data.platform.registry.regulation.validation.cli.command.CommandManager;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.command.CommandParameters;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.command.Commands;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.daemon.DaemonRequest;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.daemon.ValidationDaemon;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.CommandLineArg;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.CommandLineArgsParser;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.CommandLineOptionsConverter;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.SystemExit;
+import java.io.File;
+import java.io.IOException;
+import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.boot.CommandLineRunner;
 
 @Slf4j
@@ -35,6 +41,7 @@ public class RegistryRegulationCommandLineRunner implements CommandLineRunner {
   private static final int MIN_ARGS_LENGTH = 3;
   private static final int COMMAND_INDEX = 0;
   private static final int BUSINESS_OPERATION_INDEX = 1;
+  private static final int MAX_PORT = 65535;
   private final CommandLineArgsParser commandLineArgsParser;
   private final CommandLineOptionsConverter commandLineOptionsConverter;
 
@@ -52,6 +59,14 @@ public class RegistryRegulationCommandLineRunner implements CommandLineRunner {
 
   @Override
   public void run(String... args) {
+    if (args.length > 0 && Commands.DAEMON.getCommandName().equals(args[COMMAND_INDEX])) {
+      runDaemon(args);
+      return;
+    }
+    execute(null, args);
+  }
+
+  private void execute(File workingDirectory, String... args) {
     try {
       if (!isValidArgsLength(args)) {
         this.commandLineArgsParser.printHelp();
@@ -59,7 +74,7 @@ public class RegistryRegulationCommandLineRunner implements CommandLineRunner {
         return;
       }
       var command = commandManager.getCommand(args[COMMAND_INDEX]);
-      var commandParameters = prepareCommandParameters(args);
+      var commandParameters = prepareCommandParameters(workingDirectory, args);
       command.execute(commandParameters);
 
     } catch (ParseException e) {
@@ -67,6 +82,38 @@ public class RegistryRegulationCommandLineRunner implements CommandLineRunner {
     }
   }
 
+  private void runDaemon(String... args) {
+    try (var daemon = new ValidationDaemon(getPort(args), this::handleDaemonRequest)) {
+      daemon.start();
+      daemon.serve();
+    } catch (ParseException e) {
+      handleCommandLineParseException(e);
+    } catch (IOException e) {
+      log.error("Validation daemon failure", e);
+      this.systemExit.systemError();
+    }
+  }
+
+  private int handleDaemonRequest(DaemonRequest request) {
+    var args = request.getArgs().toArray(String[]::new);
+    return this.systemExit.capture(() -> execute(request.getWorkingDirectory(), args));
+  }
+
+  private int getPort(String... args) throws ParseException {
+    var options = this.commandLineArgsParser.parse(args);
+    var portOptionName = CommandLineArg.PORT.getArgOptionName();
+    if (!options.hasOption(portOptionName)) {
+      return ValidationDaemon.DEFAULT_PORT;
+    }
+    var value = options.getOption(portOptionName).getValue();
+    var port = NumberUtils.toInt(value, -1);
+    if (port < 0 || port > MAX_PORT) {
+      throw new ParseException("Port must be an integer between 0 and " + MAX_PORT + ", but was "
+          + value);
+    }
+    return port;
+  }
+
   private boolean isValidArgsLength(String... args) {
     if (args.length == 0) {
       return false;
@@ -79,7 +126,12 @@ public class RegistryRegulationCommandLineRunner implements CommandLineRunner {
     return true;
   }
 
-  private CommandParameters prepareCommandParameters(String... args)
+  /**
+   * Prepares the command parameters. If a working directory is given, the command line was
+   * forwarded by a daemon client and relative paths are resolved against the client working
+   * directory.
+   */
+  private CommandParameters prepareCommandParameters(File workingDirectory, String... args)
       throws ParseException {
     var params = new CommandParameters();
     var commandName = args[COMMAND_INDEX];
@@ -89,7 +141,20 @@ public class RegistryRegulationCommandLineRunner implements CommandLineRunner {
     var options = this.commandLineArgsParser.parse(args);
     var regulationFiles = commandLineOptionsConverter.convert(options);
     params.setRegulationFiles(regulationFiles);
-    if (!Commands.VALIDATE.getCommandName().equals(commandName)) {
+    if (Commands.VALIDATE.getCommandName().equals(commandName)) {
+      setParallelismIfAny(params, options);
+      setCacheDirectoryIfAny(params, options);
+      params.setIncremental(options.hasOption(CommandLineArg.INCREMENTAL.getArgOptionName()));
+      params.setWatch(options.hasOption(CommandLineArg.WATCH.getArgOptionName()));
+      if (Objects.nonNull(workingDirectory)) {
+        if (params.isWatch()) {
+          throw new IllegalArgumentException("Watch mode is not supported by the validation daemon");
+        }
+        params.setRegulationFiles(regulationFiles.map(file -> resolve(workingDirectory, file)));
+        params.setCacheDirectory(resolve(workingDirectory, params.getCacheDirectory()));
+      }
+    } else {
+      requireDaemonWorkingDirectory(workingDirectory);
       params.setBusinessOperation(args[BUSINESS_OPERATION_INDEX]);
       params.setOption(getOptionForPlanAndSaveCommands(options));
     }
@@ -105,6 +170,47 @@ public class RegistryRegulationCommandLineRunner implements CommandLineRunner {
     throw new IllegalArgumentException("Invalid option for command");
   }
 
+  private void setParallelismIfAny(CommandParameters params, Options options)
+      throws ParseException {
+    var parallelismOptionName = CommandLineArg.PARALLELISM.getArgOptionName();
+    if (!options.hasOption(parallelismOptionName)) {
+      return;
+    }
+    var value = options.getOption(parallelismOptionName).getValue();
+    var parallelism = NumberUtils.toInt(value);
+    if (parallelism < 1) {
+      throw new ParseException("Parallelism must be a positive integer, but was " + value);
+    }
+    params.setParallelism(parallelism);
+  }
+
+  private void setCacheDirectoryIfAny(CommandParameters params, Options options) {
+    var cacheDirOptionName = CommandLineArg.CACHE_DIR.getArgOptionName();
+    if (!options.hasOption(cacheDirOptionName)) {
+      return;
+    }
+    params.setCacheDirectory(new File(options.getOption(cacheDirOptionName).getValue()));
+  }
+
+  private File resolve(File workingDirectory, File file) {
+    if (Objects.isNull(file) || file.isAbsolute()) {
+      return file;
+    }
+    return new File(workingDirectory, file.getPath());
+  }
+
+  /**
+   * Checksums saved by the plan and save commands are keyed by paths relative to the given files,
+   * so their files are not resolved against the client working directory.
+   */
+  private void requireDaemonWorkingDirectory(File workingDirectory) {
+    var daemonWorkingDirectory = new File("").getAbsoluteFile();
+    if (Objects.nonNull(workingDirectory) && !daemonWorkingDirectory.equals(workingDirectory)) {
+      throw new IllegalArgumentException(
+          "Command must be run in the daemon working directory " + daemonWorkingDirectory);
+    }
+  }
+
   private void handleCommandLineParseException(ParseException e) {
     log.error("Parsing failure" + (e.getMessage() != null ? ": " + e.getMessage() : "")
         + ". Find help below:");
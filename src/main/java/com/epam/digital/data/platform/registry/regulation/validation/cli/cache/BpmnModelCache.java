@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.parser.ModelParsers;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import lombok.Value;
+import org.camunda.bpm.model.bpmn.BpmnModelException;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+
+/**
+ * Cache of parsed BPMN models shared by all the BPMN validators of a validation run, so each BPMN
+ * file is parsed only once.
+ *
+ * <p>Models are keyed by {@link FileArtifactKey} and parsed from the same bytes the key is computed
+ * from. Parsing failures are not cached and are rethrown to every caller as is.
+ *
+ * <p>The DOM behind a {@link BpmnModelInstance} is not safe for concurrent reads, so models are
+ * only exposed through {@link #read(File, Function)}, which serializes access to each model.
+ *
+ * <p>Models are held within a heap budget. The weight of a model is estimated from the size of its
+ * file, and the least recently used models are evicted once the budget is exceeded. Models are
+ * also softly referenced, so the garbage collector may reclaim them if the estimate falls short.
+ * An evicted model is parsed again when it is read next. Hits, misses and evictions are counted in
+ * the {@link #stats() statistics} of the cache.
+ *
+ * <p>Entries built from previous contents of a file are dropped when the file is parsed again, so
+ * the cache may be shared by consecutive validation runs of a long-running process.
+ *
+ * <p>Checks that only need process ids or element template bindings of a file should use its
+ * {@link #summary(File) summary} instead, which is read without building the DOM and is also
+ * looked up in the {@link BpmnSummaryCache} shared by consecutive validation runs.
+ */
+public class BpmnModelCache {
+
+  /**
+   * Default heap budget of the parsed models in bytes.
+   */
+  public static final long DEFAULT_MAX_MODEL_BYTES = 256L * 1024 * 1024;
+
+  /**
+   * Estimated heap bytes taken by the DOM and the model elements of a parsed model per byte of
+   * its file.
+   */
+  static final int MODEL_BYTES_PER_FILE_BYTE = 10;
+
+  private final Cache<FileArtifactKey, WeightedModel> models;
+  private final Cache<FileArtifactKey, BpmnSummary> summaries = CacheBuilder.newBuilder().build();
+  private final BpmnSummaryCache bpmnSummaryCache;
+
+  public BpmnModelCache() {
+    this(BpmnSummaryCache.disabled());
+  }
+
+  public BpmnModelCache(BpmnSummaryCache bpmnSummaryCache) {
+    this(bpmnSummaryCache, DEFAULT_MAX_MODEL_BYTES);
+  }
+
+  public BpmnModelCache(BpmnSummaryCache bpmnSummaryCache, long maxModelBytes) {
+    this.bpmnSummaryCache = bpmnSummaryCache;
+    // a single segment, so the budget and the recency order apply to all the models at once
+    this.models = CacheBuilder.newBuilder()
+        .concurrencyLevel(1)
+        .maximumWeight(maxModelBytes)
+        .weigher((FileArtifactKey key, WeightedModel model) -> model.getWeight())
+        .softValues()
+        .recordStats()
+        .build();
+  }
+
+  public <R> R read(File bpmnFile, Function<BpmnModelInstance, R> reader) {
+    var model = getModel(bpmnFile);
+    synchronized (model) {
+      return reader.apply(model);
+    }
+  }
+
+  public BpmnSummary summary(File bpmnFile) {
+    var content = readContent(bpmnFile);
+    var key = FileArtifactKey.of(bpmnFile, content);
+    return get(summaries, key, () -> bpmnSummaryCache.get(bpmnFile, key.getChecksum())
+        .orElseGet(() -> {
+          summaries.asMap().keySet().removeIf(key::supersedes);
+          var summary = BpmnSummary.read(new ByteArrayInputStream(content));
+          bpmnSummaryCache.put(bpmnFile, key.getChecksum(), summary);
+          return summary;
+        }));
+  }
+
+  public long size() {
+    return models.size();
+  }
+
+  /**
+   * Hit, miss and eviction counts of the parsed models.
+   */
+  public CacheStats stats() {
+    return models.stats();
+  }
+
+  private BpmnModelInstance getModel(File bpmnFile) {
+    var content = readContent(bpmnFile);
+    var key = FileArtifactKey.of(bpmnFile, content);
+    return get(models, key, () -> {
+      models.asMap().keySet().removeIf(key::supersedes);
+      return new WeightedModel(ModelParsers.readBpmnModel(new ByteArrayInputStream(content)),
+          estimateWeight(content));
+    }).getModel();
+  }
+
+  private static int estimateWeight(byte[] content) {
+    return (int) Math.min(Integer.MAX_VALUE, (long) content.length * MODEL_BYTES_PER_FILE_BYTE);
+  }
+
+  private static <V> V get(Cache<FileArtifactKey, V> cache, FileArtifactKey key,
+      Callable<V> loader) {
+    try {
+      return cache.get(key, loader);
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private byte[] readContent(File bpmnFile) {
+    try {
+      return Files.readAllBytes(bpmnFile.toPath());
+    } catch (IOException e) {
+      throw new BpmnModelException("Cannot read model from file " + bpmnFile, e);
+    }
+  }
+
+  @Value
+  private static class WeightedModel {
+
+    BpmnModelInstance model;
+    int weight;
+  }
+}
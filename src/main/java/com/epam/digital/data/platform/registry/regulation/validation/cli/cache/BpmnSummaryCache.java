@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.AtomicFileWriter;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk cache of the {@link BpmnSummary summaries} of BPMN files shared by consecutive
+ * validation runs, so unchanged BPMN files are summarized without any XML parsing.
+ *
+ * <p>Entries are addressed by the SHA-256 checksum of the file content and stored under the
+ * version of the validator chain, which covers the CLI build and the element templates. Entries
+ * are written atomically and, like the {@link ValidationResultCache}, the cache never fails a
+ * validation: unreadable entries are treated as missing and failed writes are only logged.
+ */
+@Slf4j
+public class BpmnSummaryCache {
+
+  private static final BpmnSummaryCache DISABLED = new BpmnSummaryCache(null);
+  private static final String SUMMARIES_DIRECTORY = "bpmn-summaries";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Path directory;
+
+  private BpmnSummaryCache(Path directory) {
+    this.directory = directory;
+  }
+
+  public static BpmnSummaryCache of(Path directory, String validatorChainVersion) {
+    return new BpmnSummaryCache(
+        directory.resolve(validatorChainVersion).resolve(SUMMARIES_DIRECTORY));
+  }
+
+  public static BpmnSummaryCache disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  public Optional<BpmnSummary> get(File file, String checksum) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+    var entryFile = entryFile(checksum);
+    try {
+      return Optional.of(objectMapper.readValue(entryFile.toFile(), BpmnSummary.class));
+    } catch (NoSuchFileException | FileNotFoundException e) {
+      return Optional.empty();
+    } catch (IOException | RuntimeException e) {
+      log.warn("[{}] Ignoring unreadable BPMN summary cache entry {}", file.getName(), entryFile,
+          e);
+      return Optional.empty();
+    }
+  }
+
+  public void put(File file, String checksum, BpmnSummary summary) {
+    if (!isEnabled()) {
+      return;
+    }
+    var entryFile = entryFile(checksum);
+    try {
+      AtomicFileWriter.write(entryFile, objectMapper.writeValueAsBytes(summary));
+    } catch (IOException e) {
+      log.warn("[{}] Failed to store BPMN summary cache entry {}", file.getName(), entryFile, e);
+    }
+  }
+
+  private Path entryFile(String checksum) {
+    return directory.resolve(checksum.substring(0, 2)).resolve(checksum + ".json");
+  }
+}
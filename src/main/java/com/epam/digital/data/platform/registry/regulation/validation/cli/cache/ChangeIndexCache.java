@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.ChangelogParser;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.ChangeIndex;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.File;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import liquibase.exception.LiquibaseException;
+import lombok.Value;
+
+/**
+ * Cache of {@link ChangeIndex changelog indexes} shared by all the Liquibase consumers of a
+ * validation run, so the main changelog with all its includes is parsed only once.
+ *
+ * <p>Concurrent callers asking for the same changelog wait for a single parse. Parsing failures
+ * are not cached and are rethrown to every caller.
+ *
+ * <p>Every index remembers the size and modification time of the files it was parsed from, that
+ * is the changelog and the changelogs it includes, see {@link ChangelogParser#parseChangeLog(File,
+ * ValidationExecutor, ChangelogNodeCache, Collection)}. An index outlives a run only until one of
+ * these files is changed, other files next to the changelog do not matter.
+ *
+ * <p>With a parallel executor the included changelogs of a changelog are parsed concurrently, and
+ * with an enabled {@link ChangelogNodeCache} unchanged included changelogs are not parsed again,
+ * see {@link ChangelogParser#parseChangeLog(File, ValidationExecutor, ChangelogNodeCache)}.
+ */
+public class ChangeIndexCache {
+
+  private final Cache<File, CachedIndex> indexes;
+  private final ValidationExecutor includeParsingExecutor;
+  private final ChangelogNodeCache changelogNodeCache;
+
+  public ChangeIndexCache() {
+    this(ValidationExecutor.sequential());
+  }
+
+  public ChangeIndexCache(ValidationExecutor includeParsingExecutor) {
+    this(includeParsingExecutor, ChangelogNodeCache.disabled());
+  }
+
+  public ChangeIndexCache(ValidationExecutor includeParsingExecutor,
+      ChangelogNodeCache changelogNodeCache) {
+    this(CacheBuilder.newBuilder().build(), includeParsingExecutor, changelogNodeCache);
+  }
+
+  private ChangeIndexCache(Cache<File, CachedIndex> indexes,
+      ValidationExecutor includeParsingExecutor, ChangelogNodeCache changelogNodeCache) {
+    this.indexes = indexes;
+    this.includeParsingExecutor = includeParsingExecutor;
+    this.changelogNodeCache = changelogNodeCache;
+  }
+
+  /**
+   * Returns a cache sharing the indexes of this one, but parsing included changelogs on the given
+   * executor, so the indexes can outlive the executor of the validation run they were parsed in.
+   */
+  public ChangeIndexCache withIncludeParsingExecutor(ValidationExecutor includeParsingExecutor) {
+    return new ChangeIndexCache(indexes, includeParsingExecutor, changelogNodeCache);
+  }
+
+  public ChangeIndex get(File changeLogFile) throws LiquibaseException {
+    var absoluteFile = changeLogFile.getAbsoluteFile();
+    var cached = indexes.getIfPresent(absoluteFile);
+    if (Objects.nonNull(cached) && !cached.isUpToDate()) {
+      indexes.asMap().remove(absoluteFile, cached);
+    }
+    try {
+      return indexes.get(absoluteFile, () -> parse(changeLogFile)).getIndex();
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      Throwables.throwIfInstanceOf(e.getCause(), LiquibaseException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  public long size() {
+    return indexes.size();
+  }
+
+  private CachedIndex parse(File changeLogFile) throws LiquibaseException {
+    var sourceFiles = new HashSet<File>();
+    sourceFiles.add(changeLogFile.getAbsoluteFile());
+    var changeLog = ChangelogParser.parseChangeLog(changeLogFile, includeParsingExecutor,
+        changelogNodeCache, sourceFiles);
+    return new CachedIndex(ChangeIndex.of(changeLog), fingerprint(sourceFiles));
+  }
+
+  private static Map<File, String> fingerprint(Collection<File> files) {
+    return files.stream().collect(Collectors.toMap(Function.identity(),
+        file -> file.length() + ":" + file.lastModified()));
+  }
+
+  @Value
+  static class CachedIndex {
+
+    ChangeIndex index;
+    Map<File, String> sourceFingerprints;
+
+    boolean isUpToDate() {
+      return sourceFingerprints.equals(fingerprint(sourceFingerprints.keySet()));
+    }
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.AtomicFileWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import liquibase.parser.core.ParsedNode;
+import liquibase.parser.core.ParsedNodeException;
+import liquibase.util.LiquibaseUtil;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk cache of parsed Liquibase changelog files shared by consecutive validation runs, so the
+ * changes of an unchanged included changelog are loaded without reading and schema-validating its
+ * XML again.
+ *
+ * <p>An entry holds the {@link ParsedNode node tree} Liquibase builds from a changelog file before
+ * loading its change sets. Entries are addressed by the SHA-256 checksum of the file content and
+ * stored under the versions of Liquibase and of the {@code liquibase-ddm-ext} extension, so an
+ * upgrade of either of them starts with an empty cache. Like the {@link BpmnSummaryCache}, the
+ * cache never fails a validation: unreadable entries are treated as missing and failed writes are
+ * only logged.
+ */
+@Slf4j
+public class ChangelogNodeCache {
+
+  static final String LIQUIBASE_EXTENSION_POM_PROPERTIES =
+      "META-INF/maven/com.epam.digital.data.platform/liquibase-ddm-ext/pom.properties";
+
+  private static final ChangelogNodeCache DISABLED = new ChangelogNodeCache(null);
+  private static final String NODES_DIRECTORY = "liquibase-changelogs";
+  private static final String UNKNOWN_VERSION = "unknown";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Path directory;
+
+  private ChangelogNodeCache(Path directory) {
+    this.directory = directory;
+  }
+
+  public static ChangelogNodeCache of(Path directory) {
+    return of(directory, parserVersion());
+  }
+
+  static ChangelogNodeCache of(Path directory, String parserVersion) {
+    return new ChangelogNodeCache(directory.resolve(NODES_DIRECTORY).resolve(parserVersion));
+  }
+
+  public static ChangelogNodeCache disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  public Optional<ParsedNode> get(String changeLogPath, String checksum) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+    var entryFile = entryFile(checksum);
+    try {
+      return Optional.of(objectMapper.readValue(entryFile.toFile(), CachedNode.class).toNode());
+    } catch (NoSuchFileException | FileNotFoundException e) {
+      return Optional.empty();
+    } catch (IOException | ParsedNodeException | RuntimeException e) {
+      log.warn("[{}] Ignoring unreadable changelog cache entry {}", changeLogPath, entryFile, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Stores the node tree of a changelog file, unless it holds values other than text, which
+   * cannot be restored as they were parsed.
+   */
+  public void put(String changeLogPath, String checksum, ParsedNode node) {
+    if (!isEnabled()) {
+      return;
+    }
+    var cachedNode = CachedNode.of(node);
+    if (cachedNode.isEmpty()) {
+      return;
+    }
+    var entryFile = entryFile(checksum);
+    try {
+      AtomicFileWriter.write(entryFile, objectMapper.writeValueAsBytes(cachedNode.get()));
+    } catch (IOException e) {
+      log.warn("[{}] Failed to store changelog cache entry {}", changeLogPath, entryFile, e);
+    }
+  }
+
+  /**
+   * Version of everything the parsed changelog depends on besides the file itself: the Liquibase
+   * parser and the extension providing the {@code ext:} changes.
+   */
+  static String parserVersion() {
+    var extensionVersion = UNKNOWN_VERSION;
+    try (InputStream pomProperties = ChangelogNodeCache.class.getClassLoader()
+        .getResourceAsStream(LIQUIBASE_EXTENSION_POM_PROPERTIES)) {
+      if (Objects.nonNull(pomProperties)) {
+        var properties = new Properties();
+        properties.load(pomProperties);
+        extensionVersion = properties.getProperty("version", UNKNOWN_VERSION);
+      }
+    } catch (IOException e) {
+      log.warn("Failed to read the liquibase-ddm-ext version", e);
+    }
+    var version = "liquibase-" + LiquibaseUtil.getBuildVersion() + "_ddm-ext-" + extensionVersion;
+    return version.replaceAll("[^A-Za-z0-9._-]", "_");
+  }
+
+  private Path entryFile(String checksum) {
+    return directory.resolve(checksum.substring(0, 2)).resolve(checksum + ".json");
+  }
+
+  @Value
+  @Builder
+  @Jacksonized
+  static class CachedNode {
+
+    String namespace;
+    String name;
+    String value;
+    List<CachedNode> children;
+
+    static Optional<CachedNode> of(ParsedNode node) {
+      if (Objects.nonNull(node.getValue()) && !(node.getValue() instanceof String)) {
+        return Optional.empty();
+      }
+      var children = new ArrayList<CachedNode>(node.getChildren().size());
+      for (var child : node.getChildren()) {
+        var cachedChild = of(child);
+        if (cachedChild.isEmpty()) {
+          return Optional.empty();
+        }
+        children.add(cachedChild.get());
+      }
+      return Optional.of(CachedNode.builder()
+          .namespace(node.getNamespace())
+          .name(node.getName())
+          .value((String) node.getValue())
+          .children(children)
+          .build());
+    }
+
+    ParsedNode toNode() throws ParsedNodeException {
+      var node = new ParsedNode(namespace, name);
+      node.setValue(value);
+      for (var child : children) {
+        node.addChild(child.toNode());
+      }
+      return node;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.parser.ModelParsers;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.dmn.util.DmnSummary;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import org.camunda.bpm.model.dmn.DmnModelException;
+import org.camunda.bpm.model.dmn.DmnModelInstance;
+import org.camunda.bpm.model.xml.ModelValidationException;
+
+/**
+ * Cache of {@link DmnSummary DMN summaries} shared by the DMN file validator and the regulation
+ * indexer of a validation run.
+ *
+ * <p>A DMN file is parsed, validated against the DMN schema and summarized in a single pass,
+ * whichever of the validator and the indexer asks for it first, so a file is parsed at most once
+ * per content. The outcome of the schema validation is kept with the summary and reported by
+ * {@link #validate(File)} only, so the decisions of a file violating the schema are still indexed.
+ *
+ * <p>Summaries are keyed by {@link FileArtifactKey} and built from the same bytes the key is
+ * computed from. Parsing failures are not cached and are rethrown to every caller as is. Summaries
+ * of previous contents of a file are dropped when the file is summarized again.
+ */
+public class DmnModelCache {
+
+  private final Cache<FileArtifactKey, ParsedDmn> summaries = CacheBuilder.newBuilder().build();
+
+  /**
+   * Returns the summary of the DMN file, failing if the model is not valid against the DMN
+   * schema.
+   *
+   * @throws DmnModelException        if the file cannot be parsed
+   * @throws ModelValidationException if the model is not valid
+   */
+  public DmnSummary validate(File dmnFile) {
+    var parsedDmn = parse(dmnFile);
+    if (Objects.nonNull(parsedDmn.validationFailure)) {
+      throw parsedDmn.validationFailure;
+    }
+    return parsedDmn.summary;
+  }
+
+  /**
+   * Returns the summary of the DMN file, whether or not the model is valid against the DMN schema.
+   *
+   * @throws DmnModelException if the file cannot be parsed
+   */
+  public DmnSummary summary(File dmnFile) {
+    return parse(dmnFile).summary;
+  }
+
+  public long size() {
+    return summaries.size();
+  }
+
+  private ParsedDmn parse(File dmnFile) {
+    var content = readContent(dmnFile);
+    try {
+      var key = FileArtifactKey.of(dmnFile, content);
+      return summaries.get(key, () -> {
+        summaries.asMap().keySet().removeIf(key::supersedes);
+        return ParsedDmn.of(ModelParsers.readDmnModel(new ByteArrayInputStream(content)));
+      });
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private byte[] readContent(File dmnFile) {
+    try {
+      return Files.readAllBytes(dmnFile.toPath());
+    } catch (NoSuchFileException e) {
+      throw new DmnModelException(
+          "Cannot read model from file " + dmnFile + ": file does not exist.");
+    } catch (IOException e) {
+      throw new DmnModelException("Cannot read model from file " + dmnFile, e);
+    }
+  }
+
+  private static final class ParsedDmn {
+
+    private final DmnSummary summary;
+    private final ModelValidationException validationFailure;
+
+    private ParsedDmn(DmnSummary summary, ModelValidationException validationFailure) {
+      this.summary = summary;
+      this.validationFailure = validationFailure;
+    }
+
+    static ParsedDmn of(DmnModelInstance dmnModel) {
+      ModelValidationException validationFailure = null;
+      try {
+        ModelParsers.validateDmnModel(dmnModel);
+      } catch (ModelValidationException e) {
+        validationFailure = e;
+      }
+      return new ParsedDmn(DmnSummary.of(dmnModel), validationFailure);
+    }
+  }
+}
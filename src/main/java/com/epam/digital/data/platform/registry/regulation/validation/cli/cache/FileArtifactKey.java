@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.exception.FileProcessingException;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.FileChecksumGenerator;
+import java.io.File;
+import java.io.IOException;
+import lombok.Value;
+
+/**
+ * Identifies an artifact built from a regulation file by the canonical path of the file and the
+ * checksum of its content, so the artifact is rebuilt as soon as the file is changed.
+ */
+@Value
+public class FileArtifactKey {
+
+  String canonicalPath;
+  String checksum;
+
+  public static FileArtifactKey of(File file, byte[] content) {
+    try {
+      return new FileArtifactKey(file.getCanonicalPath(),
+          FileChecksumGenerator.generateContentChecksum(content));
+    } catch (IOException e) {
+      throw new FileProcessingException(
+          String.format("A failure occurred while processing file %s", file.getName()), file, e);
+    }
+  }
+
+  /**
+   * Tells whether the given key identifies an artifact of another content of the same file, which
+   * is outdated once an artifact for this key is built.
+   */
+  public boolean supersedes(FileArtifactKey other) {
+    return canonicalPath.equals(other.canonicalPath) && !checksum.equals(other.checksum);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.AtomicFileWriter;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.FileChecksumGenerator;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk cache of the errors produced by the validator chain of a single regulation file, shared
+ * by consecutive validation runs.
+ *
+ * <p>Entries are addressed by the checksum of the file content, the file name, the regulation
+ * file type and the version of the validator chain, so changing the CLI, its schemas or element
+ * templates invalidates every entry. Entries are written to a temporary file first and atomically
+ * renamed, so concurrent CLI processes sharing the directory never see a partial entry.
+ *
+ * <p>The cache never fails a validation: unreadable or corrupted entries are treated as missing
+ * and failed writes are only logged.
+ */
+@Slf4j
+public class ValidationResultCache {
+
+  private static final ValidationResultCache DISABLED = new ValidationResultCache(null, null);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Path directory;
+  private final String validatorChainVersion;
+
+  private ValidationResultCache(Path directory, String validatorChainVersion) {
+    this.directory = directory;
+    this.validatorChainVersion = validatorChainVersion;
+  }
+
+  public static ValidationResultCache of(Path directory, String validatorChainVersion) {
+    return new ValidationResultCache(directory.resolve(validatorChainVersion),
+        validatorChainVersion);
+  }
+
+  public static ValidationResultCache disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  public Optional<Set<ValidationError>> get(File file, byte[] content,
+      RegulationFileType regulationFileType) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+    var entryFile = entryFile(file, content, regulationFileType);
+    try {
+      var entry = objectMapper.readValue(entryFile.toFile(), Entry.class);
+      var errors = new LinkedHashSet<ValidationError>();
+      entry.getErrors().forEach(error -> errors.add(error.toValidationError(file)));
+      return Optional.of(errors);
+    } catch (NoSuchFileException | FileNotFoundException e) {
+      return Optional.empty();
+    } catch (IOException | RuntimeException e) {
+      log.warn("[{}] Ignoring unreadable validation result cache entry {}", file.getName(),
+          entryFile, e);
+      return Optional.empty();
+    }
+  }
+
+  public void put(File file, byte[] content, RegulationFileType regulationFileType,
+      Set<ValidationError> errors) {
+    if (!isEnabled()) {
+      return;
+    }
+    var entryFile = entryFile(file, content, regulationFileType);
+    var entry = new Entry();
+    errors.forEach(error -> entry.getErrors().add(CachedError.of(error, file)));
+    try {
+      AtomicFileWriter.write(entryFile, objectMapper.writeValueAsBytes(entry));
+    } catch (IOException e) {
+      log.warn("[{}] Failed to store validation result cache entry {}", file.getName(),
+          entryFile, e);
+    }
+  }
+
+  private Path entryFile(File file, byte[] content, RegulationFileType regulationFileType) {
+    var key = String.join("\n", validatorChainVersion, regulationFileType.name(), file.getName(),
+        FileChecksumGenerator.generateContentChecksum(content));
+    var hash = FileChecksumGenerator.generateContentChecksum(key.getBytes(StandardCharsets.UTF_8));
+    return directory.resolve(hash.substring(0, 2)).resolve(hash + ".json");
+  }
+
+  @Data
+  @NoArgsConstructor
+  static class Entry {
+
+    private List<CachedError> errors = new ArrayList<>();
+  }
+
+  /**
+   * Validation error detached from the validated file, which is referenced by {@code null} so a
+   * cached result can be reused for the same content found at another location.
+   */
+  @Data
+  @NoArgsConstructor
+  static class CachedError {
+
+    private RegulationFileType regulationFileType;
+    private String regulationFile;
+    private String errorMessage;
+    private String originalCauseMessage;
+
+    static CachedError of(ValidationError error, File validatedFile) {
+      var cachedError = new CachedError();
+      cachedError.setRegulationFileType(error.getRegulationFileType());
+      cachedError.setRegulationFile(
+          validatedFile.equals(error.getRegulationFile()) || error.getRegulationFile() == null
+              ? null : error.getRegulationFile().getPath());
+      cachedError.setErrorMessage(error.getErrorMessage());
+      cachedError.setOriginalCauseMessage(error.getOriginalCauseMessage());
+      return cachedError;
+    }
+
+    ValidationError toValidationError(File validatedFile) {
+      return ValidationError.builder()
+          .regulationFileType(regulationFileType)
+          .regulationFile(regulationFile == null ? validatedFile : new File(regulationFile))
+          .errorMessage(errorMessage)
+          .originalCauseMessage(originalCauseMessage)
+          .build();
+    }
+  }
+}
@@ -17,6 +17,8 @@
 package com.epam.digital.data.platform.registry.regulation.validation.cli.command;
 
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import java.io.File;
 import lombok.Data;
 
 /**
@@ -52,4 +54,29 @@ public class CommandParameters {
    * the application's requirements.
    */
   private CommandFileOption option;
+
+  /**
+   * The number of threads used by the command to process regulation files concurrently. Defaults to
+   * the number of available processors.
+   */
+  private int parallelism = ValidationExecutor.defaultParallelism();
+
+  /**
+   * The directory where validation results of regulation files are cached between command runs.
+   * Caching is disabled when no directory is specified.
+   */
+  private File cacheDirectory;
+
+  /**
+   * Whether only the regulation files changed since the last successful validation, and the
+   * validations depending on them, are validated. The state of the last successful validation is
+   * kept in the cache directory.
+   */
+  private boolean incremental;
+
+  /**
+   * Whether the regulation files are watched and re-validated on every change until the command
+   * is interrupted.
+   */
+  private boolean watch;
 }
@@ -42,6 +42,18 @@ public enum Commands {
    */
   VALIDATE("validate"),
 
+  /**
+   * The "daemon" command, which keeps the application running and executes the commands forwarded
+   * by clients, so they do not pay the application startup time.
+   */
+  DAEMON("daemon"),
+
+  /**
+   * The "client" command, which forwards the rest of the command line to a running daemon without
+   * starting the application.
+   */
+  CLIENT("client"),
+
   /**
    * The "help" command, which provides information and guidance about available commands and their
    * usage.
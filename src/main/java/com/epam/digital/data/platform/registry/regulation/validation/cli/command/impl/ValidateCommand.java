@@ -18,9 +18,22 @@ package com.epam.digital.data.platform.registry.regulation.validation.cli.comman
 
 import com.epam.digital.data.platform.registry.regulation.validation.cli.command.Command;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.command.CommandParameters;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.incremental.ValidationState;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.incremental.ValidationStateRepository;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.SystemExit;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationFilesValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidatorFactory;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationStageId;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.watch.RegulationFilesWatcher;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,7 +43,17 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>When executed, this command validates a collection of registry regulation files, checking
  * them for compliance with predefined rules and expectations. The validation process is performed
- * using a validator obtained from the {@link RegulationValidatorFactory}.
+ * using a validator obtained from the {@link RegulationValidatorFactory}. Regulation files are
+ * validated concurrently by a {@link ValidationExecutor} sized by the command parallelism, and
+ * validation results of unchanged files are reused when a cache directory is specified.
+ *
+ * <p>In incremental mode only the regulation files changed since the last successful validation
+ * and the validations depending on them are validated. The checksums of the last successfully
+ * validated regulation files are kept in the cache directory.
+ *
+ * <p>In watch mode the regulation files are validated once and then watched for changes until the
+ * command is interrupted. After every change only the changed regulation files and the
+ * validations depending on them are re-validated, and the updated errors are logged.
  *
  * <p>If there are no registry regulation files to validate, the command will log an informative
  * message and exit without performing any validation.
@@ -49,6 +72,8 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ValidateCommand implements Command {
 
+  static final File DEFAULT_CACHE_DIRECTORY = new File(".registry-regulation-cache");
+
   private final RegulationValidatorFactory registryRegulationValidatorFactory;
   private final SystemExit systemExit;
 
@@ -60,20 +85,115 @@ public class ValidateCommand implements Command {
       this.systemExit.complete();
       return;
     }
-    var regulationFilesValidator = registryRegulationValidatorFactory.newRegulationFilesValidator();
+    log.info("Starting registry regulation validation with parallelism {}...",
+        parameters.getParallelism());
+
+    Set<ValidationError> errors;
+    try (var validationExecutor = ValidationExecutor.of(parameters.getParallelism())) {
+      var regulationFilesValidator =
+          registryRegulationValidatorFactory.newRegulationFilesValidator(validationExecutor,
+              parameters.getCacheDirectory());
+      if (parameters.isWatch()) {
+        watch(regulationFilesValidator, parameters);
+        return;
+      }
+      errors = parameters.isIncremental()
+          ? validateIncrementally(regulationFilesValidator, parameters)
+          : regulationFilesValidator.validate(regulationFiles, ValidationContext.empty());
+    }
+
+    report(errors);
+  }
 
-    log.info("Starting registry regulation validation...");
+  private Set<ValidationError> validateIncrementally(
+      RegulationFilesValidator regulationFilesValidator, CommandParameters parameters) {
+    var regulationFiles = parameters.getRegulationFiles();
+    var validatorChainVersion = registryRegulationValidatorFactory.getValidatorChainVersion();
+    if (Objects.isNull(validatorChainVersion)) {
+      log.warn("Cannot identify the validator build, validating all registry regulation files...");
+      return regulationFilesValidator.validate(regulationFiles, ValidationContext.empty());
+    }
+    var validationStateRepository = new ValidationStateRepository(
+        Objects.requireNonNullElse(parameters.getCacheDirectory(), DEFAULT_CACHE_DIRECTORY));
+    var validationState = ValidationState.of(regulationFiles, validatorChainVersion);
 
-    var errors = regulationFilesValidator.validate(regulationFiles, ValidationContext.empty());
+    Set<ValidationError> errors;
+    var lastValidationState = validationStateRepository.find();
+    if (lastValidationState.isPresent()) {
+      var changes = validationState.changesSince(lastValidationState.get());
+      log.info("Registry regulation file types changed since the last successful validation: {}",
+          changes.getChangedTypes());
+      errors = regulationFilesValidator.validateChanges(regulationFiles, changes);
+    } else {
+      log.info("No successful validation found, validating all registry regulation files...");
+      errors = regulationFilesValidator.validate(regulationFiles, ValidationContext.empty());
+    }
 
+    if (errors.isEmpty()) {
+      validationStateRepository.save(validationState);
+    }
+    return errors;
+  }
+
+  private void watch(RegulationFilesValidator regulationFilesValidator,
+      CommandParameters parameters) {
+    var regulationFiles = parameters.getRegulationFiles();
+    var validatorChainVersion = registryRegulationValidatorFactory.getValidatorChainVersion();
+    try (var watcher = RegulationFilesWatcher.of(regulationFiles,
+        RegulationFilesWatcher.DEFAULT_DEBOUNCE)) {
+      var validationState = ValidationState.of(regulationFiles, validatorChainVersion);
+      var stageErrors = regulationFilesValidator.validateStages(regulationFiles);
+      logErrors(stageErrors);
+      while (true) {
+        log.info("Watching registry regulation files for changes...");
+        watcher.awaitChanges();
+        try {
+          var currentValidationState = ValidationState.of(regulationFiles, validatorChainVersion);
+          var changes = currentValidationState.changesSince(validationState);
+          if (changes.isEmpty()) {
+            continue;
+          }
+          log.info("Registry regulation files changed: {}", changes.getChangedFiles());
+          regulationFilesValidator.invalidateRegulationIndex();
+          stageErrors = regulationFilesValidator.revalidateStages(regulationFiles, changes,
+              stageErrors);
+          validationState = currentValidationState;
+          logErrors(stageErrors);
+        } catch (RuntimeException e) {
+          log.error("Registry regulation re-validation failed, waiting for further changes", e);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      systemExit.complete();
+    } catch (IOException e) {
+      log.error("Cannot watch registry regulation files", e);
+      systemExit.systemError();
+    }
+  }
+
+  private void logErrors(Map<ValidationStageId, Set<ValidationError>> stageErrors) {
+    var errors = new LinkedHashSet<ValidationError>();
+    stageErrors.values().forEach(errors::addAll);
+    logErrors(errors);
+  }
+
+  private void logErrors(Set<ValidationError> errors) {
     if (errors.isEmpty()) {
       log.info("Registry regulation validation passed successfully.");
-      this.systemExit.complete();
       return;
     }
 
     log.error("Registry validation failed due to:");
     errors.forEach(error -> log.error(error.toString()));
+  }
+
+  private void report(Set<ValidationError> errors) {
+    logErrors(errors);
+    if (errors.isEmpty()) {
+      this.systemExit.complete();
+      return;
+    }
 
     systemExit.validationFailure();
   }
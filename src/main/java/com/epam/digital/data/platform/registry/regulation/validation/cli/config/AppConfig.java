@@ -16,8 +16,6 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.config;
 
-import com.deliveredtechnologies.rulebook.model.RuleBook;
-import com.deliveredtechnologies.rulebook.spring.SpringAwareRuleBookRunner;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.RegistryRegulationCommandLineRunner;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.command.CommandManager;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.service.OpenShiftService;
@@ -26,14 +24,14 @@ import com.epam.digital.data.platform.registry.regulation.validation.cli.support
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.CommandLineOptionsConverter;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.SystemExit;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidatorFactory;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.DatafactorySettingsRulesRegistry;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationRuleSet;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.MainLiquibaseRulesRegistry;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
-import com.google.common.collect.Sets;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.openshift.client.OpenShiftConfigBuilder;
-import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
@@ -87,7 +85,7 @@ public class AppConfig {
   public RegulationValidatorFactory registryRegulationValidatorFactory(
       ResourceLoader resourceLoader, JsonMapper jsonMapper) {
     return new RegulationValidatorFactory(resourceLoader, yamlObjectMapper(), jsonMapper,
-        datafactorySettingsYamlRuleBook(), mainLiquibaseRuleBook());
+        datafactorySettingsYamlRuleSet(), mainLiquibaseRuleSet());
   }
 
   @Bean
@@ -101,22 +99,12 @@ public class AppConfig {
   }
 
   @Bean
-  public RuleBook<Set<ValidationError>> datafactorySettingsYamlRuleBook() {
-    return getRuleBookRunner(
-        "com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules");
+  public ValidationRuleSet datafactorySettingsYamlRuleSet() {
+    return ValidationRuleSet.of(DatafactorySettingsRulesRegistry::ruleClasses);
   }
 
   @Bean
-  public RuleBook<Set<ValidationError>> mainLiquibaseRuleBook() {
-    return getRuleBookRunner(
-        "com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.rules");
-  }
-
-  @SuppressWarnings("unchecked")
-  private RuleBook<Set<ValidationError>> getRuleBookRunner(String rulePackage) {
-    var springAwareRuleBookRunner = new SpringAwareRuleBookRunner(rulePackage);
-
-    springAwareRuleBookRunner.setDefaultResult(Sets.newHashSet());
-    return springAwareRuleBookRunner;
+  public ValidationRuleSet mainLiquibaseRuleSet() {
+    return ValidationRuleSet.of(MainLiquibaseRulesRegistry::ruleClasses);
   }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.daemon;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.support.CommandLineArg;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.support.SystemExit;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * Thin client forwarding a command line to a running {@link ValidationDaemon} and streaming back
+ * its output. It is run without starting the application context:
+ *
+ * <pre>
+ * java -jar registry-regulations-cli.jar client [--port=&lt;arg&gt;] validate --bpmn-files=...
+ * </pre>
+ *
+ * <p>The port option may be given anywhere in the command line and is never forwarded. The client
+ * terminates with the exit code of the forwarded command, or with the system error exit code if
+ * the port is malformed or the daemon is not reachable. The client authenticates with the
+ * {@link DaemonToken} the daemon stored for the port, so it has to be run by the same user as the
+ * daemon.
+ */
+public class DaemonClient {
+
+  private static final String PORT_PREFIX = "--" + CommandLineArg.PORT.getArgOptionName() + "=";
+  private static final int MAX_PORT = 65535;
+  private static final String USAGE = "Usage: client [--port=<arg>] <command> [<options>]";
+
+  private final int port;
+  private final Path tokenFile;
+
+  public DaemonClient(int port) {
+    this(port, DaemonToken.defaultDirectory());
+  }
+
+  DaemonClient(int port, Path tokenDirectory) {
+    this.port = port;
+    this.tokenFile = DaemonToken.file(tokenDirectory, port);
+  }
+
+  /**
+   * Runs the client for the arguments the application was started with, starting with the client
+   * command name.
+   *
+   * @return the exit code of the forwarded command
+   */
+  public static int run(String... args) {
+    var forwardedArgs = new ArrayList<String>();
+    var portValues = new ArrayList<String>();
+    for (var arg : Arrays.asList(args).subList(1, args.length)) {
+      if (arg.startsWith(PORT_PREFIX)) {
+        portValues.add(arg.substring(PORT_PREFIX.length()));
+      } else {
+        forwardedArgs.add(arg);
+      }
+    }
+    var port = ValidationDaemon.DEFAULT_PORT;
+    if (portValues.size() > 1) {
+      return usageError("Port must be given once, but was given " + portValues);
+    }
+    if (!portValues.isEmpty()) {
+      port = NumberUtils.toInt(portValues.get(0), -1);
+      if (port < 1 || port > MAX_PORT) {
+        return usageError("Port must be an integer between 1 and " + MAX_PORT + ", but was "
+            + portValues.get(0));
+      }
+    }
+    return new DaemonClient(port)
+        .execute(new File("").getAbsoluteFile(), forwardedArgs, System.out);
+  }
+
+  private static int usageError(String message) {
+    System.err.println("Parsing failure: " + message);
+    System.err.println(USAGE);
+    return SystemExit.SYSTEM_ERROR_EXIT_CODE;
+  }
+
+  public int execute(File workingDirectory, List<String> args, OutputStream output) {
+    try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      var token = DaemonToken.read(tokenFile);
+      DaemonProtocol.writeRequest(out, token, DaemonRequest.of(workingDirectory, args));
+      var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      return DaemonProtocol.readResponse(in, output);
+    } catch (ConnectException e) {
+      System.err.println("No validation daemon is listening on port " + port);
+      return SystemExit.SYSTEM_ERROR_EXIT_CODE;
+    } catch (NoSuchFileException e) {
+      System.err.println("No validation daemon token found in " + tokenFile);
+      return SystemExit.SYSTEM_ERROR_EXIT_CODE;
+    } catch (IOException e) {
+      System.err.println("Validation daemon communication failure: " + e.getMessage());
+      return SystemExit.SYSTEM_ERROR_EXIT_CODE;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.daemon;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.OutputStreamAppender;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * Copies everything a command logs or prints to the standard streams to the output of a daemon
+ * request, until closed.
+ *
+ * <p>The log appender is attached to the root logger and standard streams are process wide, so
+ * only one request may be captured at a time.
+ */
+class DaemonOutputCapture implements AutoCloseable {
+
+  private static final String APPENDER_NAME = "daemon-client";
+  private static final String LOG_PATTERN = "%d{HH:mm:ss.SSS} [%t] %-5level %logger{36} - %msg%n";
+
+  private final LoggerContext loggerContext;
+  private final OutputStreamAppender appender;
+  private final PrintStream originalOut;
+  private final PrintStream originalErr;
+
+  private DaemonOutputCapture(OutputStream output) {
+    this.loggerContext = (LoggerContext) LogManager.getContext(false);
+    this.appender = OutputStreamAppender.newBuilder()
+        .setName(APPENDER_NAME)
+        .setTarget(output)
+        .setLayout(PatternLayout.newBuilder()
+            .withPattern(LOG_PATTERN)
+            .withConfiguration(loggerContext.getConfiguration())
+            .build())
+        .build();
+    this.originalOut = System.out;
+    this.originalErr = System.err;
+  }
+
+  static DaemonOutputCapture start(OutputStream output) {
+    var capture = new DaemonOutputCapture(output);
+    capture.appender.start();
+    capture.loggerContext.getConfiguration().getRootLogger()
+        .addAppender(capture.appender, Level.ALL, null);
+    capture.loggerContext.updateLoggers();
+
+    var printStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+    System.setOut(printStream);
+    System.setErr(printStream);
+    return capture;
+  }
+
+  @Override
+  public void close() {
+    System.out.flush();
+    System.setOut(originalOut);
+    System.setErr(originalErr);
+
+    loggerContext.getConfiguration().getRootLogger().removeAppender(APPENDER_NAME);
+    loggerContext.updateLoggers();
+    appender.stop();
+  }
+}
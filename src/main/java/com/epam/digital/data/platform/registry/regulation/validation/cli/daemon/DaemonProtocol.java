@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * Wire format spoken between {@link DaemonClient} and {@link ValidationDaemon}.
+ *
+ * <p>The client sends a single request: the {@link DaemonToken}, its working directory and the
+ * command line arguments. Request fields are bounded, so a malformed request is rejected before the
+ * daemon allocates anything for it. The daemon answers with a sequence of frames, each starting with a frame type byte:
+ * output frames carry a chunk of the command output and the final exit frame carries the exit code
+ * of the command.
+ */
+final class DaemonProtocol {
+
+  private static final byte OUTPUT_FRAME = 'O';
+  private static final byte EXIT_FRAME = 'X';
+  private static final int MAX_ARG_COUNT = 1024;
+  private static final int MAX_STRING_LENGTH = 64 * 1024;
+  private static final int MAX_OUTPUT_FRAME_LENGTH = 16 * 1024 * 1024;
+
+  private DaemonProtocol() {
+  }
+
+  static void writeRequest(DataOutputStream out, DaemonToken token, DaemonRequest request)
+      throws IOException {
+    var tokenValue = token.getValue();
+    out.writeInt(tokenValue.length);
+    out.write(tokenValue);
+    writeString(out, request.getWorkingDirectory().getPath());
+    out.writeInt(request.getArgs().size());
+    for (var arg : request.getArgs()) {
+      writeString(out, arg);
+    }
+    out.flush();
+  }
+
+  static DaemonToken readToken(DataInputStream in) throws IOException {
+    return DaemonToken.of(readBytes(in, DaemonToken.MAX_LENGTH));
+  }
+
+  static DaemonRequest readRequest(DataInputStream in) throws IOException {
+    var workingDirectory = new File(readString(in));
+    var argCount = readLength(in, MAX_ARG_COUNT);
+    var args = new ArrayList<String>(argCount);
+    for (var i = 0; i < argCount; i++) {
+      args.add(readString(in));
+    }
+    return DaemonRequest.of(workingDirectory, args);
+  }
+
+  static void writeOutput(DataOutputStream out, byte[] buffer, int offset, int length)
+      throws IOException {
+    out.writeByte(OUTPUT_FRAME);
+    out.writeInt(length);
+    out.write(buffer, offset, length);
+    out.flush();
+  }
+
+  static void writeExitCode(DataOutputStream out, int exitCode) throws IOException {
+    out.writeByte(EXIT_FRAME);
+    out.writeInt(exitCode);
+    out.flush();
+  }
+
+  /**
+   * Copies the output frames to the given stream until the exit frame is received.
+   *
+   * @return the exit code of the command
+   */
+  static int readResponse(DataInputStream in, OutputStream output) throws IOException {
+    while (true) {
+      var frameType = in.readByte();
+      if (frameType == EXIT_FRAME) {
+        return in.readInt();
+      }
+      if (frameType != OUTPUT_FRAME) {
+        throw new IOException("Unexpected daemon response frame " + frameType);
+      }
+      output.write(readBytes(in, MAX_OUTPUT_FRAME_LENGTH));
+      output.flush();
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    return new String(readBytes(in, MAX_STRING_LENGTH), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] readBytes(DataInputStream in, int maxLength) throws IOException {
+    var bytes = new byte[readLength(in, maxLength)];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private static int readLength(DataInputStream in, int maxLength) throws IOException {
+    var length = in.readInt();
+    if (length < 0 || length > maxLength) {
+      throw new IOException("Malformed daemon frame: length " + length + " is out of range [0, "
+          + maxLength + "]");
+    }
+    return length;
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.daemon;
+
+import com.google.common.io.BaseEncoding;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Set;
+
+/**
+ * Shared secret a {@link DaemonClient} has to present to the {@link ValidationDaemon}. The daemon
+ * generates a new token once it is bound to its port and stores it in a file of that port, only
+ * readable by the user running it, so other local users cannot forward commands to the daemon and
+ * daemons listening on different ports do not replace the tokens of each other.
+ */
+final class DaemonToken {
+
+  static final int MAX_LENGTH = 256;
+
+  private static final int TOKEN_BYTES = 32;
+  private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY =
+      PosixFilePermissions.fromString("rwx------");
+  private static final Set<PosixFilePermission> OWNER_ONLY_FILE =
+      PosixFilePermissions.fromString("rw-------");
+
+  private final byte[] value;
+
+  private DaemonToken(byte[] value) {
+    this.value = value;
+  }
+
+  /**
+   * @return the token directory used unless another one is given, placed in the user home
+   * directory
+   */
+  static Path defaultDirectory() {
+    return Path.of(System.getProperty("user.home"), ".registry-regulations-cli");
+  }
+
+  /**
+   * @return the file of the given directory holding the token of the daemon listening on the
+   * given port
+   */
+  static Path file(Path directory, int port) {
+    return directory.resolve("daemon-" + port + ".token");
+  }
+
+  /**
+   * Generates a new random token and writes it to the given file, readable by its owner only.
+   */
+  static DaemonToken generate(Path file) throws IOException {
+    var random = new byte[TOKEN_BYTES];
+    new SecureRandom().nextBytes(random);
+    var token = new DaemonToken(BaseEncoding.base16().lowerCase().encode(random).getBytes(StandardCharsets.US_ASCII));
+
+    var directory = file.toAbsolutePath().getParent();
+    var posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    if (posix) {
+      Files.createDirectories(directory,
+          PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+    } else {
+      Files.createDirectories(directory);
+    }
+    var tempFile = posix
+        ? Files.createTempFile(directory, file.getFileName().toString(), ".tmp",
+        PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE))
+        : Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      Files.write(tempFile, token.value);
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+    return token;
+  }
+
+  /**
+   * Reads the token the daemon stored in the given file.
+   */
+  static DaemonToken read(Path file) throws IOException {
+    if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")
+        && !OWNER_ONLY_FILE.containsAll(Files.getPosixFilePermissions(file))) {
+      throw new IOException("Daemon token file " + file + " must be readable by its owner only");
+    }
+    return of(Files.readAllBytes(file));
+  }
+
+  /**
+   * Deletes the given token file unless it holds another token, for instance the one of a daemon
+   * started on the same port after this one stopped listening.
+   */
+  void deleteIfStoredIn(Path file) throws IOException {
+    try {
+      if (MessageDigest.isEqual(value, Files.readAllBytes(file))) {
+        Files.deleteIfExists(file);
+      }
+    } catch (NoSuchFileException e) {
+      // already deleted
+    }
+  }
+
+  static DaemonToken of(byte[] value) {
+    return new DaemonToken(value.clone());
+  }
+
+  byte[] getValue() {
+    return value.clone();
+  }
+
+  boolean matches(DaemonToken other) {
+    return MessageDigest.isEqual(value, other.value);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.daemon;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.support.SystemExit;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Long-running server that executes command lines forwarded by {@link DaemonClient} in an
+ * already started application, so the clients do not pay the application startup time.
+ *
+ * <p>The daemon listens on the loopback interface only and executes requests of clients presenting
+ * the {@link DaemonToken} it stored for its port once bound. A client failing to send its request within the
+ * request timeout or sending a malformed one is disconnected without affecting other clients.
+ * Requests are executed one at a time, as
+ * the output of a request is captured process wide by {@link DaemonOutputCapture}.
+ */
+@Slf4j
+public class ValidationDaemon implements Closeable {
+
+  public static final int DEFAULT_PORT = 7070;
+  private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  private final int port;
+  private final Path tokenDirectory;
+  private final Duration requestTimeout;
+  private final DaemonRequestHandler requestHandler;
+  private DaemonToken token;
+  private Path tokenFile;
+  private ServerSocket serverSocket;
+
+  public ValidationDaemon(int port, DaemonRequestHandler requestHandler) {
+    this(port, DaemonToken.defaultDirectory(), DEFAULT_REQUEST_TIMEOUT, requestHandler);
+  }
+
+  ValidationDaemon(int port, Path tokenDirectory, Duration requestTimeout,
+      DaemonRequestHandler requestHandler) {
+    this.port = port;
+    this.tokenDirectory = tokenDirectory;
+    this.requestTimeout = requestTimeout;
+    this.requestHandler = requestHandler;
+  }
+
+  /**
+   * Binds the daemon to its port and stores the token of the bound port, so a daemon failing to
+   * bind a busy port leaves the token of the daemon listening on it intact.
+   *
+   * @return the bound port, which differs from the requested one if port 0 was requested
+   */
+  public int start() throws IOException {
+    serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    var boundPort = serverSocket.getLocalPort();
+    tokenFile = DaemonToken.file(tokenDirectory, boundPort);
+    token = DaemonToken.generate(tokenFile);
+    log.info("Validation daemon is listening on port {}", boundPort);
+    return boundPort;
+  }
+
+  /**
+   * Serves client requests until the daemon is closed.
+   */
+  public void serve() {
+    while (!serverSocket.isClosed()) {
+      try (var socket = serverSocket.accept()) {
+        serve(socket);
+      } catch (SocketException e) {
+        if (!serverSocket.isClosed()) {
+          log.warn("Daemon client connection failed", e);
+        }
+      } catch (IOException | RuntimeException e) {
+        log.warn("Daemon client connection failed", e);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (serverSocket != null) {
+      serverSocket.close();
+    }
+    if (token != null) {
+      token.deleteIfStoredIn(tokenFile);
+    }
+  }
+
+  private void serve(Socket socket) throws IOException {
+    var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    socket.setSoTimeout(Math.toIntExact(requestTimeout.toMillis()));
+    if (!token.matches(DaemonProtocol.readToken(in))) {
+      throw new IOException("Daemon client presented an invalid token");
+    }
+    var request = DaemonProtocol.readRequest(in);
+    log.info("Executing daemon client request {}", request.getArgs());
+
+    int exitCode;
+    try (var ignored = DaemonOutputCapture.start(new OutputFrameStream(out))) {
+      exitCode = handle(request);
+    }
+    DaemonProtocol.writeExitCode(out, exitCode);
+  }
+
+  private int handle(DaemonRequest request) {
+    try {
+      return requestHandler.handle(request);
+    } catch (RuntimeException e) {
+      log.error("Daemon client request failed", e);
+      return SystemExit.SYSTEM_ERROR_EXIT_CODE;
+    }
+  }
+
+  /**
+   * Sends everything written to it as output frames. Log events are written from the threads
+   * validating regulation files concurrently, so writes are serialized.
+   */
+  private static class OutputFrameStream extends OutputStream {
+
+    private final DataOutputStream out;
+
+    OutputFrameStream(DataOutputStream out) {
+      this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] buffer, int offset, int length) throws IOException {
+      DaemonProtocol.writeOutput(out, buffer, offset, length);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.incremental;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import java.io.File;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Regulation files added or modified since the last successful validation, together with the
+ * regulation file types whose collections changed in any way, including removed files.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RegulationFileChanges {
+
+  private final Set<RegulationFileType> changedTypes;
+  private final Set<File> changedFiles;
+
+  public static RegulationFileChanges of(Set<RegulationFileType> changedTypes,
+      Set<File> changedFiles) {
+    return new RegulationFileChanges(Set.copyOf(changedTypes), Set.copyOf(changedFiles));
+  }
+
+  public boolean isEmpty() {
+    return changedTypes.isEmpty();
+  }
+
+  public boolean isChanged(File file) {
+    return changedFiles.contains(file.getAbsoluteFile());
+  }
+}
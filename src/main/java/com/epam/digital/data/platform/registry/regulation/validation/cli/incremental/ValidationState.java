@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.incremental;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.FileChecksumGenerator;
+import java.io.File;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Checksums of the regulation files of a validation run, grouped by regulation file type and keyed
+ * by absolute file path. Directories are represented by a single checksum of their content.
+ *
+ * <p>The Liquibase changelog is represented by the checksum of its whole directory, so changes to
+ * the included changelogs are detected as well.
+ */
+@Data
+@NoArgsConstructor
+public class ValidationState {
+
+  private String validatorChainVersion;
+  private Map<RegulationFileType, Map<String, String>> checksums =
+      new EnumMap<>(RegulationFileType.class);
+
+  public static ValidationState of(RegulationFiles regulationFiles,
+      String validatorChainVersion) {
+    var state = new ValidationState();
+    state.setValidatorChainVersion(validatorChainVersion);
+    for (var regulationFileType : RegulationFileType.values()) {
+      var files = regulationFiles.getRegulationFiles(regulationFileType);
+      if (files.isEmpty()) {
+        continue;
+      }
+      var typeChecksums = new TreeMap<String, String>();
+      for (var file : files) {
+        var absoluteFile = file.getAbsoluteFile();
+        var checksumSource = regulationFileType == RegulationFileType.LIQUIBASE
+            && absoluteFile.isFile() ? absoluteFile.getParentFile() : absoluteFile;
+        FileChecksumGenerator.generateFilesChecksum(List.of(checksumSource)).values()
+            .forEach(checksum -> typeChecksums.put(absoluteFile.getPath(), checksum));
+      }
+      state.getChecksums().put(regulationFileType, typeChecksums);
+    }
+    return state;
+  }
+
+  /**
+   * Compares the state with the state of a previous run. Every file is reported as changed if the
+   * previous run used another validator chain version.
+   */
+  public RegulationFileChanges changesSince(ValidationState previous) {
+    var changedTypes = EnumSet.noneOf(RegulationFileType.class);
+    var changedFiles = new HashSet<File>();
+    var sameValidatorChain = Objects.equals(validatorChainVersion,
+        previous.getValidatorChainVersion());
+    for (var regulationFileType : RegulationFileType.values()) {
+      var current = checksums.getOrDefault(regulationFileType, Map.of());
+      var last = sameValidatorChain
+          ? previous.getChecksums().getOrDefault(regulationFileType, Map.of()) : Map.of();
+      if (current.equals(last)) {
+        continue;
+      }
+      changedTypes.add(regulationFileType);
+      current.forEach((path, checksum) -> {
+        if (!checksum.equals(last.get(path))) {
+          changedFiles.add(new File(path));
+        }
+      });
+    }
+    return RegulationFileChanges.of(changedTypes, changedFiles);
+  }
+}
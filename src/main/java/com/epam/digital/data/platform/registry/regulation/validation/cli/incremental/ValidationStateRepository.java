@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.incremental;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.AtomicFileWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores the {@link ValidationState} of the last successful validation run in a directory shared
+ * by consecutive runs. A missing or unreadable state is reported as absent, so the next run
+ * validates all regulation files.
+ */
+@Slf4j
+public class ValidationStateRepository {
+
+  static final String STATE_FILE_NAME = "last-successful-validation.json";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final File stateFile;
+
+  public ValidationStateRepository(File directory) {
+    this.stateFile = new File(directory, STATE_FILE_NAME);
+  }
+
+  public Optional<ValidationState> find() {
+    if (!stateFile.isFile()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(objectMapper.readValue(stateFile, ValidationState.class));
+    } catch (IOException e) {
+      log.warn("Ignoring unreadable validation state {}", stateFile, e);
+      return Optional.empty();
+    }
+  }
+
+  public void save(ValidationState validationState) {
+    try {
+      AtomicFileWriter.write(stateFile.toPath(), objectMapper.writeValueAsBytes(validationState));
+    } catch (IOException e) {
+      log.warn("Failed to store validation state {}", stateFile, e);
+    }
+  }
+}
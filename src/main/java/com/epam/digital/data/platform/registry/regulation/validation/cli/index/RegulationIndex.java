@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.registry.regulation.validation.cli.index;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.exception.FileProcessingException;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSetMultimap;
+import java.io.File;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Immutable symbol tables of a regulation, built once per validation run by
+ * {@link RegulationIndexer} and queried by the cross-reference validators.
+ *
+ * <p>Files that could not be read while indexing are kept as failures of the symbol kind they
+ * were read for, so each validator can report them the way it used to.
+ *
+ * <p>Symbol kinds registered {@link Builder#onDemand(Set, Supplier) on demand} are only scanned
+ * when a validator asks for one of them for the first time.
+ */
+public final class RegulationIndex {
+
+  private final Map<SymbolKind, SymbolTable> symbolTables;
+  private final ImmutableListMultimap<SymbolKind, FileProcessingException> failures;
+  private final Map<SymbolKind, Supplier<RegulationIndex>> onDemandIndexes;
+
+  private RegulationIndex(Map<SymbolKind, SymbolTable> symbolTables,
+      ImmutableListMultimap<SymbolKind, FileProcessingException> failures,
+      Map<SymbolKind, Supplier<RegulationIndex>> onDemandIndexes) {
+    this.symbolTables = symbolTables;
+    this.failures = failures;
+    this.onDemandIndexes = onDemandIndexes;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public SymbolTable get(SymbolKind kind) {
+    var onDemandIndex = onDemandIndexes.get(kind);
+    if (Objects.nonNull(onDemandIndex)) {
+      return onDemandIndex.get().get(kind);
+    }
+    return symbolTables.getOrDefault(kind, SymbolTable.empty());
+  }
+
+  public List<FileProcessingException> getFailures(SymbolKind kind) {
+    var onDemandIndex = onDemandIndexes.get(kind);
+    if (Objects.nonNull(onDemandIndex)) {
+      return onDemandIndex.get().getFailures(kind);
+    }
+    return failures.get(kind);
+  }
+
+  /**
+   * Tells whether every file was read while indexing the symbols of the given kind. When it was
+   * not, a name missing from the symbol table may still be defined in an unreadable file, so
+   * validators do not report it as missing.
+   */
+  public boolean isComplete(SymbolKind kind) {
+    return getFailures(kind).isEmpty();
+  }
+
+  public static final class Builder {
+
+    private final Map<SymbolKind, ImmutableSetMultimap.Builder<String, File>> symbols =
+        new EnumMap<>(SymbolKind.class);
+    private final ImmutableListMultimap.Builder<SymbolKind, FileProcessingException> failures =
+        ImmutableListMultimap.builder();
+    private final Map<SymbolKind, Supplier<RegulationIndex>> onDemandIndexes =
+        new EnumMap<>(SymbolKind.class);
+
+    private Builder() {
+    }
+
+    public Builder symbol(SymbolKind kind, String name, File file) {
+      if (name != null) {
+        symbols.computeIfAbsent(kind, key -> ImmutableSetMultimap.builder()).put(name, file);
+      }
+      return this;
+    }
+
+    public Builder failure(SymbolKind kind, FileProcessingException failure) {
+      failures.put(kind, failure);
+      return this;
+    }
+
+    /**
+     * Registers the index of the given symbol kinds, built by the given scan when any of them is
+     * asked for the first time. The scan is run at most once.
+     */
+    public Builder onDemand(Set<SymbolKind> kinds, Supplier<RegulationIndex> scan) {
+      var index = Suppliers.memoize(scan::get);
+      kinds.forEach(kind -> onDemandIndexes.put(kind, index));
+      return this;
+    }
+
+    public RegulationIndex build() {
+      var symbolTables = new EnumMap<SymbolKind, SymbolTable>(SymbolKind.class);
+      symbols.forEach((kind, names) -> symbolTables.put(kind, new SymbolTable(names.build())));
+      return new RegulationIndex(symbolTables, failures.build(),
+          new EnumMap<>(onDemandIndexes));
+    }
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.registry.regulation.validation.cli.index;
+
+import com.epam.digital.data.platform.liquibase.extension.change.core.DdmCreateCompositeEntityChange;
+import com.epam.digital.data.platform.liquibase.extension.change.core.DdmCreateSearchConditionChange;
+import com.epam.digital.data.platform.liquibase.extension.change.core.DdmCreateTableChange;
+import com.epam.digital.data.platform.liquibase.extension.change.core.DdmDropSearchConditionChange;
+import com.epam.digital.data.platform.liquibase.extension.change.core.DdmPartialUpdateChange;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.DmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.exception.FileProcessingException;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpRoleConfiguration;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpTrembitaExternalSystemsConfiguration;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import liquibase.change.Change;
+import liquibase.exception.LiquibaseException;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Builds the {@link RegulationIndex} of a regulation once per validation run, scanning every
+ * kind of regulation file in parallel, and hands the same index to all the validators asking for
+ * it. DMN decisions are only scanned when a validator asks for them, as parsing the DMN files is
+ * the most expensive scan and no global validation needs it for every run.
+ *
+ * <p>Indexes are kept per {@link RegulationFiles} instance and do not notice changes of the file
+ * contents, so a caller validating the same regulation files again after they changed, e.g. in
+ * watch mode, has to {@link #invalidate() invalidate} the indexes first.
+ */
+public class RegulationIndexer {
+
+  private final ObjectMapper yamlObjectMapper;
+  private final BpmnModelCache bpmnModelCache;
+  private final DmnModelCache dmnModelCache;
+  private final ChangeIndexCache changeIndexCache;
+  private final ValidationExecutor validationExecutor;
+  private final List<Function<RegulationFiles, Consumer<RegulationIndex.Builder>>> scanners;
+  private final Cache<RegulationFiles, RegulationIndex> indexes = CacheBuilder.newBuilder()
+      .weakKeys()
+      .build();
+
+  public RegulationIndexer(ObjectMapper yamlObjectMapper, BpmnModelCache bpmnModelCache,
+      ChangeIndexCache changeIndexCache, ValidationExecutor validationExecutor) {
+    this(yamlObjectMapper, bpmnModelCache, new DmnModelCache(), changeIndexCache,
+        validationExecutor);
+  }
+
+  public RegulationIndexer(ObjectMapper yamlObjectMapper, BpmnModelCache bpmnModelCache,
+      DmnModelCache dmnModelCache, ChangeIndexCache changeIndexCache,
+      ValidationExecutor validationExecutor) {
+    this.yamlObjectMapper = yamlObjectMapper;
+    this.bpmnModelCache = bpmnModelCache;
+    this.dmnModelCache = dmnModelCache;
+    this.changeIndexCache = changeIndexCache;
+    this.validationExecutor = validationExecutor;
+    this.scanners = List.of(
+        this::scanRoles,
+        this::scanProcessDefinitions,
+        this::scanDataModel,
+        this::scanExternalSystems,
+        this::scanDirectories
+    );
+  }
+
+  public RegulationIndex index(RegulationFiles regulationFiles) {
+    try {
+      return indexes.get(regulationFiles, () -> build(regulationFiles));
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Drops all the built indexes, so the next {@link #index(RegulationFiles)} scans the regulation
+   * files again.
+   */
+  public void invalidate() {
+    indexes.invalidateAll();
+  }
+
+  private RegulationIndex build(RegulationFiles regulationFiles) {
+    var builder = RegulationIndex.builder();
+    validationExecutor.map(scanners, scanner -> scanner.apply(regulationFiles))
+        .forEach(scan -> scan.accept(builder));
+    builder.onDemand(EnumSet.of(SymbolKind.DECISION_DEFINITION,
+        SymbolKind.DECISION_REQUIREMENTS_DEFINITION), () -> {
+      var decisionsBuilder = RegulationIndex.builder();
+      scanDecisions(regulationFiles).accept(decisionsBuilder);
+      return decisionsBuilder.build();
+    });
+    return builder.build();
+  }
+
+  private Consumer<RegulationIndex.Builder> scanRoles(RegulationFiles regulationFiles) {
+    var scans = validationExecutor.map(regulationFiles.getRolesFiles(), file -> {
+      try {
+        var roles = yamlObjectMapper.readValue(file, BpRoleConfiguration.class).getRoles();
+        var names = Objects.requireNonNullElse(roles, List.<BpRoleConfiguration.Role>of())
+            .stream()
+            .map(BpRoleConfiguration.Role::getName)
+            .collect(Collectors.toList());
+        return (Consumer<RegulationIndex.Builder>) builder ->
+            names.forEach(name -> builder.symbol(SymbolKind.ROLE, name, file));
+      } catch (IOException e) {
+        var failure = newFileProcessingException(file, e);
+        return (Consumer<RegulationIndex.Builder>) builder ->
+            builder.failure(SymbolKind.ROLE, failure);
+      }
+    });
+    return builder -> scans.forEach(scan -> scan.accept(builder));
+  }
+
+  private Consumer<RegulationIndex.Builder> scanProcessDefinitions(
+      RegulationFiles regulationFiles) {
+    var existingFiles = existingFiles(regulationFiles.getBpmnFiles());
+    var scans = validationExecutor.map(existingFiles, file -> {
+      try {
+        var processIds = bpmnModelCache.summary(file).getProcessDefinitionsId();
+        return (Consumer<RegulationIndex.Builder>) builder ->
+            processIds.forEach(id -> builder.symbol(SymbolKind.PROCESS_DEFINITION, id, file));
+      } catch (RuntimeException e) {
+        var failure = newFileProcessingException(file, e);
+        return (Consumer<RegulationIndex.Builder>) builder ->
+            builder.failure(SymbolKind.PROCESS_DEFINITION, failure);
+      }
+    });
+    return builder -> scans.forEach(scan -> scan.accept(builder));
+  }
+
+  private Consumer<RegulationIndex.Builder> scanDecisions(RegulationFiles regulationFiles) {
+    var existingFiles = existingFiles(regulationFiles.getDmnFiles());
+    var scans = validationExecutor.map(existingFiles, file -> {
+      try {
+        var summary = dmnModelCache.summary(file);
+        return (Consumer<RegulationIndex.Builder>) builder -> {
+          builder.symbol(SymbolKind.DECISION_REQUIREMENTS_DEFINITION,
+              summary.getDecisionRequirementsId(), file);
+          summary.getDecisionIds()
+              .forEach(id -> builder.symbol(SymbolKind.DECISION_DEFINITION, id, file));
+        };
+      } catch (RuntimeException e) {
+        var failure = newFileProcessingException(file, e);
+        return (Consumer<RegulationIndex.Builder>) builder -> {
+          builder.failure(SymbolKind.DECISION_DEFINITION, failure);
+          builder.failure(SymbolKind.DECISION_REQUIREMENTS_DEFINITION, failure);
+        };
+      }
+    });
+    return builder -> scans.forEach(scan -> scan.accept(builder));
+  }
+
+  private Consumer<RegulationIndex.Builder> scanDataModel(RegulationFiles regulationFiles) {
+    var liquibaseFiles = regulationFiles.getLiquibaseFiles();
+    if (liquibaseFiles.isEmpty()) {
+      return builder -> {
+      };
+    }
+    var mainLiquibase = liquibaseFiles.iterator().next();
+    try {
+      var changeIndex = changeIndexCache.get(mainLiquibase);
+      var lastSearchConditionChanges = new LinkedHashMap<String, Change>();
+      changeIndex.getChangesByTypes(DdmCreateSearchConditionChange.class,
+              DdmDropSearchConditionChange.class)
+          .forEach(change -> lastSearchConditionChanges.put(getSearchConditionName(change), change));
+      return builder -> {
+        changeIndex.getChangesByType(DdmCreateTableChange.class).forEach(change ->
+            builder.symbol(SymbolKind.TABLE, change.getTableName(), mainLiquibase));
+        changeIndex.getChangesByType(DdmCreateCompositeEntityChange.class).forEach(change ->
+            builder.symbol(SymbolKind.COMPOSITE_ENTITY, change.getName(), mainLiquibase));
+        changeIndex.getChangesByType(DdmPartialUpdateChange.class).forEach(change ->
+            builder.symbol(SymbolKind.PARTIAL_UPDATE, change.getName(), mainLiquibase));
+        lastSearchConditionChanges.forEach((name, change) -> {
+          if (change instanceof DdmCreateSearchConditionChange) {
+            builder.symbol(SymbolKind.SEARCH_CONDITION, name, mainLiquibase);
+          }
+        });
+      };
+    } catch (LiquibaseException e) {
+      var failure = newFileProcessingException(mainLiquibase, e);
+      return builder -> Stream.of(SymbolKind.TABLE, SymbolKind.COMPOSITE_ENTITY,
+              SymbolKind.PARTIAL_UPDATE, SymbolKind.SEARCH_CONDITION)
+          .forEach(kind -> builder.failure(kind, failure));
+    }
+  }
+
+  private Consumer<RegulationIndex.Builder> scanExternalSystems(RegulationFiles regulationFiles) {
+    var scans = validationExecutor.map(existingFiles(regulationFiles.getBpTrembitaConfig()), file -> {
+      try {
+        var externalSystems = yamlObjectMapper.readValue(file,
+            BpTrembitaExternalSystemsConfiguration.class).getExternalSystems();
+        return (Consumer<RegulationIndex.Builder>) builder ->
+            Objects.requireNonNullElse(externalSystems,
+                Map.<String, BpTrembitaExternalSystemsConfiguration.ExternalSystem>of())
+                .forEach((name, externalSystem) -> {
+                  builder.symbol(SymbolKind.EXTERNAL_SYSTEM, name, file);
+                  if (externalSystem != null && externalSystem.getOperations() != null) {
+                    externalSystem.getOperations().keySet().forEach(operation ->
+                        builder.symbol(SymbolKind.EXTERNAL_SYSTEM_OPERATION, operation, file));
+                  }
+                });
+      } catch (IOException e) {
+        var failure = newFileProcessingException(file, e);
+        return (Consumer<RegulationIndex.Builder>) builder -> {
+          builder.failure(SymbolKind.EXTERNAL_SYSTEM, failure);
+          builder.failure(SymbolKind.EXTERNAL_SYSTEM_OPERATION, failure);
+        };
+      }
+    });
+    return builder -> scans.forEach(scan -> scan.accept(builder));
+  }
+
+  private Consumer<RegulationIndex.Builder> scanDirectories(RegulationFiles regulationFiles) {
+    return builder -> {
+      listFiles(regulationFiles.getExcerptFiles(), file -> !file.isHidden())
+          .forEach(file -> builder.symbol(SymbolKind.EXCERPT, getExcerptName(file), file));
+      Stream.of(regulationFiles.getDiiaNotificationTemplateDirectory(),
+              regulationFiles.getEmailNotificationTemplateDirectory(),
+              regulationFiles.getInboxNotificationTemplateDirectory())
+          .flatMap(directories -> listFiles(directories, File::isDirectory))
+          .forEach(directory ->
+              builder.symbol(SymbolKind.NOTIFICATION_TEMPLATE, directory.getName(), directory));
+      regulationFiles.getFormFiles().forEach(file -> builder.symbol(SymbolKind.FORM,
+          FilenameUtils.removeExtension(file.getName()), file));
+    };
+  }
+
+  private String getExcerptName(File file) {
+    var name = file.isDirectory() ? file.getName() : FilenameUtils.getBaseName(file.getName());
+    return StringUtils.isNotBlank(name) ? name : null;
+  }
+
+  private String getSearchConditionName(Change change) {
+    return change instanceof DdmCreateSearchConditionChange
+        ? ((DdmCreateSearchConditionChange) change).getName()
+        : ((DdmDropSearchConditionChange) change).getName();
+  }
+
+  private Stream<File> listFiles(Collection<File> directories, FileFilter filter) {
+    return directories.stream()
+        .filter(File::isDirectory)
+        .flatMap(directory -> Arrays.stream(Objects.requireNonNull(directory.listFiles(filter))));
+  }
+
+  private List<File> existingFiles(Collection<File> files) {
+    return files.stream().filter(File::exists).collect(Collectors.toList());
+  }
+
+  private FileProcessingException newFileProcessingException(File file, Exception cause) {
+    return new FileProcessingException(
+        String.format("A failure occurred while processing file %s", file.getName()), file, cause);
+  }
+}
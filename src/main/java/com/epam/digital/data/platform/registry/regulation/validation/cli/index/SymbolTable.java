@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.registry.regulation.validation.cli.index;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import java.io.File;
+import java.util.Set;
+
+/**
+ * Immutable table of the names of one {@link SymbolKind} with the regulation files each name is
+ * defined in.
+ */
+public final class SymbolTable {
+
+  private static final SymbolTable EMPTY = new SymbolTable(ImmutableSetMultimap.of());
+
+  private final ImmutableSetMultimap<String, File> filesByName;
+  private final ImmutableSetMultimap<File, String> namesByFile;
+
+  SymbolTable(ImmutableSetMultimap<String, File> filesByName) {
+    this.filesByName = filesByName;
+    this.namesByFile = filesByName.inverse();
+  }
+
+  static SymbolTable empty() {
+    return EMPTY;
+  }
+
+  public boolean contains(String name) {
+    return filesByName.containsKey(name);
+  }
+
+  public Set<String> getNames() {
+    return filesByName.keySet();
+  }
+
+  public Set<File> getFiles(String name) {
+    return filesByName.get(name);
+  }
+
+  public Set<String> getNames(File file) {
+    return namesByFile.get(file);
+  }
+
+  public boolean isEmpty() {
+    return filesByName.isEmpty();
+  }
+}
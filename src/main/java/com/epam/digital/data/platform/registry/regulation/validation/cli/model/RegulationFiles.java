@@ -19,12 +19,16 @@ package com.epam.digital.data.platform.registry.regulation.validation.cli.model;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class RegulationFiles {
 
   @Default
@@ -91,4 +95,91 @@ public class RegulationFiles {
         && reportsFolders.isEmpty()
         && reportsFiles.isEmpty();
   }
+
+  /**
+   * Returns the files validated as the given regulation file type, or an empty collection for the
+   * types that are validated across several collections.
+   */
+  public Collection<File> getRegulationFiles(RegulationFileType regulationFileType) {
+    switch (regulationFileType) {
+      case BP_TREMBITA:
+        return bpTrembitaFiles;
+      case BP_TREMBITA_CONFIG:
+        return bpTrembitaConfig;
+      case GLOBAL_VARS:
+        return globalVarsFiles;
+      case BP_AUTH:
+        return bpAuthFiles;
+      case ROLES:
+        return rolesFiles;
+      case BPMN:
+        return bpmnFiles;
+      case DMN:
+        return dmnFiles;
+      case FORMS:
+        return formFiles;
+      case DATAFACTORY_SETTINGS:
+        return datafactorySettingsFiles;
+      case REGISTRY_SETTINGS:
+        return registrySettingsFiles;
+      case LIQUIBASE:
+        return liquibaseFiles;
+      case EXCERPTS:
+        return excerptFiles;
+      case EMAIL_NOTIFICATION_TEMPLATE:
+        return emailNotificationTemplateDirectory;
+      case INBOX_NOTIFICATION_TEMPLATE:
+        return inboxNotificationTemplateDirectory;
+      case DIIA_NOTIFICATION_TEMPLATE:
+        return diiaNotificationTemplateDirectory;
+      case BP_GROUPING:
+        return bpGroupingFiles;
+      case MOCK_INTEGRATIONS:
+        return mockIntegrationFiles;
+      case REPORTS:
+        return reportsFiles;
+      default:
+        return List.of();
+    }
+  }
+
+  /**
+   * Returns a copy that keeps only the regulation files matching the filter.
+   */
+  public RegulationFiles filter(Predicate<File> filter) {
+    return transform(files -> files.stream().filter(filter).collect(Collectors.toList()));
+  }
+
+  /**
+   * Returns a copy with every regulation file replaced by the result of the mapper.
+   */
+  public RegulationFiles map(UnaryOperator<File> mapper) {
+    return transform(files -> files.stream().map(mapper).collect(Collectors.toList()));
+  }
+
+  private RegulationFiles transform(UnaryOperator<Collection<File>> transformer) {
+    return toBuilder()
+        .bpTrembitaFiles(transformer.apply(bpTrembitaFiles))
+        .bpTrembitaConfig(transformer.apply(bpTrembitaConfig))
+        .globalVarsFiles(transformer.apply(globalVarsFiles))
+        .bpAuthFiles(transformer.apply(bpAuthFiles))
+        .rolesFiles(transformer.apply(rolesFiles))
+        .bpmnFiles(transformer.apply(bpmnFiles))
+        .dmnFiles(transformer.apply(dmnFiles))
+        .formFiles(transformer.apply(formFiles))
+        .datafactorySettingsFiles(transformer.apply(datafactorySettingsFiles))
+        .registrySettingsFiles(transformer.apply(registrySettingsFiles))
+        .liquibaseFiles(transformer.apply(liquibaseFiles))
+        .excerptFiles(transformer.apply(excerptFiles))
+        .emailNotificationTemplateDirectory(transformer.apply(emailNotificationTemplateDirectory))
+        .inboxNotificationTemplateDirectory(transformer.apply(inboxNotificationTemplateDirectory))
+        .diiaNotificationTemplateDirectory(transformer.apply(diiaNotificationTemplateDirectory))
+        .bpGroupingFiles(transformer.apply(bpGroupingFiles))
+        .mockIntegrationFiles(transformer.apply(mockIntegrationFiles))
+        .reportsFolders(transformer.apply(reportsFolders))
+        .files(transformer.apply(files))
+        .filesDetailed(transformer.apply(filesDetailed))
+        .reportsFiles(transformer.apply(reportsFiles))
+        .build();
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.parser;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.dmn.DmnModelException;
+import org.camunda.bpm.model.dmn.DmnModelInstance;
+
+/**
+ * Reads and validates BPMN and DMN models like {@link org.camunda.bpm.model.bpmn.Bpmn} and
+ * {@link org.camunda.bpm.model.dmn.Dmn} do, but with document builders and schema validators pooled
+ * per thread, so the per-file parsing cost drops and parallel validation does not contend on a
+ * single parser.
+ *
+ * <p>The XSDs of each model are compiled once per CLI process.
+ */
+public final class ModelParsers {
+
+  private static final PooledBpmnParser BPMN_PARSER = new PooledBpmnParser();
+  private static final PooledDmnParser DMN_PARSER = new PooledDmnParser();
+
+  private ModelParsers() {
+  }
+
+  public static BpmnModelInstance readBpmnModel(InputStream inputStream) {
+    return BPMN_PARSER.parseModelFromStream(inputStream);
+  }
+
+  public static void validateBpmnModel(BpmnModelInstance bpmnModel) {
+    BPMN_PARSER.validateModel(bpmnModel.getDocument());
+  }
+
+  public static DmnModelInstance readDmnModel(InputStream inputStream) {
+    return DMN_PARSER.parseModelFromStream(inputStream);
+  }
+
+  public static DmnModelInstance readDmnModel(File dmnFile) {
+    try (var inputStream = new FileInputStream(dmnFile)) {
+      return DMN_PARSER.parseModelFromStream(inputStream);
+    } catch (FileNotFoundException e) {
+      throw new DmnModelException(
+          "Cannot read model from file " + dmnFile + ": file does not exist.");
+    } catch (IOException e) {
+      throw new DmnModelException("Cannot read model from file " + dmnFile, e);
+    }
+  }
+
+  public static void validateDmnModel(DmnModelInstance dmnModel) {
+    DMN_PARSER.validateModel(dmnModel.getDocument());
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.parser;
+
+import java.io.InputStream;
+import org.camunda.bpm.model.bpmn.impl.BpmnModelInstanceImpl;
+import org.camunda.bpm.model.bpmn.impl.BpmnParser;
+import org.camunda.bpm.model.xml.instance.DomDocument;
+
+/**
+ * {@link BpmnParser} parsing and validating documents with the pooled parsers and validators of
+ * the calling thread instead of creating them for every document under a global lock.
+ */
+class PooledBpmnParser extends BpmnParser {
+
+  private final XmlParserPool parserPool = new XmlParserPool(this::configureFactory);
+
+  @Override
+  public BpmnModelInstanceImpl parseModelFromStream(InputStream inputStream) {
+    var document = parserPool.parse(inputStream);
+    validateModel(document);
+    return createModelInstance(document);
+  }
+
+  @Override
+  public void validateModel(DomDocument document) {
+    parserPool.validate(document, getSchema(document));
+  }
+}
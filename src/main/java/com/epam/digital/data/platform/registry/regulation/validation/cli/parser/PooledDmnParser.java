@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.parser;
+
+import java.io.InputStream;
+import org.camunda.bpm.model.dmn.DmnModelException;
+import org.camunda.bpm.model.dmn.impl.DmnModelInstanceImpl;
+import org.camunda.bpm.model.dmn.impl.DmnParser;
+import org.camunda.bpm.model.xml.ModelParseException;
+import org.camunda.bpm.model.xml.instance.DomDocument;
+
+/**
+ * {@link DmnParser} parsing and validating documents with the pooled parsers and validators of
+ * the calling thread instead of creating them for every document under a global lock.
+ *
+ * <p>Like {@link DmnParser}, parsing failures are reported as {@link DmnModelException}.
+ */
+class PooledDmnParser extends DmnParser {
+
+  private final XmlParserPool parserPool = new XmlParserPool(this::configureFactory);
+
+  @Override
+  public DmnModelInstanceImpl parseModelFromStream(InputStream inputStream) {
+    try {
+      var document = parserPool.parse(inputStream);
+      validateModel(document);
+      return createModelInstance(document);
+    } catch (ModelParseException e) {
+      throw new DmnModelException("Unable to parse model", e);
+    }
+  }
+
+  @Override
+  public void validateModel(DomDocument document) {
+    parserPool.validate(document, getSchema(document));
+  }
+}
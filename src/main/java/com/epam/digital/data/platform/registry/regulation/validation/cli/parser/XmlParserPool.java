@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+import org.camunda.bpm.model.xml.ModelParseException;
+import org.camunda.bpm.model.xml.ModelValidationException;
+import org.camunda.bpm.model.xml.impl.instance.DomDocumentImpl;
+import org.camunda.bpm.model.xml.impl.util.DomUtil.DomErrorHandler;
+import org.camunda.bpm.model.xml.instance.DomDocument;
+import org.xml.sax.SAXException;
+
+/**
+ * Per-thread {@link DocumentBuilder document builders} and schema {@link Validator validators} of
+ * a model parser, reset and reused for every document parsed by the thread.
+ *
+ * <p>Compiled {@link Schema schemas} hold the grammars of their XSDs and are thread-safe, so they
+ * are shared by all the threads, while validators are created once per thread and schema. Failures
+ * are reported with the same exceptions and messages as the Camunda model parsers.
+ */
+class XmlParserPool {
+
+  private final ThreadLocal<DocumentBuilder> documentBuilders;
+  private final ThreadLocal<Map<Schema, Validator>> validators =
+      ThreadLocal.withInitial(IdentityHashMap::new);
+
+  XmlParserPool(Consumer<DocumentBuilderFactory> factoryConfigurer) {
+    var documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    factoryConfigurer.accept(documentBuilderFactory);
+    documentBuilders = ThreadLocal.withInitial(() -> newDocumentBuilder(documentBuilderFactory));
+  }
+
+  DomDocument parse(InputStream inputStream) {
+    var documentBuilder = documentBuilders.get();
+    documentBuilder.setErrorHandler(new DomErrorHandler());
+    try {
+      return new DomDocumentImpl(documentBuilder.parse(inputStream));
+    } catch (SAXException e) {
+      throw new ModelParseException("SAXException while parsing input stream", e);
+    } catch (IOException e) {
+      throw new ModelParseException("IOException while parsing input stream", e);
+    } finally {
+      documentBuilder.reset();
+    }
+  }
+
+  void validate(DomDocument document, Schema schema) {
+    if (schema == null) {
+      return;
+    }
+    var validator = validators.get().computeIfAbsent(schema, Schema::newValidator);
+    try {
+      synchronized (document) {
+        validator.validate(document.getDomSource());
+      }
+    } catch (IOException e) {
+      throw new ModelValidationException("Error during DOM document validation", e);
+    } catch (SAXException e) {
+      throw new ModelValidationException("DOM document is not valid", e);
+    } finally {
+      validator.reset();
+    }
+  }
+
+  private static DocumentBuilder newDocumentBuilder(DocumentBuilderFactory documentBuilderFactory) {
+    try {
+      synchronized (documentBuilderFactory) {
+        return documentBuilderFactory.newDocumentBuilder();
+      }
+    } catch (ParserConfigurationException e) {
+      throw new ModelParseException("ParserConfigurationException while parsing input stream", e);
+    }
+  }
+}
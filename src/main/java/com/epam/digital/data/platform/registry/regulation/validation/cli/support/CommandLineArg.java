@@ -38,7 +38,12 @@ public enum CommandLineArg {
   REPORTS_FOLDERS("report-folders"),
   FILES("file"),
   FILES_DETAILED("file-detailed"),
-  REPORTS("reports-files");
+  REPORTS("reports-files"),
+  PARALLELISM("parallelism"),
+  CACHE_DIR("cache-dir"),
+  INCREMENTAL("incremental"),
+  WATCH("watch"),
+  PORT("port");
 
   private final String argOptionName;
 
@@ -75,6 +75,16 @@ public class CommandLineArgsParser {
     this.helpFormatter.printHelp(usageExampleValidateCommand.toString(),
         "Options:", validationOptions(), null, false);
 
+    var usageExampleDaemonCommand = new StringBuilder("[daemon/client] commands:");
+    usageExampleDaemonCommand
+        .append(System.lineSeparator())
+        .append(String.format("java -jar %s.jar daemon [--port=<arg>]", JAR_NAME))
+        .append(System.lineSeparator())
+        .append(String.format(
+            "java -jar %s.jar client [--port=<arg>] validate [--bp-auth-files=<arg>]", JAR_NAME));
+    this.helpFormatter.printHelp(usageExampleDaemonCommand.toString(), "Options:",
+        daemonOptions(), null, false);
+
     var usageExampleHelpCommand = new StringBuilder("[help] command:");
     usageExampleHelpCommand
         .append(System.lineSeparator())
@@ -95,9 +105,22 @@ public class CommandLineArgsParser {
     var allOptions = new Options();
     validationOptions().getOptions().forEach(allOptions::addOption);
     saveAndPlanCommandOptions().getOptions().forEach(allOptions::addOption);
+    daemonOptions().getOptions().forEach(allOptions::addOption);
     return allOptions;
   }
 
+  private Options daemonOptions() {
+    var options = new Options();
+
+    options.addOption(Option.builder()
+        .longOpt(CommandLineArg.PORT.getArgOptionName())
+        .hasArg()
+        .desc("Loopback port the daemon listens on and the client connects to (defaults to 7070); the daemon token is kept in ~/.registry-regulations-cli/daemon-<port>.token")
+        .build());
+
+    return options;
+  }
+
   private Options validationOptions() {
     var options = new Options();
 
@@ -232,6 +255,28 @@ public class CommandLineArgsParser {
         .desc("Reports files (accepts multiple values separated by ',')")
         .build());
 
+    options.addOption(Option.builder()
+        .longOpt(CommandLineArg.PARALLELISM.getArgOptionName())
+        .hasArg()
+        .desc("Number of threads used to validate regulation files (defaults to the number of available processors)")
+        .build());
+
+    options.addOption(Option.builder()
+        .longOpt(CommandLineArg.CACHE_DIR.getArgOptionName())
+        .hasArg()
+        .desc("Directory where validation results of unchanged regulation files are cached between runs")
+        .build());
+
+    options.addOption(Option.builder()
+        .longOpt(CommandLineArg.INCREMENTAL.getArgOptionName())
+        .desc("Validate only regulation files changed since the last successful validation and the validations depending on them (state is kept in --cache-dir, defaults to .registry-regulation-cache)")
+        .build());
+
+    options.addOption(Option.builder()
+        .longOpt(CommandLineArg.WATCH.getArgOptionName())
+        .desc("Keep watching regulation files and re-validate them on every change")
+        .build());
+
     return options;
   }
 
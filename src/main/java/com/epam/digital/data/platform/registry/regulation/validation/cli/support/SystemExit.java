@@ -21,11 +21,12 @@ import org.springframework.context.ApplicationContext;
 
 public class SystemExit {
 
-  private static final int SUCCESS_EXIT_CODE = 0;
-  private static final int SYSTEM_ERROR_EXIT_CODE = 1;
-  private static final int VALIDATION_FAILURE_EXIT_CODE = 10;
+  public static final int SUCCESS_EXIT_CODE = 0;
+  public static final int SYSTEM_ERROR_EXIT_CODE = 1;
+  public static final int VALIDATION_FAILURE_EXIT_CODE = 10;
 
   private final ApplicationContext context;
+  private final ThreadLocal<Integer> capturedExitCode = new ThreadLocal<>();
 
   public SystemExit(ApplicationContext context) {
     this.context = context;
@@ -43,7 +44,27 @@ public class SystemExit {
     exit(SYSTEM_ERROR_EXIT_CODE);
   }
 
+  /**
+   * Runs the action on the current thread, recording the exit code it requests instead of
+   * terminating the application.
+   *
+   * @return the requested exit code, or the success exit code if none was requested
+   */
+  public int capture(Runnable action) {
+    capturedExitCode.set(SUCCESS_EXIT_CODE);
+    try {
+      action.run();
+      return capturedExitCode.get();
+    } finally {
+      capturedExitCode.remove();
+    }
+  }
+
   private void exit(int exitCode) {
+    if (capturedExitCode.get() != null) {
+      capturedExitCode.set(exitCode);
+      return;
+    }
     var code = SpringApplication.exit(context, () -> exitCode);
     System.exit(code);
   }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.utils;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes files shared by concurrently running CLI processes. The content is written to a temporary
+ * file in the target directory first and then renamed, so readers never see a partially written
+ * file.
+ */
+public class AtomicFileWriter {
+
+  private AtomicFileWriter() {
+  }
+
+  public static void write(Path target, byte[] content) throws IOException {
+    Files.createDirectories(target.toAbsolutePath().getParent());
+    var tempFile = Files.createTempFile(target.toAbsolutePath().getParent(),
+        target.getFileName().toString(), ".tmp");
+    try {
+      Files.write(tempFile, content);
+      try {
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+}
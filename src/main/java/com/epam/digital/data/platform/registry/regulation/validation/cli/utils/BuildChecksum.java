@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.utils;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.bind.annotation.adapters.HexBinaryAdapter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Identifies the build a class was loaded from, so results cached by one build of the CLI are
+ * never reused by another one, even if both carry the same version.
+ *
+ * <p>A jar, including the executable jar the CLI is packaged as, is identified by the checksum of
+ * its content. A classes directory, as used when running from the IDE or the build, is identified
+ * by the paths, sizes and modification times of its files.
+ */
+@Slf4j
+public final class BuildChecksum {
+
+  private static final String JAR_PROTOCOL = "jar";
+  private static final String JAR_ENTRY_SEPARATOR = "!/";
+
+  private static final HexBinaryAdapter hexBinaryAdapter = new HexBinaryAdapter();
+
+  private BuildChecksum() {
+  }
+
+  /**
+   * Returns the checksum of the build the given class was loaded from, or an empty optional if
+   * the build cannot be located.
+   */
+  public static Optional<String> of(Class<?> type) {
+    var codeSource = type.getProtectionDomain().getCodeSource();
+    if (Objects.isNull(codeSource) || Objects.isNull(codeSource.getLocation())) {
+      log.warn("Cannot locate the build of {}", type.getName());
+      return Optional.empty();
+    }
+    return of(codeSource.getLocation());
+  }
+
+  @VisibleForTesting
+  static Optional<String> of(URL location) {
+    try {
+      var build = toPath(location);
+      if (Files.isRegularFile(build)) {
+        return Optional.of(jarChecksum(build));
+      }
+      if (Files.isDirectory(build)) {
+        return Optional.of(directoryChecksum(build));
+      }
+      log.warn("Cannot read the build at {}", location);
+      return Optional.empty();
+    } catch (IOException | UncheckedIOException | URISyntaxException | IllegalArgumentException
+        | FileSystemNotFoundException e) {
+      log.warn("Cannot read the build at {}", location, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * The location of a class nested in a jar, such as the classes of an executable jar, is resolved
+   * to the outermost jar file.
+   */
+  private static Path toPath(URL location) throws URISyntaxException {
+    var uri = location.toURI();
+    if (JAR_PROTOCOL.equals(uri.getScheme())) {
+      var jarUri = uri.getRawSchemeSpecificPart();
+      var separator = jarUri.indexOf(JAR_ENTRY_SEPARATOR);
+      uri = new URI(separator < 0 ? jarUri : jarUri.substring(0, separator));
+    }
+    return Paths.get(uri);
+  }
+
+  private static String jarChecksum(Path jar) throws IOException {
+    var messageDigest = newMessageDigest();
+    try (var content = new DigestInputStream(Files.newInputStream(jar), messageDigest)) {
+      content.transferTo(OutputStream.nullOutputStream());
+    }
+    return hexBinaryAdapter.marshal(messageDigest.digest());
+  }
+
+  private static String directoryChecksum(Path directory) throws IOException {
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(directory)) {
+      files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+    }
+    var messageDigest = newMessageDigest();
+    for (var file : files) {
+      var attributes = String.join(":", directory.relativize(file).toString(),
+          String.valueOf(Files.size(file)),
+          String.valueOf(Files.getLastModifiedTime(file).toMillis()));
+      messageDigest.update(attributes.getBytes(StandardCharsets.UTF_8));
+      messageDigest.update((byte) '\n');
+    }
+    return hexBinaryAdapter.marshal(messageDigest.digest());
+  }
+
+  private static MessageDigest newMessageDigest() {
+    try {
+      return MessageDigest.getInstance(FileChecksumGenerator.ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import liquibase.util.file.FilenameUtils;
+
+/**
+ * Resolves the {@code include} tree of an XML changelog without parsing the changes, so the
+ * included changelogs can be parsed independently of each other.
+ *
+ * <p>A changelog is either an include list, having nothing but plain {@code include} elements, or
+ * a leaf, having no includes at all. Anything that makes the parse of one changelog depend on
+ * another one, e.g. a {@code property}, an {@code includeAll}, an include with contexts, labels
+ * or a non-XML file, or a changelog mixing change sets and includes, is not resolved, and the
+ * changelog has to be parsed by Liquibase as a whole.
+ */
+final class ChangelogIncludeGraph {
+
+  private static final String CHANGELOG_ELEMENT = "databaseChangeLog";
+  private static final String INCLUDE_ELEMENT = "include";
+  private static final String PROPERTY_ELEMENT = "property";
+  private static final String INCLUDE_ALL_ELEMENT = "includeAll";
+  private static final String FILE_ATTRIBUTE = "file";
+  private static final String RELATIVE_TO_CHANGELOG_FILE_ATTRIBUTE = "relativeToChangelogFile";
+  private static final Set<String> INCLUDE_ATTRIBUTES =
+      Set.of(FILE_ATTRIBUTE, RELATIVE_TO_CHANGELOG_FILE_ATTRIBUTE);
+  private static final String XML_EXTENSION = ".xml";
+  private static final int MAX_DEPTH = 16;
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = newXmlInputFactory();
+
+  private ChangelogIncludeGraph() {
+  }
+
+  /**
+   * Returns the leaf changelogs of the given changelog in include order, as paths relative to
+   * the changelog directory, or nothing if the include tree cannot be resolved.
+   */
+  static Optional<List<String>> leafChangeLogs(File changeLogFile) {
+    return leafChangeLogs(changeLogFile, new ArrayList<>());
+  }
+
+  /**
+   * Returns the leaf changelogs like {@link #leafChangeLogs(File)} and adds the paths of the
+   * changelogs including them, the given changelog among them, to the given list.
+   */
+  static Optional<List<String>> leafChangeLogs(File changeLogFile, List<String> includeLists) {
+    var leaves = new ArrayList<String>();
+    var resolved = collectLeaves(changeLogFile.getAbsoluteFile().getParentFile(),
+        changeLogFile.getName(), 0, leaves, includeLists);
+    return resolved ? Optional.of(leaves) : Optional.empty();
+  }
+
+  private static boolean collectLeaves(File rootDirectory, String changeLogPath, int depth,
+      List<String> leaves, List<String> includeLists) {
+    var changeLogFile = new File(rootDirectory, changeLogPath);
+    if (depth > MAX_DEPTH || !changeLogPath.endsWith(XML_EXTENSION) || !changeLogFile.isFile()) {
+      return false;
+    }
+    var includes = readIncludes(changeLogFile, changeLogPath);
+    if (includes.isEmpty()) {
+      return false;
+    }
+    if (includes.get().isEmpty()) {
+      leaves.add(changeLogPath);
+      return true;
+    }
+    includeLists.add(changeLogPath);
+    for (var include : includes.get()) {
+      if (!collectLeaves(rootDirectory, include, depth + 1, leaves, includeLists)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the resolved paths of the includes of a changelog, empty ones for a leaf, or nothing
+   * if the changelog is neither an include list nor a leaf.
+   */
+  private static Optional<List<String>> readIncludes(File changeLogFile, String changeLogPath) {
+    try (var inputStream = new FileInputStream(changeLogFile)) {
+      var reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+      try {
+        return readIncludes(reader, changeLogPath);
+      } finally {
+        reader.close();
+      }
+    } catch (IOException | XMLStreamException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<List<String>> readIncludes(XMLStreamReader reader,
+      String changeLogPath) throws XMLStreamException {
+    var includes = new ArrayList<String>();
+    var hasChangeSets = false;
+    var depth = 0;
+    while (reader.hasNext()) {
+      var event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+        continue;
+      }
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+      depth++;
+      var element = reader.getLocalName();
+      if (depth == 1 && !CHANGELOG_ELEMENT.equals(element)
+          || PROPERTY_ELEMENT.equals(element) || INCLUDE_ALL_ELEMENT.equals(element)) {
+        return Optional.empty();
+      }
+      if (depth == 2 && INCLUDE_ELEMENT.equals(element)) {
+        var include = resolveInclude(reader, changeLogPath);
+        if (include.isEmpty()) {
+          return Optional.empty();
+        }
+        includes.add(include.get());
+      } else if (depth == 2) {
+        hasChangeSets = true;
+      } else if (INCLUDE_ELEMENT.equals(element)) {
+        return Optional.empty();
+      }
+    }
+    return hasChangeSets && !includes.isEmpty() ? Optional.empty() : Optional.of(includes);
+  }
+
+  private static Optional<String> resolveInclude(XMLStreamReader reader, String changeLogPath) {
+    String file = null;
+    var relativeToChangelogFile = false;
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      var attribute = reader.getAttributeLocalName(i);
+      if (!INCLUDE_ATTRIBUTES.contains(attribute)) {
+        return Optional.empty();
+      }
+      if (FILE_ATTRIBUTE.equals(attribute)) {
+        file = reader.getAttributeValue(i).replace('\\', '/');
+      } else {
+        relativeToChangelogFile = Boolean.parseBoolean(reader.getAttributeValue(i));
+      }
+    }
+    if (Objects.isNull(file) || file.startsWith("/") || file.contains(":")) {
+      return Optional.empty();
+    }
+    if (!relativeToChangelogFile) {
+      return Optional.of(file);
+    }
+    return Optional.ofNullable(
+        FilenameUtils.concat(FilenameUtils.getFullPath(changeLogPath), file))
+        .map(path -> path.replace('\\', '/'));
+  }
+
+  private static XMLInputFactory newXmlInputFactory() {
+    var factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+}
@@ -18,24 +18,48 @@ package com.epam.digital.data.platform.registry.regulation.validation.cli.utils;
 
 import com.epam.digital.data.platform.liquibase.extension.change.core.DdmCreateSearchConditionChange;
 import com.epam.digital.data.platform.liquibase.extension.change.core.DdmDropSearchConditionChange;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangelogNodeCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import com.google.common.base.Throwables;
 import liquibase.change.Change;
 import liquibase.changelog.ChangeLogParameters;
 import liquibase.changelog.DatabaseChangeLog;
+import liquibase.exception.ChangeLogParseException;
 import liquibase.exception.LiquibaseException;
+import liquibase.exception.UnexpectedLiquibaseException;
 import liquibase.integration.commandline.CommandLineResourceAccessor;
 import liquibase.parser.ChangeLogParser;
 import liquibase.parser.ChangeLogParserFactory;
+import liquibase.parser.core.ParsedNode;
+import liquibase.parser.core.xml.XMLChangeLogSAXParser;
+import liquibase.resource.AbstractResourceAccessor;
 import liquibase.resource.CompositeResourceAccessor;
 import liquibase.resource.FileSystemResourceAccessor;
+import liquibase.resource.InputStreamList;
+import liquibase.resource.ResourceAccessor;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 public final class ChangelogParser {
 
   public static DatabaseChangeLog parseChangeLog(File changeLogFile) throws LiquibaseException {
-    var fileOpener = new CompositeResourceAccessor(
-            new FileSystemResourceAccessor(changeLogFile.getParentFile()),
-            new CommandLineResourceAccessor(ChangelogParser.class.getClassLoader()));
+    return parseChangeLog(changeLogFile, newResourceAccessor(changeLogFile));
+  }
+
+  private static DatabaseChangeLog parseChangeLog(File changeLogFile, ResourceAccessor fileOpener)
+      throws LiquibaseException {
 
     String changeLogFileName = changeLogFile.getName();
     ChangeLogParser parser = ChangeLogParserFactory.getInstance()
@@ -44,5 +68,179 @@ public final class ChangelogParser {
     return parser.parse(changeLogFileName, new ChangeLogParameters(), fileOpener);
   }
 
+  /**
+   * Parses the changelog like {@link #parseChangeLog(File)}, but parses the included changelogs
+   * concurrently on the given executor if the include tree can be resolved up front, see {@link
+   * ChangelogIncludeGraph}. Every included changelog is parsed by a parser of its own, and the
+   * change sets are merged back in include order, so the result has the same change sets as the
+   * sequential parse.
+   */
+  public static DatabaseChangeLog parseChangeLog(File changeLogFile, ValidationExecutor executor)
+      throws LiquibaseException {
+    return parseChangeLog(changeLogFile, executor, ChangelogNodeCache.disabled());
+  }
+
+  /**
+   * Parses the changelog like {@link #parseChangeLog(File, ValidationExecutor)}, taking the
+   * included changelogs that have not changed since a previous run from the given cache.
+   */
+  public static DatabaseChangeLog parseChangeLog(File changeLogFile, ValidationExecutor executor,
+      ChangelogNodeCache nodeCache) throws LiquibaseException {
+    return parseChangeLog(changeLogFile, executor, nodeCache, new ArrayList<>());
+  }
+
+  /**
+   * Parses the changelog like {@link #parseChangeLog(File, ValidationExecutor,
+   * ChangelogNodeCache)} and adds the files the change sets were read from to the given
+   * collection: the changelog, every changelog it includes, directly or through other changelogs,
+   * and the directories listed by {@code includeAll}.
+   */
+  public static DatabaseChangeLog parseChangeLog(File changeLogFile, ValidationExecutor executor,
+      ChangelogNodeCache nodeCache, Collection<File> sourceFiles) throws LiquibaseException {
+    var rootDirectory = changeLogFile.getAbsoluteFile().getParentFile();
+    var includeLists = new ArrayList<String>();
+    var leafChangeLogs = executor.getParallelism() < 2 && !nodeCache.isEnabled()
+        ? Optional.<List<String>>empty()
+        : ChangelogIncludeGraph.leafChangeLogs(changeLogFile, includeLists)
+            .filter(paths -> paths.size() > 1 || nodeCache.isEnabled());
+    if (leafChangeLogs.isEmpty()) {
+      var recordedFiles = ConcurrentHashMap.<File>newKeySet();
+      var changeLog = parseChangeLog(changeLogFile,
+          new SourceRecordingResourceAccessor(newResourceAccessor(changeLogFile), rootDirectory,
+              recordedFiles));
+      sourceFiles.addAll(recordedFiles);
+      return changeLog;
+    }
+    Stream.concat(includeLists.stream(), leafChangeLogs.get().stream())
+        .map(path -> new File(rootDirectory, path))
+        .forEach(sourceFiles::add);
+
+    var fileOpener = newResourceAccessor(changeLogFile);
+    List<DatabaseChangeLog> includedChangeLogs;
+    try {
+      includedChangeLogs = executor.map(leafChangeLogs.get(),
+          path -> parseIncludedChangeLog(path, fileOpener,
+              new CachingXmlChangeLogParser(rootDirectory, nodeCache)));
+    } catch (UnexpectedLiquibaseException e) {
+      for (var cause : Throwables.getCausalChain(e)) {
+        Throwables.throwIfInstanceOf(cause, LiquibaseException.class);
+      }
+      throw e;
+    }
+
+    var changeLog = new DatabaseChangeLog(changeLogFile.getName());
+    changeLog.setChangeLogParameters(new ChangeLogParameters());
+    includedChangeLogs.forEach(
+        includedChangeLog -> includedChangeLog.getChangeSets().forEach(changeLog::addChangeSet));
+    return changeLog;
+  }
+
+  private static DatabaseChangeLog parseIncludedChangeLog(String path,
+      ResourceAccessor fileOpener, ChangeLogParser parser) {
+    try {
+      return parser.parse(path, new ChangeLogParameters(), fileOpener);
+    } catch (LiquibaseException e) {
+      throw new UnexpectedLiquibaseException(e);
+    }
+  }
+
+  private static ResourceAccessor newResourceAccessor(File changeLogFile) {
+    return new CompositeResourceAccessor(
+            new FileSystemResourceAccessor(changeLogFile.getAbsoluteFile().getParentFile()),
+            new CommandLineResourceAccessor(ChangelogParser.class.getClassLoader()));
+  }
+
   private ChangelogParser() {}
+
+  /**
+   * Resource accessor recording the files Liquibase opens and the directories it lists while
+   * parsing a changelog.
+   */
+  private static final class SourceRecordingResourceAccessor extends AbstractResourceAccessor {
+
+    private static final String FILE_SCHEME = "file";
+
+    private final ResourceAccessor delegate;
+    private final File rootDirectory;
+    private final Set<File> sourceFiles;
+
+    SourceRecordingResourceAccessor(ResourceAccessor delegate, File rootDirectory,
+        Set<File> sourceFiles) {
+      this.delegate = delegate;
+      this.rootDirectory = rootDirectory;
+      this.sourceFiles = sourceFiles;
+    }
+
+    @Override
+    public InputStreamList openStreams(String relativeTo, String streamPath) throws IOException {
+      var streams = delegate.openStreams(relativeTo, streamPath);
+      streams.getURIs().stream()
+          .filter(uri -> FILE_SCHEME.equals(uri.getScheme()))
+          .map(File::new)
+          .forEach(sourceFiles::add);
+      return streams;
+    }
+
+    @Override
+    public SortedSet<String> list(String relativeTo, String path, boolean recursive,
+        boolean includeFiles, boolean includeDirectories) throws IOException {
+      var directory = Objects.isNull(relativeTo)
+          ? new File(rootDirectory, path)
+          : new File(new File(rootDirectory, relativeTo).getParentFile(), path);
+      if (directory.isDirectory()) {
+        sourceFiles.add(directory.getAbsoluteFile());
+      }
+      return delegate.list(relativeTo, path, recursive, includeFiles, includeDirectories);
+    }
+
+    @Override
+    public SortedSet<String> describeLocations() {
+      return delegate.describeLocations();
+    }
+  }
+
+  /**
+   * XML changelog parser reusing the node trees of changelog files parsed by previous runs, so
+   * only new or modified files are read and validated against the schema. Files referring to
+   * changelog parameters are not cached, as their nodes depend on more than the file content.
+   */
+  private static final class CachingXmlChangeLogParser extends XMLChangeLogSAXParser {
+
+    private static final String PARAMETER_PREFIX = "${";
+
+    private final File rootDirectory;
+    private final ChangelogNodeCache nodeCache;
+
+    CachingXmlChangeLogParser(File rootDirectory, ChangelogNodeCache nodeCache) {
+      this.rootDirectory = rootDirectory;
+      this.nodeCache = nodeCache;
+    }
+
+    @Override
+    protected ParsedNode parseToNode(String physicalChangeLogLocation,
+        ChangeLogParameters changeLogParameters, ResourceAccessor resourceAccessor)
+        throws ChangeLogParseException {
+      if (!nodeCache.isEnabled()) {
+        return super.parseToNode(physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+      }
+      byte[] content;
+      try {
+        content = Files.readAllBytes(new File(rootDirectory, physicalChangeLogLocation).toPath());
+      } catch (IOException e) {
+        return super.parseToNode(physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+      }
+      var checksum = FileChecksumGenerator.generateContentChecksum(content);
+      var cachedNode = nodeCache.get(physicalChangeLogLocation, checksum);
+      if (cachedNode.isPresent()) {
+        return cachedNode.get();
+      }
+      var node = super.parseToNode(physicalChangeLogLocation, changeLogParameters,
+          resourceAccessor);
+      if (Objects.nonNull(node)
+          && !new String(content, StandardCharsets.UTF_8).contains(PARAMETER_PREFIX)) {
+        nodeCache.put(physicalChangeLogLocation, checksum, node);
+      }
+      return node;
+    }
+  }
 }
@@ -77,6 +77,20 @@ public class FileChecksumGenerator {
     return processFilesChecksum(files, FileChecksumGenerator::getDetailedFilesChecksum);
   }
 
+  /**
+   * Generates a checksum for the content of a single file.
+   *
+   * @param content The file content.
+   * @return The hexadecimal checksum of the content.
+   */
+  public static String generateContentChecksum(byte[] content) {
+    try {
+      return hexBinaryAdapter.marshal(MessageDigest.getInstance(ALGORITHM).digest(content));
+    } catch (Exception e) {
+      throw new FileProcessingException("Error while generating checksums", e);
+    }
+  }
+
   private static Map<String, String> processFilesChecksum(Collection<File> files,
       Function<File, Map<String, String>> function) {
     var checksum = new HashMap<String, String>();
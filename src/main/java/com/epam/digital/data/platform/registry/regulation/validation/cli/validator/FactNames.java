@@ -18,7 +18,8 @@ package com.epam.digital.data.platform.registry.regulation.validation.cli.valida
 
 public final class FactNames {
 
-    public static final String DATABASE_ALL_CHANGES = "database-all-changes";
+    public static final String DATABASE_CHANGE_INDEX = "database-change-index";
+    public static final String LIQUIBASE_IDENTIFIERS = "liquibase-identifiers";
     public static final String DATAFACTORY_SETTINGS_YAML = "datafactory-settings-yaml";
     public static final String REGULATION_FILE_TYPE = "regulation-file-type";
 
@@ -16,119 +16,301 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.incremental.RegulationFileChanges;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
-import com.google.common.collect.Sets;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationScheduler;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationStage;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationStageId;
+import com.google.common.collect.ImmutableSetMultimap;
 import java.io.File;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class RegulationFilesValidator implements RegulationValidator<RegulationFiles> {
 
   private final Map<RegulationFileType, RegulationValidator<File>> regulationTypeValidators;
   private final Map<RegulationFileType, RegulationValidator<Collection<File>>> groupRegulationTypeValidators;
   private final Map<RegulationFileType, RegulationValidator<RegulationFiles>> globalRegulationTypeValidators;
+  private final ValidationExecutor validationExecutor;
+  private final RegulationIndexer regulationIndexer;
+  private final ValidationScheduler validationScheduler;
+  private final List<ValidationStage> validationStages;
+  private final ImmutableSetMultimap<RegulationFileType, ValidationStageId> dependentStages;
+  private final Map<ValidationStageId, ValidationStage> stagesById;
 
   public RegulationFilesValidator(
           Map<RegulationFileType, RegulationValidator<File>> regulationTypeValidators,
           Map<RegulationFileType, RegulationValidator<Collection<File>>> groupRegulationTypeValidators,
           Map<RegulationFileType, RegulationValidator<RegulationFiles>> globalRegulationTypeValidators) {
+    this(regulationTypeValidators, groupRegulationTypeValidators, globalRegulationTypeValidators,
+        ValidationExecutor.sequential());
+  }
+
+  public RegulationFilesValidator(
+          Map<RegulationFileType, RegulationValidator<File>> regulationTypeValidators,
+          Map<RegulationFileType, RegulationValidator<Collection<File>>> groupRegulationTypeValidators,
+          Map<RegulationFileType, RegulationValidator<RegulationFiles>> globalRegulationTypeValidators,
+          ValidationExecutor validationExecutor) {
+    this(regulationTypeValidators, groupRegulationTypeValidators, globalRegulationTypeValidators,
+        validationExecutor, null);
+  }
+
+  public RegulationFilesValidator(
+          Map<RegulationFileType, RegulationValidator<File>> regulationTypeValidators,
+          Map<RegulationFileType, RegulationValidator<Collection<File>>> groupRegulationTypeValidators,
+          Map<RegulationFileType, RegulationValidator<RegulationFiles>> globalRegulationTypeValidators,
+          ValidationExecutor validationExecutor, RegulationIndexer regulationIndexer) {
     this.regulationTypeValidators = regulationTypeValidators;
     this.groupRegulationTypeValidators = groupRegulationTypeValidators;
     this.globalRegulationTypeValidators = globalRegulationTypeValidators;
+    this.validationExecutor = validationExecutor;
+    this.regulationIndexer = regulationIndexer;
+    this.validationScheduler = new ValidationScheduler(validationExecutor);
+    this.validationStages = newValidationStages();
+    this.dependentStages = dependentStages(validationStages);
+    this.stagesById = validationStages.stream()
+        .collect(Collectors.toMap(ValidationStage::getId, Function.identity()));
   }
 
   @Override
   public Set<ValidationError> validate(RegulationFiles regulationFiles, ValidationContext context) {
-    var errors = new LinkedHashSet<ValidationError>();
-
-    regulationFiles.getBpAuthFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.BP_AUTH)));
-
-    regulationFiles.getBpTrembitaFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.BP_TREMBITA)));
-
-    regulationFiles.getBpTrembitaConfig().forEach(file -> errors.addAll(validate(file, RegulationFileType.BP_TREMBITA_CONFIG)));
-
-    regulationFiles.getGlobalVarsFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.GLOBAL_VARS)));
-
-    regulationFiles.getRolesFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.ROLES)));
-
-    errors.addAll(validateBpmnFiles(regulationFiles.getBpmnFiles()));
-
-    errors.addAll(validateReportsFiles(regulationFiles.getReportsFiles()));
-
-    regulationFiles.getDmnFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.DMN)));
-
-    regulationFiles.getFormFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.FORMS)));
-
-    regulationFiles.getDatafactorySettingsFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.DATAFACTORY_SETTINGS)));
-
-    regulationFiles.getRegistrySettingsFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.REGISTRY_SETTINGS)));
-
-    regulationFiles.getLiquibaseFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.LIQUIBASE)));
-
-    regulationFiles.getMockIntegrationFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.MOCK_INTEGRATIONS)));
-
-    regulationFiles.getEmailNotificationTemplateDirectory().forEach(file -> errors.addAll(validate(file, RegulationFileType.EMAIL_NOTIFICATION_TEMPLATE)));
-    regulationFiles.getInboxNotificationTemplateDirectory().forEach(file -> errors.addAll(validate(file, RegulationFileType.INBOX_NOTIFICATION_TEMPLATE)));
-    regulationFiles.getDiiaNotificationTemplateDirectory().forEach(file -> errors.addAll(validate(file, RegulationFileType.DIIA_NOTIFICATION_TEMPLATE)));
-    
-    errors.addAll(validateExcerptFiles(regulationFiles.getExcerptFiles()));
-
-    errors.addAll(validateGlobalFiles(regulationFiles, RegulationFileType.BP_AUTH_TO_BPMN));
+    return merge(validateStages(regulationFiles));
+  }
 
-    errors.addAll(validateGlobalFiles(regulationFiles, RegulationFileType.BP_TREMBITA_TO_BPMN));
+  /**
+   * Validates the regulation files, keeping the errors of each validation stage apart, so they
+   * can be updated by {@link #revalidateStages(RegulationFiles, RegulationFileChanges, Map)}.
+   */
+  public Map<ValidationStageId, Set<ValidationError>> validateStages(
+      RegulationFiles regulationFiles) {
+    return validationScheduler.run(validationStages, regulationFiles);
+  }
 
-    errors.addAll(validateGlobalFiles(regulationFiles, RegulationFileType.BP_GROUPING_TO_BPMN));
+  /**
+   * Re-validates only the changed regulation files and the group and global validations whose
+   * inputs include a changed regulation file type, assuming all the other regulation files passed
+   * validation in the run the changes are computed against.
+   */
+  public Set<ValidationError> validateChanges(RegulationFiles regulationFiles,
+      RegulationFileChanges changes) {
+    var passedStages = new HashMap<ValidationStageId, Set<ValidationError>>();
+    validationStages.forEach(stage -> passedStages.put(stage.getId(), Set.of()));
+    return merge(revalidateStages(regulationFiles, changes, passedStages));
+  }
 
-    errors.addAll(validateGlobalFiles(regulationFiles, RegulationFileType.BPMN));
+  /**
+   * Updates the errors of a previous run of {@link #validateStages(RegulationFiles)} after the
+   * regulation files changed. Only the changed regulation files and the stages whose inputs
+   * include a changed regulation file type are validated, the errors of the unchanged regulation
+   * files and of the unaffected stages are kept.
+   */
+  public Map<ValidationStageId, Set<ValidationError>> revalidateStages(
+      RegulationFiles regulationFiles, RegulationFileChanges changes,
+      Map<ValidationStageId, Set<ValidationError>> previousErrors) {
+    var affectedStageIds = getDependentStages(changes.getChangedTypes());
+    var completedStages = new HashMap<ValidationStageId, Boolean>();
+    validationStages.stream()
+        .map(ValidationStage::getId)
+        .filter(stageId -> !affectedStageIds.contains(stageId))
+        .forEach(stageId -> completedStages.put(stageId, isPassed(stageId, previousErrors)));
+    var changedRegulationFiles = regulationFiles.filter(changes::isChanged);
+    var affectedStages = validationStages.stream()
+        .filter(stage -> affectedStageIds.contains(stage.getId()))
+        .map(stage -> affectedStage(stage, regulationFiles, changedRegulationFiles, changes,
+            previousErrors.getOrDefault(stage.getId(), Set.of())))
+        .collect(Collectors.toList());
+
+    var stageErrors = validationScheduler.run(affectedStages, regulationFiles, completedStages);
+    var errors = new LinkedHashMap<ValidationStageId, Set<ValidationError>>();
+    validationStages.forEach(stage -> errors.put(stage.getId(),
+        stageErrors.containsKey(stage.getId()) ? stageErrors.get(stage.getId())
+            : previousErrors.getOrDefault(stage.getId(), Set.of())));
+    return errors;
+  }
 
-    errors.addAll(validateGlobalFiles(regulationFiles, RegulationFileType.BP_ROLE_EXISTENCE));
+  /**
+   * Drops the regulation index the global validations share, so the next run indexes the
+   * regulation files again. Has to be called before validating regulation files whose content
+   * changed since a previous run of this validator.
+   */
+  public void invalidateRegulationIndex() {
+    if (Objects.nonNull(regulationIndexer)) {
+      regulationIndexer.invalidate();
+    }
+  }
 
-    errors.addAll(validateGlobalFiles(regulationFiles, RegulationFileType.REPORT_ROLE_EXISTENCE));
+  /**
+   * Returns the validation stages that read any of the given regulation file types.
+   */
+  public Set<ValidationStageId> getDependentStages(Set<RegulationFileType> regulationFileTypes) {
+    return regulationFileTypes.stream()
+        .flatMap(regulationFileType -> dependentStages.get(regulationFileType).stream())
+        .collect(Collectors.toSet());
+  }
 
-    errors.addAll(validateGlobalFiles(regulationFiles, RegulationFileType.FORM_TO_SC));
+  /**
+   * A stage passed if it reported no errors and was not skipped because of a failed upstream
+   * stage.
+   */
+  private boolean isPassed(ValidationStageId stageId,
+      Map<ValidationStageId, Set<ValidationError>> errors) {
+    return errors.getOrDefault(stageId, Set.of()).isEmpty()
+        && stagesById.get(stageId).getDependsOn().stream()
+        .allMatch(upstreamStageId -> isPassed(upstreamStageId, errors));
+  }
 
-    regulationFiles.getBpGroupingFiles().forEach(file -> errors.addAll(validate(file, RegulationFileType.BP_GROUPING)));
+  /**
+   * File stages validate only the changed regulation files and keep the previous errors reported
+   * for the unchanged ones.
+   */
+  private ValidationStage affectedStage(ValidationStage stage, RegulationFiles regulationFiles,
+      RegulationFiles changedRegulationFiles, RegulationFileChanges changes,
+      Set<ValidationError> previousErrors) {
+    if (stage.getId().getKind() != ValidationStageId.Kind.FILE) {
+      return stage;
+    }
+    var unchangedFiles = regulationFiles.getRegulationFiles(stage.getId().getRegulationFileType())
+        .stream()
+        .filter(file -> !changes.isChanged(file))
+        .map(file -> file.getAbsoluteFile().toPath())
+        .collect(Collectors.toList());
+    return stage.toBuilder()
+        .validation(ignored -> {
+          var errors = new LinkedHashSet<ValidationError>();
+          previousErrors.stream()
+              .filter(error -> Objects.nonNull(error.getRegulationFile()))
+              .filter(error -> unchangedFiles.stream().anyMatch(
+                  error.getRegulationFile().getAbsoluteFile().toPath()::startsWith))
+              .forEach(errors::add);
+          errors.addAll(stage.getValidation().apply(changedRegulationFiles));
+          return errors;
+        })
+        .build();
+  }
 
+  private static Set<ValidationError> merge(
+      Map<ValidationStageId, Set<ValidationError>> stageErrors) {
+    var errors = new LinkedHashSet<ValidationError>();
+    stageErrors.values().forEach(errors::addAll);
     return errors;
   }
 
-  private Collection<ValidationError> validateGlobalFiles(RegulationFiles regulationFiles, RegulationFileType regulationFileType) {
-    return globalRegulationTypeValidators.get(regulationFileType).validate(regulationFiles, ValidationContext.of(regulationFileType));
+  private static ImmutableSetMultimap<RegulationFileType, ValidationStageId> dependentStages(
+      List<ValidationStage> validationStages) {
+    var dependentStages = ImmutableSetMultimap.<RegulationFileType, ValidationStageId>builder();
+    validationStages.forEach(stage -> stage.getInputs()
+        .forEach(input -> dependentStages.put(input, stage.getId())));
+    return dependentStages.build();
   }
 
-  private Set<ValidationError> validate(File file, RegulationFileType regulationFileType) {
-    var validator = this.regulationTypeValidators.get(regulationFileType);
-    return validator.validate(file, ValidationContext.of(regulationFileType));
+  private List<ValidationStage> newValidationStages() {
+    return List.of(
+        fileStage(RegulationFileType.BP_AUTH, RegulationFiles::getBpAuthFiles),
+        fileStage(RegulationFileType.BP_TREMBITA, RegulationFiles::getBpTrembitaFiles),
+        fileStage(RegulationFileType.BP_TREMBITA_CONFIG, RegulationFiles::getBpTrembitaConfig),
+        fileStage(RegulationFileType.GLOBAL_VARS, RegulationFiles::getGlobalVarsFiles),
+        fileStage(RegulationFileType.ROLES, RegulationFiles::getRolesFiles),
+        fileStage(RegulationFileType.BPMN, RegulationFiles::getBpmnFiles),
+        groupStage(RegulationFileType.BPMN, RegulationFiles::getBpmnFiles)
+            .dependsOn(ValidationStageId.file(RegulationFileType.BPMN))
+            .build(),
+        fileStage(RegulationFileType.REPORTS, RegulationFiles::getReportsFiles),
+        groupStage(RegulationFileType.REPORTS, RegulationFiles::getReportsFiles).build(),
+        fileStage(RegulationFileType.DMN, RegulationFiles::getDmnFiles),
+        fileStage(RegulationFileType.FORMS, RegulationFiles::getFormFiles),
+        fileStage(RegulationFileType.DATAFACTORY_SETTINGS, RegulationFiles::getDatafactorySettingsFiles),
+        fileStage(RegulationFileType.REGISTRY_SETTINGS, RegulationFiles::getRegistrySettingsFiles),
+        fileStage(RegulationFileType.LIQUIBASE, RegulationFiles::getLiquibaseFiles),
+        fileStage(RegulationFileType.MOCK_INTEGRATIONS, RegulationFiles::getMockIntegrationFiles),
+        fileStage(RegulationFileType.EMAIL_NOTIFICATION_TEMPLATE, RegulationFiles::getEmailNotificationTemplateDirectory),
+        fileStage(RegulationFileType.INBOX_NOTIFICATION_TEMPLATE, RegulationFiles::getInboxNotificationTemplateDirectory),
+        fileStage(RegulationFileType.DIIA_NOTIFICATION_TEMPLATE, RegulationFiles::getDiiaNotificationTemplateDirectory),
+        groupStage(RegulationFileType.EXCERPTS, RegulationFiles::getExcerptFiles).build(),
+        globalStage(RegulationFileType.BP_AUTH_TO_BPMN)
+            .input(RegulationFileType.BP_AUTH)
+            .input(RegulationFileType.BPMN)
+            .build(),
+        globalStage(RegulationFileType.BP_TREMBITA_TO_BPMN)
+            .input(RegulationFileType.BP_TREMBITA)
+            .input(RegulationFileType.BPMN)
+            .build(),
+        globalStage(RegulationFileType.BP_GROUPING_TO_BPMN)
+            .input(RegulationFileType.BP_GROUPING)
+            .input(RegulationFileType.BPMN)
+            .build(),
+        globalStage(RegulationFileType.BPMN)
+            .input(RegulationFileType.BPMN)
+            .input(RegulationFileType.ROLES)
+            .input(RegulationFileType.BP_TREMBITA_CONFIG)
+            .input(RegulationFileType.LIQUIBASE)
+            .input(RegulationFileType.FORMS)
+            .input(RegulationFileType.EXCERPTS)
+            .input(RegulationFileType.EMAIL_NOTIFICATION_TEMPLATE)
+            .input(RegulationFileType.INBOX_NOTIFICATION_TEMPLATE)
+            .input(RegulationFileType.DIIA_NOTIFICATION_TEMPLATE)
+            .build(),
+        globalStage(RegulationFileType.BP_ROLE_EXISTENCE)
+            .input(RegulationFileType.BP_AUTH)
+            .input(RegulationFileType.ROLES)
+            .build(),
+        globalStage(RegulationFileType.REPORT_ROLE_EXISTENCE)
+            .input(RegulationFileType.REPORTS)
+            .input(RegulationFileType.ROLES)
+            .build(),
+        globalStage(RegulationFileType.FORM_TO_SC)
+            .input(RegulationFileType.FORMS)
+            .input(RegulationFileType.LIQUIBASE)
+            .build(),
+        fileStage(RegulationFileType.BP_GROUPING, RegulationFiles::getBpGroupingFiles)
+    );
   }
 
-  private Set<ValidationError> validateBpmnFiles(Collection<File> bpmnFiles) {
-    Set<ValidationError> errors = Sets.newHashSet();
-    bpmnFiles.forEach(file -> errors.addAll(validate(file, RegulationFileType.BPMN)));
-
-    if (errors.isEmpty()) {
-      var groupValidator = groupRegulationTypeValidators.get(RegulationFileType.BPMN);
-      errors.addAll(groupValidator.validate(bpmnFiles, ValidationContext.of(RegulationFileType.BPMN)));
-    }
-    return errors;
+  private ValidationStage fileStage(RegulationFileType regulationFileType,
+      Function<RegulationFiles, Collection<File>> files) {
+    return ValidationStage.builder()
+        .id(ValidationStageId.file(regulationFileType))
+        .input(regulationFileType)
+        .validation(regulationFiles -> validateFiles(files.apply(regulationFiles), regulationFileType))
+        .build();
   }
 
-  private Set<ValidationError> validateExcerptFiles(Collection<File> excerptFolders) {
-    Set<ValidationError> errors = Sets.newHashSet();
-    var groupValidator = groupRegulationTypeValidators.get(RegulationFileType.EXCERPTS);
-    errors.addAll(groupValidator.validate(excerptFolders, ValidationContext.of(RegulationFileType.EXCERPTS)));
-    return errors;
+  private ValidationStage.ValidationStageBuilder groupStage(RegulationFileType regulationFileType,
+      Function<RegulationFiles, Collection<File>> files) {
+    return ValidationStage.builder()
+        .id(ValidationStageId.group(regulationFileType))
+        .input(regulationFileType)
+        .validation(regulationFiles -> groupRegulationTypeValidators.get(regulationFileType)
+            .validate(files.apply(regulationFiles), ValidationContext.of(regulationFileType)));
   }
 
-  private Set<ValidationError> validateReportsFiles(Collection<File> reportsFiles) {
-    Set<ValidationError> errors = Sets.newHashSet();
-    reportsFiles.forEach(file -> errors.addAll(validate(file, RegulationFileType.REPORTS)));
-
-    var groupValidator = groupRegulationTypeValidators.get(RegulationFileType.REPORTS);
-    errors.addAll(groupValidator.validate(reportsFiles, ValidationContext.of(RegulationFileType.REPORTS)));
+  private ValidationStage.ValidationStageBuilder globalStage(RegulationFileType regulationFileType) {
+    return ValidationStage.builder()
+        .id(ValidationStageId.global(regulationFileType))
+        .validation(regulationFiles -> globalRegulationTypeValidators.get(regulationFileType)
+            .validate(regulationFiles, ValidationContext.of(regulationFileType)));
+  }
 
+  private Set<ValidationError> validateFiles(Collection<File> files,
+      RegulationFileType regulationFileType) {
+    var errors = new LinkedHashSet<ValidationError>();
+    validationExecutor.map(files, file -> validate(file, regulationFileType))
+        .forEach(errors::addAll);
     return errors;
   }
+
+  private Set<ValidationError> validate(File file, RegulationFileType regulationFileType) {
+    var validator = this.regulationTypeValidators.get(regulationFileType);
+    return validator.validate(file, ValidationContext.of(regulationFileType));
+  }
 }
@@ -16,12 +16,20 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator;
 
-import com.deliveredtechnologies.rulebook.model.RuleBook;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnSummaryCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangelogNodeCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.DmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ValidationResultCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpAuthConfiguration;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpTrembitaConfiguration;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.RegulationConfigurationLoader;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.BuildChecksum;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.FileChecksumGenerator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpgrouping.BpGroupingProcessDefinitionIdValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpgrouping.BpGroupingUniqueNameValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.BpAuthToBpmnProcessExistenceValidator;
@@ -29,12 +37,16 @@ import com.epam.digital.data.platform.registry.regulation.validation.cli.validat
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.BpTrembitaToBpmnProcessExistenceValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.BpmnFileGroupUniqueProcessIdValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.BpmnFileInputsValidator;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.ElementTemplateCatalog;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.BpmnFileValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.channel.NotificationTemplateDirectoryValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.channel.NotificationTemplateValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.DatafactorySettingsYamlRulesValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.dmn.DmnFileValidator;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationRuleSet;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.excerpt.ExcerptTemplateUniqueNameValidator;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.file.CachingFileValidatorDecorator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.file.EmptyFileValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.file.FileExistenceValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.file.FileExtensionValidator;
@@ -53,15 +65,33 @@ import com.epam.digital.data.platform.registry.regulation.validation.cli.validat
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.typed.BpTrembitaProcessUniquenessValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.var.GlobalVarsFileValidator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Suppliers;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternUtils;
 
+@Slf4j
 public class RegulationValidatorFactory {
 
   private static final String BP_AUTH_JSON_SCHEMA = "classpath:schema/bp-auth-schema.json";
@@ -77,10 +107,37 @@ public class RegulationValidatorFactory {
   private static final String INBOX_NOTIFICATION_ARGUMENTS_JSON_SCHEMA = "classpath:schema/inbox-notification-arguments-schema.json";
   private static final String DIIA_NOTIFICATION_ARGUMENTS_JSON_SCHEMA = "classpath:schema/diia-notification-arguments-schema.json";
   private static final String MOCK_INTEGRATIONS_JSON_SCHEMA = "classpath:schema/mock-integrations-schema.json";
+  private static final String JSON_SCHEMAS = "classpath:schema/*.json";
+
+  /**
+   * Regulation file types whose validation result depends only on the content and the name of the
+   * validated file. Liquibase changelogs and notification template directories depend on other
+   * files and are always validated.
+   */
+  private static final Set<RegulationFileType> CACHEABLE_REGULATION_FILE_TYPES = EnumSet.of(
+      RegulationFileType.BP_AUTH,
+      RegulationFileType.BP_TREMBITA,
+      RegulationFileType.BP_TREMBITA_CONFIG,
+      RegulationFileType.ROLES,
+      RegulationFileType.GLOBAL_VARS,
+      RegulationFileType.FORMS,
+      RegulationFileType.BPMN,
+      RegulationFileType.DMN,
+      RegulationFileType.DATAFACTORY_SETTINGS,
+      RegulationFileType.REGISTRY_SETTINGS,
+      RegulationFileType.BP_GROUPING,
+      RegulationFileType.MOCK_INTEGRATIONS,
+      RegulationFileType.REPORTS);
 
   @Value("${element-template-path}")
   private String elementTemplatePath;
 
+  @Value("${element-template-snapshot-enabled:false}")
+  private boolean elementTemplateSnapshotEnabled;
+
+  @Value("${model-cache-max-bytes:" + BpmnModelCache.DEFAULT_MAX_MODEL_BYTES + "}")
+  private long modelCacheMaxBytes;
+
   @Value("${officer-permissions-file}")
   private String officerPermissionsFile;
 
@@ -90,31 +147,140 @@ public class RegulationValidatorFactory {
   private final ResourceLoader resourceLoader;
   private final ObjectMapper yamlObjectMapper;
   private final ObjectMapper jsonObjectMapper;
-  private final RuleBook<Set<ValidationError>> settingsYamlRuleBook;
-  private final RuleBook<Set<ValidationError>> mainLiquibaseRuleBook;
+  private final ValidationRuleSet settingsYamlRuleSet;
+  private final ValidationRuleSet mainLiquibaseRuleSet;
+  private final Supplier<Optional<String>> buildChecksum =
+      Suppliers.memoize(() -> BuildChecksum.of(RegulationValidatorFactory.class));
+  private ModelCaches modelCaches;
 
   public RegulationValidatorFactory(
       ResourceLoader resourceLoader,
       ObjectMapper yamlObjectMapper,
       ObjectMapper jsonObjectMapper,
-      RuleBook<Set<ValidationError>> settingsYamlRuleBook,
-      RuleBook<Set<ValidationError>> mainLiquibaseRuleBook) {
+      ValidationRuleSet settingsYamlRuleSet,
+      ValidationRuleSet mainLiquibaseRuleSet) {
     this.resourceLoader = resourceLoader;
     this.yamlObjectMapper = yamlObjectMapper;
     this.jsonObjectMapper = jsonObjectMapper;
-    this.settingsYamlRuleBook = settingsYamlRuleBook;
-    this.mainLiquibaseRuleBook = mainLiquibaseRuleBook;
-  }
-
-  public RegulationValidator<RegulationFiles> newRegulationFilesValidator() {
-    var regulationTypeValidators = regulationTypeValidators();
-    var groupRegulationTypeValidators = regulationTypeGroupValidators();
-    var globalRegulationTypeValidators = globalRegulationTypeValidators(yamlObjectMapper);
+    this.settingsYamlRuleSet = settingsYamlRuleSet;
+    this.mainLiquibaseRuleSet = mainLiquibaseRuleSet;
+  }
+
+  public RegulationFilesValidator newRegulationFilesValidator(
+      ValidationExecutor validationExecutor) {
+    return newRegulationFilesValidator(validationExecutor, null);
+  }
+
+  public RegulationFilesValidator newRegulationFilesValidator(
+      ValidationExecutor validationExecutor, File validationResultCacheDirectory) {
+    var validatorChainVersion = Objects.isNull(validationResultCacheDirectory)
+        ? null : getValidatorChainVersion();
+    if (Objects.nonNull(validationResultCacheDirectory) && Objects.isNull(validatorChainVersion)) {
+      log.warn("Cannot identify the validator build, validation results are not cached");
+    }
+    var cacheDirectory = Objects.isNull(validatorChainVersion)
+        ? null : validationResultCacheDirectory;
+    var validationResultCache = newValidationResultCache(cacheDirectory, validatorChainVersion);
+    var modelCaches = getModelCaches(cacheDirectory, validatorChainVersion);
+    var bpmnModelCache = modelCaches.getBpmnModelCache();
+    var dmnModelCache = modelCaches.getDmnModelCache();
+    var changeIndexCache = modelCaches.getChangeIndexCache()
+        .withIncludeParsingExecutor(validationExecutor);
+    var regulationTypeValidators = regulationTypeValidators(bpmnModelCache, dmnModelCache,
+        changeIndexCache);
+    regulationTypeValidators.replaceAll((regulationFileType, validator) ->
+        CACHEABLE_REGULATION_FILE_TYPES.contains(regulationFileType)
+            ? CachingFileValidatorDecorator.wrap(validator, validationResultCache) : validator);
+    var groupRegulationTypeValidators = regulationTypeGroupValidators(bpmnModelCache);
+    var regulationIndexer = new RegulationIndexer(yamlObjectMapper, bpmnModelCache,
+        dmnModelCache, changeIndexCache, validationExecutor);
+    var globalRegulationTypeValidators = globalRegulationTypeValidators(yamlObjectMapper,
+        bpmnModelCache, regulationIndexer, validationExecutor);
     return new RegulationFilesValidator(regulationTypeValidators, groupRegulationTypeValidators,
-        globalRegulationTypeValidators);
-  }
-
-  private Map<RegulationFileType, RegulationValidator<File>> regulationTypeValidators() {
+        globalRegulationTypeValidators, validationExecutor, regulationIndexer);
+  }
+
+  /**
+   * Returns the model caches of the validator chains created for the given result cache directory
+   * and validator chain version. The caches are shared by consecutive validation runs, e.g. the
+   * requests served by the validation daemon, so unchanged regulation files are not parsed again.
+   * Cached models are keyed by the content of their files and changelog indexes by the size and
+   * modification time of the parsed changelogs, so changed files are parsed again.
+   */
+  private synchronized ModelCaches getModelCaches(File validationResultCacheDirectory,
+      String validatorChainVersion) {
+    if (Objects.isNull(modelCaches)
+        || !modelCaches.isCreatedFor(validationResultCacheDirectory, validatorChainVersion)) {
+      modelCaches = new ModelCaches(validationResultCacheDirectory, validatorChainVersion,
+          new BpmnModelCache(
+              newBpmnSummaryCache(validationResultCacheDirectory, validatorChainVersion),
+              modelCacheMaxBytes),
+          new DmnModelCache(),
+          new ChangeIndexCache(ValidationExecutor.sequential(),
+              newChangelogNodeCache(validationResultCacheDirectory)));
+    }
+    return modelCaches;
+  }
+
+  private ValidationResultCache newValidationResultCache(File directory,
+      String validatorChainVersion) {
+    if (Objects.isNull(directory)) {
+      return ValidationResultCache.disabled();
+    }
+    return ValidationResultCache.of(directory.toPath(), validatorChainVersion);
+  }
+
+  private BpmnSummaryCache newBpmnSummaryCache(File directory, String validatorChainVersion) {
+    if (Objects.isNull(directory)) {
+      return BpmnSummaryCache.disabled();
+    }
+    return BpmnSummaryCache.of(directory.toPath(), validatorChainVersion);
+  }
+
+  private ChangelogNodeCache newChangelogNodeCache(File directory) {
+    if (Objects.isNull(directory)) {
+      return ChangelogNodeCache.disabled();
+    }
+    return ChangelogNodeCache.of(directory.toPath());
+  }
+
+  /**
+   * The version changes whenever anything a cached validation result depends on besides the
+   * validated file itself changes: the CLI build, its JSON schemas, the element templates or the
+   * configured roles. The build is identified by its checksum rather than its version, so a
+   * rebuilt CLI never reuses results cached by the previous build. Returns {@code null} if the
+   * build cannot be identified, in which case no validation result may be cached.
+   */
+  public String getValidatorChainVersion() {
+    var build = buildChecksum.get();
+    if (build.isEmpty()) {
+      return null;
+    }
+    try (var version = new ByteArrayOutputStream()) {
+      version.write(build.get().getBytes(StandardCharsets.UTF_8));
+      var schemas = ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+          .getResources(JSON_SCHEMAS);
+      Arrays.sort(schemas, Comparator.comparing(Resource::getDescription));
+      for (var schema : schemas) {
+        try (var schemaStream = schema.getInputStream()) {
+          version.write(schemaStream.readAllBytes());
+        }
+      }
+      var elementTemplates = new File(elementTemplatePath);
+      if (elementTemplates.isFile()) {
+        version.write(Files.readAllBytes(elementTemplates.toPath()));
+      }
+      version.write(String.join(",", defaultRoles).getBytes(StandardCharsets.UTF_8));
+      version.write(officerPermissionsFile.getBytes(StandardCharsets.UTF_8));
+      return FileChecksumGenerator.generateContentChecksum(version.toByteArray());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to compute the validator chain version", e);
+    }
+  }
+
+  private Map<RegulationFileType, RegulationValidator<File>> regulationTypeValidators(
+      BpmnModelCache bpmnModelCache, DmnModelCache dmnModelCache,
+      ChangeIndexCache changeIndexCache) {
     Map<RegulationFileType, RegulationValidator<File>> validators = new EnumMap<>(
         RegulationFileType.class);
     validators.put(RegulationFileType.BP_AUTH, newBpAuthFileValidator());
@@ -123,11 +289,11 @@ public class RegulationValidatorFactory {
     validators.put(RegulationFileType.ROLES, newRolesFileValidator());
     validators.put(RegulationFileType.GLOBAL_VARS, newGlobalVarsFileValidator());
     validators.put(RegulationFileType.FORMS, newFormsFileValidator());
-    validators.put(RegulationFileType.BPMN, newBpmnFileValidator());
-    validators.put(RegulationFileType.DMN, newDmnFileValidator());
+    validators.put(RegulationFileType.BPMN, newBpmnFileValidator(bpmnModelCache));
+    validators.put(RegulationFileType.DMN, newDmnFileValidator(dmnModelCache));
     validators.put(RegulationFileType.DATAFACTORY_SETTINGS, newDataFactorySettingsFileValidator());
     validators.put(RegulationFileType.REGISTRY_SETTINGS, newRegistrySettingsFileValidator());
-    validators.put(RegulationFileType.LIQUIBASE, newMainLiquibaseFileValidator());
+    validators.put(RegulationFileType.LIQUIBASE, newMainLiquibaseFileValidator(changeIndexCache));
     validators.put(RegulationFileType.EMAIL_NOTIFICATION_TEMPLATE,
         newEmailNotificationTemplateValidator());
     validators.put(RegulationFileType.INBOX_NOTIFICATION_TEMPLATE,
@@ -140,66 +306,75 @@ public class RegulationValidatorFactory {
     return validators;
   }
 
-  private Map<RegulationFileType, RegulationValidator<Collection<File>>> regulationTypeGroupValidators() {
+  private Map<RegulationFileType, RegulationValidator<Collection<File>>> regulationTypeGroupValidators(
+      BpmnModelCache bpmnModelCache) {
     return Map.of(
-        RegulationFileType.BPMN, newBpmnFileGroupValidator(),
+        RegulationFileType.BPMN, newBpmnFileGroupValidator(bpmnModelCache),
         RegulationFileType.EXCERPTS, newExcerptGroupValidator(),
         RegulationFileType.REPORTS, newReportFileGroupValidator()
     );
   }
 
   private Map<RegulationFileType, RegulationValidator<RegulationFiles>> globalRegulationTypeValidators(
-      ObjectMapper yamlObjectMapper) {
+      ObjectMapper yamlObjectMapper, BpmnModelCache bpmnModelCache,
+      RegulationIndexer regulationIndexer, ValidationExecutor validationExecutor) {
     return Map.of(
         RegulationFileType.BP_AUTH_TO_BPMN,
-        newBpAuthToProcessDefinitionIdsValidator(yamlObjectMapper),
+        newBpAuthToProcessDefinitionIdsValidator(yamlObjectMapper, regulationIndexer),
         RegulationFileType.BP_TREMBITA_TO_BPMN,
-        newBpTrembitaToBpmnProcessDefinitionIdsValidator(yamlObjectMapper),
+        newBpTrembitaToBpmnProcessDefinitionIdsValidator(yamlObjectMapper, regulationIndexer),
         RegulationFileType.BP_GROUPING_TO_BPMN,
-        newBpGroupingToBpmnProcessDefinitionIdsValidator(yamlObjectMapper),
+        newBpGroupingToBpmnProcessDefinitionIdsValidator(yamlObjectMapper, regulationIndexer),
         RegulationFileType.BPMN,
-        newBpmnFileInputsValidator(elementTemplatePath, defaultRoles),
+        newBpmnFileInputsValidator(elementTemplatePath, defaultRoles, bpmnModelCache,
+            regulationIndexer, validationExecutor),
         RegulationFileType.BP_ROLE_EXISTENCE,
-        newBpAuthToBpmnRoleExistenceValidator(),
+        newBpAuthToBpmnRoleExistenceValidator(regulationIndexer),
         RegulationFileType.REPORT_ROLE_EXISTENCE,
-        newReportRoleExistenceValidator(),
+        newReportRoleExistenceValidator(regulationIndexer),
         RegulationFileType.FORM_TO_SC,
-        newFormToSearchConditionExistenceValidator()
+        newFormToSearchConditionExistenceValidator(regulationIndexer)
     );
   }
 
   private RegulationValidator<RegulationFiles> newBpAuthToProcessDefinitionIdsValidator(
-      ObjectMapper yamlObjectMapper) {
+      ObjectMapper yamlObjectMapper, RegulationIndexer regulationIndexer) {
     return decorateGlobalValidator(GlobalCompositeRegulationFilesValidator.builder()
-        .validator(new BpAuthToBpmnProcessExistenceValidator(yamlObjectMapper))
+        .validator(new BpAuthToBpmnProcessExistenceValidator(yamlObjectMapper, regulationIndexer))
         .build());
   }
 
   private RegulationValidator<RegulationFiles> newBpmnFileInputsValidator(
-      String elementTemplatePath, List<String> defaultRoles) {
+      String elementTemplatePath, List<String> defaultRoles, BpmnModelCache bpmnModelCache,
+      RegulationIndexer regulationIndexer, ValidationExecutor validationExecutor) {
+    var elementTemplateCatalog = elementTemplateSnapshotEnabled
+        ? ElementTemplateCatalog.withSnapshot(elementTemplatePath)
+        : ElementTemplateCatalog.of(elementTemplatePath);
     return decorateGlobalValidator(GlobalCompositeRegulationFilesValidator.builder()
-        .validator(new BpmnFileInputsValidator(elementTemplatePath, defaultRoles))
+        .validator(new BpmnFileInputsValidator(elementTemplateCatalog, defaultRoles,
+            bpmnModelCache, regulationIndexer, validationExecutor))
         .build());
   }
 
   private RegulationValidator<RegulationFiles> newBpTrembitaToBpmnProcessDefinitionIdsValidator(
-      ObjectMapper yamlObjectMapper) {
+      ObjectMapper yamlObjectMapper, RegulationIndexer regulationIndexer) {
     return decorateGlobalValidator(GlobalCompositeRegulationFilesValidator.builder()
-        .validator(new BpTrembitaToBpmnProcessExistenceValidator(yamlObjectMapper))
+        .validator(new BpTrembitaToBpmnProcessExistenceValidator(yamlObjectMapper, regulationIndexer))
         .build());
   }
 
   private RegulationValidator<RegulationFiles> newBpGroupingToBpmnProcessDefinitionIdsValidator(
-      ObjectMapper yamlObjectMapper) {
+      ObjectMapper yamlObjectMapper, RegulationIndexer regulationIndexer) {
     return decorateGlobalValidator(GlobalCompositeRegulationFilesValidator.builder()
-        .validator(new BpGroupingProcessDefinitionIdValidator(yamlObjectMapper))
+        .validator(new BpGroupingProcessDefinitionIdValidator(yamlObjectMapper, regulationIndexer))
         .build());
   }
 
-  private RegulationValidator<Collection<File>> newBpmnFileGroupValidator() {
+  private RegulationValidator<Collection<File>> newBpmnFileGroupValidator(
+      BpmnModelCache bpmnModelCache) {
     return decorateGroupValidator(
         CompositeFileGroupValidator.builder()
-            .validator(new BpmnFileGroupUniqueProcessIdValidator())
+            .validator(new BpmnFileGroupUniqueProcessIdValidator(bpmnModelCache))
             .build()
     );
   }
@@ -303,22 +478,22 @@ public class RegulationValidatorFactory {
     );
   }
 
-  private RegulationValidator<File> newBpmnFileValidator() {
+  private RegulationValidator<File> newBpmnFileValidator(BpmnModelCache bpmnModelCache) {
     return decorate(
         CompositeFileValidator.builder()
             .validator(new FileExistenceValidator())
             .validator(new FileExtensionValidator())
-            .validator(new BpmnFileValidator())
+            .validator(new BpmnFileValidator(bpmnModelCache))
             .build()
     );
   }
 
-  private RegulationValidator<File> newDmnFileValidator() {
+  private RegulationValidator<File> newDmnFileValidator(DmnModelCache dmnModelCache) {
     return decorate(
         CompositeFileValidator.builder()
             .validator(new FileExistenceValidator())
             .validator(new FileExtensionValidator())
-            .validator(new DmnFileValidator())
+            .validator(new DmnFileValidator(dmnModelCache))
             .build()
     );
   }
@@ -429,7 +604,7 @@ public class RegulationValidatorFactory {
             .validator(new FileExistenceValidator())
             .validator(new FileExtensionValidator())
             .validator(
-                new DatafactorySettingsYamlRulesValidator(yamlObjectMapper, settingsYamlRuleBook))
+                new DatafactorySettingsYamlRulesValidator(yamlObjectMapper, settingsYamlRuleSet))
             .build()
     );
   }
@@ -446,12 +621,13 @@ public class RegulationValidatorFactory {
             .build());
   }
 
-  private RegulationValidator<File> newMainLiquibaseFileValidator() {
+  private RegulationValidator<File> newMainLiquibaseFileValidator(
+      ChangeIndexCache changeIndexCache) {
     return decorate(
         CompositeFileValidator.builder()
             .validator(new FileExistenceValidator())
             .validator(new FileExtensionValidator())
-            .validator(new MainLiquibaseRulesValidator(mainLiquibaseRuleBook))
+            .validator(new MainLiquibaseRulesValidator(mainLiquibaseRuleSet, changeIndexCache))
             .build()
     );
   }
@@ -469,22 +645,42 @@ public class RegulationValidatorFactory {
     );
   }
 
-  private RegulationValidator<RegulationFiles> newBpAuthToBpmnRoleExistenceValidator() {
+  private RegulationValidator<RegulationFiles> newBpAuthToBpmnRoleExistenceValidator(
+      RegulationIndexer regulationIndexer) {
     return decorateGlobalValidator(GlobalCompositeRegulationFilesValidator.builder()
-        .validator(new BpAuthToBpmnRoleExistenceValidator(yamlObjectMapper, defaultRoles))
+        .validator(new BpAuthToBpmnRoleExistenceValidator(yamlObjectMapper, defaultRoles,
+            regulationIndexer))
         .build());
   }
 
-  private RegulationValidator<RegulationFiles> newReportRoleExistenceValidator() {
+  private RegulationValidator<RegulationFiles> newReportRoleExistenceValidator(
+      RegulationIndexer regulationIndexer) {
     return decorateGlobalValidator(GlobalCompositeRegulationFilesValidator.builder()
-        .validator(new ReportRoleExistenceValidator(yamlObjectMapper, officerPermissionsFile,
-            defaultRoles))
+        .validator(new ReportRoleExistenceValidator(officerPermissionsFile, defaultRoles,
+            regulationIndexer))
         .build());
   }
 
-  private RegulationValidator<RegulationFiles> newFormToSearchConditionExistenceValidator() {
+  private RegulationValidator<RegulationFiles> newFormToSearchConditionExistenceValidator(
+      RegulationIndexer regulationIndexer) {
     return decorateGlobalValidator(GlobalCompositeRegulationFilesValidator.builder()
-        .validator(new FormToSearchConditionExistenceValidator(jsonObjectMapper))
+        .validator(new FormToSearchConditionExistenceValidator(jsonObjectMapper, regulationIndexer))
         .build());
   }
-}
\ No newline at end of file
+
+  @Getter
+  @RequiredArgsConstructor
+  private static final class ModelCaches {
+
+    private final File validationResultCacheDirectory;
+    private final String validatorChainVersion;
+    private final BpmnModelCache bpmnModelCache;
+    private final DmnModelCache dmnModelCache;
+    private final ChangeIndexCache changeIndexCache;
+
+    boolean isCreatedFor(File validationResultCacheDirectory, String validatorChainVersion) {
+      return Objects.equals(this.validationResultCacheDirectory, validationResultCacheDirectory)
+          && Objects.equals(this.validatorChainVersion, validatorChainVersion);
+    }
+  }
+}
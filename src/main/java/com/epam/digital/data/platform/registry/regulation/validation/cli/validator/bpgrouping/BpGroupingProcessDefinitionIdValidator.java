@@ -16,12 +16,14 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpgrouping;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.SymbolKind;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.SymbolTable;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpGroupingConfiguration;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -34,10 +36,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import org.camunda.bpm.model.bpmn.Bpmn;
-import org.camunda.bpm.model.bpmn.instance.BaseElement;
-import org.camunda.bpm.model.bpmn.instance.Process;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 public class BpGroupingProcessDefinitionIdValidator implements
     RegulationValidator<RegulationFiles> {
 
@@ -45,14 +46,26 @@ public class BpGroupingProcessDefinitionIdValidator implements
   private static final String NOT_EXIST_ERROR_MSG_FORMAT = "Processes with definition ids not exist: %s";
 
   private final ObjectMapper yamlObjectMapper;
+  private final RegulationIndexer regulationIndexer;
 
-  public BpGroupingProcessDefinitionIdValidator(ObjectMapper yamlObjectMapper) {
+  public BpGroupingProcessDefinitionIdValidator(ObjectMapper yamlObjectMapper,
+      RegulationIndexer regulationIndexer) {
     this.yamlObjectMapper = yamlObjectMapper;
+    this.regulationIndexer = regulationIndexer;
   }
 
   @Override
   public Set<ValidationError> validate(RegulationFiles regulationFiles, ValidationContext context) {
     Set<ValidationError> errors = Sets.newHashSet();
+    if (regulationFiles.getBpGroupingFiles().isEmpty()) {
+      return errors;
+    }
+    var regulationIndex = regulationIndexer.index(regulationFiles);
+    var processDefinitionIds = regulationIndex.get(SymbolKind.PROCESS_DEFINITION);
+    var checkExistence = regulationIndex.isComplete(SymbolKind.PROCESS_DEFINITION);
+    if (!checkExistence) {
+      log.warn("Skipping process definition existence check, not every BPMN file could be read");
+    }
     for (File file : regulationFiles.getBpGroupingFiles()) {
       try {
         var bpGroup = yamlObjectMapper.readValue(file, BpGroupingConfiguration.class);
@@ -63,8 +76,10 @@ public class BpGroupingProcessDefinitionIdValidator implements
             .collect(Collectors.toList());
         var ungroupedProcessDefinitionIds = Optional.ofNullable(bpGroup.getUngrouped()).orElse(Lists.newArrayList());
         ungroupedProcessDefinitionIds.addAll(groupsProcessDefinitionIds);
-        errors.addAll(
-            validateProcessDefinitionExistence(ungroupedProcessDefinitionIds, file, regulationFiles, context));
+        if (checkExistence) {
+          errors.addAll(
+              validateProcessDefinitionExistence(ungroupedProcessDefinitionIds, file, processDefinitionIds, context));
+        }
         errors.addAll(
             validateProcessDefinitionUnique(ungroupedProcessDefinitionIds, file, context));
       } catch (IOException e) {
@@ -77,9 +92,8 @@ public class BpGroupingProcessDefinitionIdValidator implements
 
 
   private Set<ValidationError> validateProcessDefinitionExistence(List<String> groupDefinitionIds,
-      File bpGroupFile, RegulationFiles regulationFiles, ValidationContext context) {
+      File bpGroupFile, SymbolTable processDefinitionIds, ValidationContext context) {
 
-    var processDefinitionIds = BpmnUtil.getBpmnFilesProcessDefinitionsId(regulationFiles);
     var nonExistentIds = groupDefinitionIds.stream()
         .filter(id -> !processDefinitionIds.contains(id))
         .collect(Collectors.toSet());
@@ -16,11 +16,14 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndex;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.SymbolKind;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
 import com.google.common.collect.Sets;
+import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.instance.BaseElement;
 import org.camunda.bpm.model.bpmn.instance.Process;
@@ -28,13 +31,20 @@ import org.camunda.bpm.model.bpmn.instance.Process;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 public abstract class AbstractBpToBpmnProcessExistenceValidator implements RegulationValidator<RegulationFiles> {
 
-  public Set<ValidationError> validateBpFiles(Collection<File> bpFiles, Set<String> existingBpmnProcessIds, ValidationContext context) {
+  public Set<ValidationError> validateBpFiles(Collection<File> bpFiles, RegulationIndex regulationIndex, ValidationContext context) {
+    if (!regulationIndex.isComplete(SymbolKind.PROCESS_DEFINITION)) {
+      log.warn("Skipping process definition existence check, not every BPMN file could be read");
+      return Collections.emptySet();
+    }
+    var existingBpmnProcessIds = regulationIndex.get(SymbolKind.PROCESS_DEFINITION).getNames();
     Set<ValidationError> errors = Sets.newHashSet();
 
     for (File bpFile : bpFiles) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.ElementTemplate.Property.Binding;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary.TemplatedElement;
+import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.SetMultimap;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Values of the element template bindings of an activity, taken from the {@link TemplatedElement}
+ * of a BPMN summary in a single pass and keyed by binding type and binding name, so every
+ * template property is resolved with a lookup instead of a query of its own.
+ */
+@RequiredArgsConstructor
+final class ActivityBindings {
+
+  private final Function<String, String> attributeValues;
+  private final SetMultimap<Key, String> extensionValues;
+
+  static ActivityBindings of(TemplatedElement templatedElement) {
+    return of(templatedElement, EnumSet.allOf(BindingType.class));
+  }
+
+  /**
+   * Takes the extension bindings of the given types only, the types an element template binds.
+   */
+  static ActivityBindings of(TemplatedElement templatedElement, Set<BindingType> bindingTypes) {
+    SetMultimap<Key, String> values = MultimapBuilder.hashKeys().hashSetValues().build();
+    for (var binding : templatedElement.getExtensionBindings()) {
+      BindingType.of(binding.getType())
+          .filter(bindingTypes::contains)
+          .ifPresent(bindingType ->
+              put(values, bindingType, binding.getName(), binding.getValue()));
+    }
+    return new ActivityBindings(templatedElement::getAttributeValue, values);
+  }
+
+  Set<String> get(BindingType bindingType, String bindingName) {
+    if (bindingType == BindingType.PROPERTY) {
+      return getAttributeValues(bindingName);
+    }
+    return extensionValues.get(new Key(bindingType, bindingName));
+  }
+
+  private Set<String> getAttributeValues(String attributeName) {
+    var attributeValue = attributeValues.apply(attributeName);
+    return Objects.isNull(attributeValue) ? Set.of() : Set.of(attributeValue);
+  }
+
+  private static void put(SetMultimap<Key, String> values, BindingType bindingType,
+      String bindingName, String value) {
+    if (Objects.nonNull(bindingName) && Objects.nonNull(value)) {
+      values.put(new Key(bindingType, bindingName), value);
+    }
+  }
+
+  /**
+   * Element template binding types. Output bindings are named by their source, all the other
+   * bindings by their name.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  enum BindingType {
+
+    PROPERTY("property", false, false),
+    CAMUNDA_PROPERTY("camunda:property", true, false),
+    CAMUNDA_IN("camunda:in", true, false),
+    CAMUNDA_OUT("camunda:out", true, true),
+    CAMUNDA_INPUT_PARAMETER("camunda:inputParameter", true, false),
+    CAMUNDA_OUTPUT_PARAMETER("camunda:outputParameter", true, true);
+
+    private final String name;
+    private final boolean extensionElement;
+    private final boolean namedBySource;
+
+    static Optional<BindingType> of(String name) {
+      return Arrays.stream(values())
+          .filter(bindingType -> bindingType.name.equals(name))
+          .findFirst();
+    }
+
+    String getBindingName(Binding binding) {
+      return namedBySource ? binding.getSource() : binding.getName();
+    }
+  }
+
+  @Value
+  private static class Key {
+
+    BindingType bindingType;
+    String bindingName;
+  }
+}
@@ -16,11 +16,11 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpAuthConfiguration;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 
@@ -33,12 +33,13 @@ import java.util.stream.Collectors;
 public class BpAuthToBpmnProcessExistenceValidator extends AbstractBpToBpmnProcessExistenceValidator {
 
   private final ObjectMapper yamlObjectMapper;
+  private final RegulationIndexer regulationIndexer;
 
   @Override
   public Set<ValidationError> validate(RegulationFiles regulationFiles, ValidationContext context) {
-    Set<String> bpmnFilesProcessDefinitionsIds = BpmnUtil.getBpmnFilesProcessDefinitionsId(regulationFiles);
+    var regulationIndex = regulationIndexer.index(regulationFiles);
 
-    return validateBpFiles(regulationFiles.getBpAuthFiles(), bpmnFilesProcessDefinitionsIds, context);
+    return validateBpFiles(regulationFiles.getBpAuthFiles(), regulationIndex, context);
   }
 
   @Override
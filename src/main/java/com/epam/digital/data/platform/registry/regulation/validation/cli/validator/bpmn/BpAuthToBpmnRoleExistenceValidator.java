@@ -16,8 +16,9 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.SymbolKind;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpAuthConfiguration;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpRoleConfiguration;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
@@ -30,7 +31,6 @@ import lombok.RequiredArgsConstructor;
 import java.io.File;
 import java.io.IOException;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.springframework.util.CollectionUtils;
 
 @RequiredArgsConstructor
@@ -38,11 +38,11 @@ public class BpAuthToBpmnRoleExistenceValidator implements RegulationValidator<R
 
   private final ObjectMapper yamlObjectMapper;
   private final List<String> defaultRoles;
+  private final RegulationIndexer regulationIndexer;
 
   @Override
   public Set<ValidationError> validate(RegulationFiles regulation, ValidationContext context) {
     Set<BpAuthConfiguration> processConfigs = new HashSet<>();
-    Set<String> existingRoles = new HashSet<>();
     Set<ValidationError> errors = new HashSet<>();
 
     for (File file : regulation.getBpAuthFiles()) {
@@ -55,23 +55,19 @@ public class BpAuthToBpmnRoleExistenceValidator implements RegulationValidator<R
       }
     }
 
-    for (File file : regulation.getRolesFiles()) {
-
-      try {
-        existingRoles.addAll(getExistingRolesInBpFile(file));
-      } catch (IOException e) {
-        errors.add(
-            ValidationError.of(context.getRegulationFileType(), file,
-                String.format("Exception during reading file %s", e.getMessage())));
-      }
-    }
-    if (!CollectionUtils.isEmpty(defaultRoles)) {
-      existingRoles.addAll(defaultRoles);
+    var regulationIndex = regulationIndexer.index(regulation);
+    for (var failure : regulationIndex.getFailures(SymbolKind.ROLE)) {
+      errors.add(
+          ValidationError.of(context.getRegulationFileType(), failure.getFile(),
+              String.format("Exception during reading file %s", failure.getCause().getMessage())));
     }
+    var existingRoles = regulationIndex.get(SymbolKind.ROLE);
+    Set<String> defaultRoleNames = CollectionUtils.isEmpty(defaultRoles)
+        ? Set.of() : new HashSet<>(defaultRoles);
     processConfigs.forEach(config -> config.getAuthorization().getProcessDefinitions().stream()
         .flatMap(definition -> definition.getRoles().stream())
         .distinct()
-        .filter(roleName -> !existingRoles.contains(roleName))
+        .filter(roleName -> !existingRoles.contains(roleName) && !defaultRoleNames.contains(roleName))
         .forEach(roleName -> errors.add(
             ValidationError.of(context.getRegulationFileType(), config.getRegulationFile(),
                 String.format("Role with name : %s does not exists", roleName)))));
@@ -86,9 +82,4 @@ public class BpAuthToBpmnRoleExistenceValidator implements RegulationValidator<R
     return configuration;
   }
 
-  private Set<String> getExistingRolesInBpFile(File bpFile) throws IOException {
-    return yamlObjectMapper.readValue(bpFile, BpRoleConfiguration.class)
-        .getRoles().stream().map(BpRoleConfiguration.Role::getName).collect(Collectors.toSet());
-  }
-
 }
@@ -16,11 +16,11 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpTrembitaConfiguration;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.File;
@@ -30,16 +30,19 @@ import java.util.stream.Collectors;
 
 public class BpTrembitaToBpmnProcessExistenceValidator extends AbstractBpToBpmnProcessExistenceValidator {
   private final ObjectMapper yamlObjectMapper;
+  private final RegulationIndexer regulationIndexer;
 
-  public BpTrembitaToBpmnProcessExistenceValidator(ObjectMapper yamlObjectMapper) {
+  public BpTrembitaToBpmnProcessExistenceValidator(ObjectMapper yamlObjectMapper,
+      RegulationIndexer regulationIndexer) {
     this.yamlObjectMapper = yamlObjectMapper;
+    this.regulationIndexer = regulationIndexer;
   }
 
   @Override
   public Set<ValidationError> validate(RegulationFiles regulationFiles, ValidationContext context) {
-    Set<String> bpmnFilesProcessDefinitionsIds = BpmnUtil.getBpmnFilesProcessDefinitionsId(regulationFiles);
+    var regulationIndex = regulationIndexer.index(regulationFiles);
 
-    return validateBpFiles(regulationFiles.getBpTrembitaFiles(), bpmnFilesProcessDefinitionsIds, context);
+    return validateBpFiles(regulationFiles.getBpTrembitaFiles(), regulationIndex, context);
   }
 
   @Override
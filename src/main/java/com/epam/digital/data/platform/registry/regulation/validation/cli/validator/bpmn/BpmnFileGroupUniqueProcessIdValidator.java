@@ -16,6 +16,7 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
@@ -23,32 +24,34 @@ import com.google.common.collect.Sets;
 import java.io.File;
 import java.util.Collection;
 import java.util.Set;
-import org.camunda.bpm.model.bpmn.Bpmn;
-import org.camunda.bpm.model.bpmn.instance.Process;
+import lombok.RequiredArgsConstructor;
 
+@RequiredArgsConstructor
 public class BpmnFileGroupUniqueProcessIdValidator implements RegulationValidator<Collection<File>> {
 
   private static final String DUPLICATED_PROCESS_ID_ERROR_MSG_FORMAT = "[%s] Process_id не унікальний";
 
+  private final BpmnModelCache bpmnModelCache;
+
   @Override
   public Set<ValidationError> validate(Collection<File> bpmnFiles, ValidationContext context) {
     Set<String> processIds = Sets.newHashSet();
     Set<ValidationError> errors = Sets.newHashSet();
     bpmnFiles.forEach(file -> {
-      Bpmn.readModelFromFile(file).getModelElementsByType(Process.class).forEach(process -> {
-        if (processIds.contains(process.getId())) {
-          errors.add(toValidationError(process, file, context));
+      bpmnModelCache.summary(file).getProcessDefinitionsId().forEach(processId -> {
+        if (processIds.contains(processId)) {
+          errors.add(toValidationError(processId, file, context));
         }
-        processIds.add(process.getId());
+        processIds.add(processId);
       });
     });
     return errors;
   }
 
-  private ValidationError toValidationError(Process process, File regulationFile,
+  private ValidationError toValidationError(String processId, File regulationFile,
       ValidationContext validationContext) {
     return ValidationError.builder()
-        .errorMessage(String.format(DUPLICATED_PROCESS_ID_ERROR_MSG_FORMAT, process.getId()))
+        .errorMessage(String.format(DUPLICATED_PROCESS_ID_ERROR_MSG_FORMAT, processId))
         .regulationFileType(validationContext.getRegulationFileType())
         .regulationFile(regulationFile)
         .build();
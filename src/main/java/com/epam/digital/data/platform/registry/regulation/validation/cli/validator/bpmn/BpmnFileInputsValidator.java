@@ -16,196 +16,163 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
 
-import com.epam.digital.data.platform.liquibase.extension.change.core.DdmCreateCompositeEntityChange;
-import com.epam.digital.data.platform.liquibase.extension.change.core.DdmCreateSearchConditionChange;
-import com.epam.digital.data.platform.liquibase.extension.change.core.DdmCreateTableChange;
-import com.epam.digital.data.platform.liquibase.extension.change.core.DdmDropSearchConditionChange;
-import com.epam.digital.data.platform.liquibase.extension.change.core.DdmPartialUpdateChange;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.exception.FileProcessingException;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpTrembitaExternalSystemsConfiguration.ExternalSystem;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.model.ElementTemplate;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.model.ElementTemplate.Property;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndex;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.SymbolKind;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
-import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnUtil;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.google.common.annotations.VisibleForTesting;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.ElementTemplateCatalog.IndexedTemplate;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.ElementTemplateCatalog.TemplateProperty;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary.TemplatedElement;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
 import com.google.common.collect.Sets;
 import java.util.stream.Stream;
-import liquibase.change.Change;
-import liquibase.exception.LiquibaseException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.camunda.bpm.model.bpmn.Bpmn;
-import org.camunda.bpm.model.bpmn.BpmnModelInstance;
-import org.camunda.bpm.model.bpmn.instance.Activity;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaIn;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaInputOutput;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaInputParameter;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaOut;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaOutputParameter;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperties;
-import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperty;
-import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.util.CollectionUtils;
 
 import java.io.File;
-import java.io.IOException;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiFunction;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
-import static com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.MainLiquibaseUtil.getAllChanges;
-import static com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.MainLiquibaseUtil.getDatabaseChangeLog;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_NS;
-
 @Slf4j
 public class BpmnFileInputsValidator implements RegulationValidator<RegulationFiles> {
 
-  private static final Map<String, BiFunction<Activity, Property, Set<String>>> GET_VALUES_FOR_VALIDATION_FUNCTIONS = Map.of(
-      "property", BpmnFileInputsValidator::getAttributeValuesFromActivity,
-      "camunda:property", BpmnFileInputsValidator::getPropertyValueFromActivity,
-      "camunda:in", BpmnFileInputsValidator::getInValueFromActivity,
-      "camunda:out", BpmnFileInputsValidator::getOutValueFromActivity,
-      "camunda:inputParameter", BpmnFileInputsValidator::getInputParameterValueFromActivity,
-      "camunda:outputParameter", BpmnFileInputsValidator::getOutputParameterValueFromActivity
-  );
-
-  private static Set<String> tableNames;
-  private static Set<String> compositeEntityNames;
-  private static Set<String> partialUpdateEntityNames;
-  private static Map<String, ExternalSystem> externalSystems;
-  private static Set<String> externalSystemNames;
-  private static Set<String> externalSystemOperationNames;
-  private static Set<String> searchConditionNames;
-  private static Set<String> existingFormFileNames;
-
-  private final Map<String, Function<String, Boolean>> INPUT_VALIDATION_FUNCTIONS = Map.ofEntries(
-      Map.entry("role.name", (role) -> this.allRoles.contains(role)),
-      Map.entry("table.rest-api-name", (table) -> tableNames.contains(table)),
-      Map.entry("composite-entity.rest-api-name", (compositeEntity) -> compositeEntityNames.contains(compositeEntity)),
-      Map.entry("partial-update.rest-api-name", (partialUpdate) -> partialUpdateEntityNames.contains(partialUpdate)),
-      Map.entry("external-system.name", (externalSystemName) -> externalSystemNames.contains(externalSystemName)),
-      Map.entry("external-system.operation.name", (externalSystemOperationName) -> externalSystemOperationNames.contains(externalSystemOperationName)),
-      Map.entry("search-condition.rest-api-name", (scName) -> searchConditionNames.contains(scName)),
-      Map.entry("excerpt.name", (excerptName) -> this.excerptNames.contains(excerptName)),
-      Map.entry("notification.template.name", (notificationName) -> this.notificationNames.contains(notificationName)),
-      Map.entry("process.id", (processId) -> this.processIds.contains(processId)),
-      Map.entry("form.name", (formName) -> existingFormFileNames.contains(formName))
+  private static final Map<String, BiPredicate<InputLookup, String>> INPUT_VALIDATION_FUNCTIONS = Map.ofEntries(
+      Map.entry("role.name", InputLookup::isRole),
+      Map.entry("table.rest-api-name", (lookup, table) -> lookup.containsRestApiName(SymbolKind.TABLE, table)),
+      Map.entry("composite-entity.rest-api-name", (lookup, compositeEntity) -> lookup.containsRestApiName(SymbolKind.COMPOSITE_ENTITY, compositeEntity)),
+      Map.entry("partial-update.rest-api-name", (lookup, partialUpdate) -> lookup.containsRestApiName(SymbolKind.PARTIAL_UPDATE, partialUpdate)),
+      Map.entry("external-system.name", (lookup, externalSystemName) -> lookup.contains(SymbolKind.EXTERNAL_SYSTEM, externalSystemName)),
+      Map.entry("external-system.operation.name", (lookup, externalSystemOperationName) -> lookup.contains(SymbolKind.EXTERNAL_SYSTEM_OPERATION, externalSystemOperationName)),
+      Map.entry("search-condition.rest-api-name", (lookup, scName) -> lookup.containsRestApiName(SymbolKind.SEARCH_CONDITION, scName)),
+      Map.entry("excerpt.name", (lookup, excerptName) -> lookup.contains(SymbolKind.EXCERPT, excerptName)),
+      Map.entry("notification.template.name", (lookup, notificationName) -> lookup.contains(SymbolKind.NOTIFICATION_TEMPLATE, notificationName)),
+      Map.entry("process.id", (lookup, processId) -> lookup.contains(SymbolKind.PROCESS_DEFINITION, processId)),
+      Map.entry("form.name", (lookup, formName) -> lookup.contains(SymbolKind.FORM, formName))
   );
 
-  private final Map<String, ElementTemplate> elementTemplates;
-  private final List<String> defaultRoles;
-  private Set<String> processIds;
-  private Set<String> allRoles;
-  private Set<String> excerptNames;
-  private Set<String> notificationNames;
-
-  public BpmnFileInputsValidator(String elementTemplatePath, List<String> defaultRoles) {
-    this.defaultRoles = defaultRoles;
-    var jsonFile = new File(elementTemplatePath);
-
-    var objectMapper = new Jackson2ObjectMapperBuilder()
-        .failOnUnknownProperties(false)
-        .build();
-
-    try {
-      elementTemplates = objectMapper.readValue(jsonFile, new ElementTemplateListTypeReference())
-          .stream()
-          .collect(Collectors.toMap(ElementTemplate::getId, Function.identity()));
-    } catch (IOException e) {
-      throw new IllegalStateException("During reading elementTemplates file occurred error.", e);
-    }
+  private final ElementTemplateCatalog elementTemplateCatalog;
+  private final BpmnModelCache bpmnModelCache;
+  private final RegulationIndexer regulationIndexer;
+  private final ValidationExecutor validationExecutor;
+  private final Set<String> defaultRoleNames;
+
+  public BpmnFileInputsValidator(String elementTemplatePath, List<String> defaultRoles,
+      BpmnModelCache bpmnModelCache, RegulationIndexer regulationIndexer) {
+    this(ElementTemplateCatalog.of(elementTemplatePath), defaultRoles, bpmnModelCache,
+        regulationIndexer, ValidationExecutor.sequential());
+  }
+
+  /**
+   * The element templates are only loaded from the catalog when the first templated activity is
+   * validated. The validator holds no state of a validation run, so it may validate several
+   * regulations concurrently. The BPMN files of a regulation are validated in parallel by the
+   * given executor.
+   */
+  public BpmnFileInputsValidator(ElementTemplateCatalog elementTemplateCatalog,
+      List<String> defaultRoles, BpmnModelCache bpmnModelCache,
+      RegulationIndexer regulationIndexer, ValidationExecutor validationExecutor) {
+    this.elementTemplateCatalog = elementTemplateCatalog;
+    this.bpmnModelCache = bpmnModelCache;
+    this.regulationIndexer = regulationIndexer;
+    this.validationExecutor = validationExecutor;
+    this.defaultRoleNames = Set.copyOf(
+        Objects.requireNonNullElse(defaultRoles, Collections.emptySet()));
   }
 
   @Override
   public Set<ValidationError> validate(RegulationFiles regulationFiles, ValidationContext context) {
     Set<ValidationError> errors = Sets.newHashSet();
-    init(regulationFiles, context, errors);
-    regulationFiles.getBpmnFiles()
-        .forEach(bpmn -> errors.addAll(
-            validateElementTemplateParameters(loadProcessModel(bpmn), bpmn, context)
-        ));
+    var lookup = init(regulationFiles, context, errors);
+    validationExecutor.map(regulationFiles.getBpmnFiles(),
+            bpmn -> validateElementTemplateParameters(bpmn, lookup, context))
+        .forEach(errors::addAll);
     return errors;
   }
 
-  private void init(RegulationFiles regulationFiles, ValidationContext context, Set<ValidationError> errors) {
-    processIds = BpmnUtil.getBpmnFilesProcessDefinitionsId(regulationFiles);
-    allRoles = getAllRoles(regulationFiles);
-    notificationNames = getNotificationNames(regulationFiles);
-    existingFormFileNames = getAllFormName(regulationFiles);
-
+  /**
+   * A BPMN file that cannot be read is reported by the validation of the BPMN files themselves,
+   * so its inputs are skipped instead of failing the validation of the other files.
+   */
+  private Set<ValidationError> validateElementTemplateParameters(File bpmn, InputLookup lookup,
+      ValidationContext context) {
+    BpmnSummary bpmnSummary;
     try {
-      externalSystems = getExternalSystems(regulationFiles);
-      externalSystemNames = getExternalSystemNames();
-      externalSystemOperationNames = getExternalSystemOperationNames();
-      excerptNames = getExcerptNames(regulationFiles);
-      var liquibaseFiles = regulationFiles.getLiquibaseFiles();
-      if (!liquibaseFiles.isEmpty()) {
-        var mainLiquibase = liquibaseFiles.iterator().next();
-
-        var changes = getChanges(mainLiquibase);
-        tableNames = getTableNames(changes);
-        compositeEntityNames = getCompositeEntityNames(changes);
-        partialUpdateEntityNames = getPartialUpdateEntityNames(changes);
-        searchConditionNames = getFilteredSearchConditions(changes);
-      }
-    } catch (FileProcessingException e) {
-      errors.add(ValidationError.of(context.getRegulationFileType(), e.getFile(),
-          e.getMessage(), e)
-      );
+      bpmnSummary = bpmnModelCache.summary(bpmn);
+    } catch (RuntimeException e) {
+      log.warn("Skipping inputs validation of unreadable BPMN file {}", bpmn.getName(), e);
+      return Collections.emptySet();
     }
+    return validateElementTemplateParameters(bpmnSummary, bpmn, lookup, context);
   }
 
-  private Set<ValidationError> validateElementTemplateParameters(BpmnModelInstance bpmnModel,
-                                                                 File regulationFile, ValidationContext validationContext) {
+  private InputLookup init(RegulationFiles regulationFiles, ValidationContext context,
+      Set<ValidationError> errors) {
+    var regulationIndex = regulationIndexer.index(regulationFiles);
+
+    Stream.of(SymbolKind.ROLE, SymbolKind.EXTERNAL_SYSTEM, SymbolKind.TABLE)
+        .flatMap(kind -> regulationIndex.getFailures(kind).stream())
+        .filter(e -> e.getFile().exists())
+        .forEach(e -> errors.add(ValidationError.of(context.getRegulationFileType(), e.getFile(),
+            e.getMessage(), e)));
+    return new InputLookup(regulationIndex, defaultRoleNames);
+  }
+
+  /**
+   * Validates the templated activities of the BPMN summary, which holds the values of their
+   * bindings, so the DOM of the file is never built.
+   */
+  private Set<ValidationError> validateElementTemplateParameters(BpmnSummary bpmnSummary,
+      File regulationFile, InputLookup lookup, ValidationContext validationContext) {
     var validationErrors = new HashSet<ValidationError>();
-    var elements = bpmnModel.getModelElementsByType(Activity.class)
+    var elements = bpmnSummary.getTemplatedElements()
         .stream()
-        .filter(element -> Objects.nonNull(
-            element.getAttributeValueNs(CAMUNDA_NS, "modelerTemplate")))
+        .filter(TemplatedElement::isActivity)
         .collect(Collectors.toList());
 
     for (var element : elements) {
-      var modelerTemplate = element.getAttributeValueNs(CAMUNDA_NS, "modelerTemplate");
-      var elementTemplate = elementTemplates.get(modelerTemplate);
+      var modelerTemplate = element.getModelerTemplate();
+      var elementTemplate = elementTemplateCatalog.get(modelerTemplate).orElse(null);
       if (Objects.isNull(elementTemplate)) {
         log.warn("No element template with id {} found", modelerTemplate);
         continue;
       }
-      validationErrors.addAll(
-          validateElementAgainstElementTemplate(element, elementTemplate, regulationFile, validationContext));
+      validationErrors.addAll(validateElementAgainstElementTemplate(element, elementTemplate,
+          regulationFile, lookup, validationContext));
     }
     return validationErrors;
   }
 
-  private Set<ValidationError> validateElementAgainstElementTemplate(Activity activity, ElementTemplate elementTemplate,
-                                                                     File regulationFile, ValidationContext validationContext) {
-    var properties = elementTemplate.getProperties();
+  private Set<ValidationError> validateElementAgainstElementTemplate(TemplatedElement activity,
+      IndexedTemplate elementTemplate, File regulationFile, InputLookup lookup,
+      ValidationContext validationContext) {
+    var activityBindings = ActivityBindings.of(activity, elementTemplate.getBindingTypes());
 
-    return properties.stream()
-        .map(property -> validatePropertyInElement(activity, property, regulationFile,
-            validationContext))
+    return elementTemplate.getProperties().stream()
+        .map(property -> validatePropertyInElement(activity, activityBindings, property,
+            regulationFile, lookup, validationContext))
         .filter(Objects::nonNull)
         .collect(Collectors.toSet());
   }
 
-  private ValidationError validatePropertyInElement(Activity activity, ElementTemplate.Property property,
-                                                    File regulationFile, ValidationContext validationContext) {
-    var getValuesFunction = GET_VALUES_FOR_VALIDATION_FUNCTIONS.get(
-        property.getBinding().getType());
-    var propertyValueSet = getValuesFunction.apply(activity, property);
+  private ValidationError validatePropertyInElement(TemplatedElement activity,
+      ActivityBindings activityBindings, TemplateProperty property, File regulationFile,
+      InputLookup lookup, ValidationContext validationContext) {
+    var propertyValueSet = activityBindings.get(property.getBindingType(),
+        property.getBindingName());
 
     if (propertyValueSet.size() > 1) {
       return ValidationError.of(validationContext.getRegulationFileType(), regulationFile,
@@ -215,262 +182,66 @@ public class BpmnFileInputsValidator implements RegulationValidator<RegulationFi
 
     String propertyValue = CollectionUtils.firstElement(propertyValueSet);
 
-    if (property.getConstraints().isNotEmpty() && StringUtils.isBlank(propertyValue)) {
+    if (property.isNotEmpty() && StringUtils.isBlank(propertyValue)) {
       return ValidationError.of(validationContext.getRegulationFileType(), regulationFile,
           String.format("In task %s in process %s input parameter %s is empty",
               activity.getId(), regulationFile.getName(), property.getBinding()));
     }
 
-    String type = property.getConstraints().getType();
-    if (!StringUtils.isBlank(type) && !StringUtils.isBlank(propertyValue)) {
+    var inputType = property.getInputType();
+    if (!StringUtils.isBlank(inputType) && !StringUtils.isBlank(propertyValue)) {
       if (isExpression(propertyValue)){
         log.warn(String.format("Unable to validate property due to dynamic value: %s", propertyValue));
         return null;
       }
-      var inputValidationFunction = INPUT_VALIDATION_FUNCTIONS.get(type);
-      try {
-        if (Objects.nonNull(inputValidationFunction) && !inputValidationFunction.apply(propertyValue)) {
-          return ValidationError.of(validationContext.getRegulationFileType(), regulationFile,
-              String.format("In task %s of process %s, the input parameter %s doesn't exist",
-                  activity.getId(), regulationFile.getName(), property.getBinding()));
-        }
-      } catch (FileProcessingException e) {
-        return ValidationError.of(validationContext.getRegulationFileType(), regulationFile, e.getMessage());
+      var inputValidationFunction = INPUT_VALIDATION_FUNCTIONS.get(inputType);
+      if (Objects.nonNull(inputValidationFunction)
+          && !inputValidationFunction.test(lookup, propertyValue)) {
+        return ValidationError.of(validationContext.getRegulationFileType(), regulationFile,
+            String.format("In task %s of process %s, the input parameter %s doesn't exist",
+                activity.getId(), regulationFile.getName(), property.getBinding()));
       }
     }
     return null;
   }
 
-  private BpmnModelInstance loadProcessModel(File regulationFile) {
-    return Bpmn.readModelFromFile(regulationFile);
+  private Boolean isExpression(String input) {
+    return (input.startsWith("${") || input.startsWith("#{")) && input.endsWith("}");
   }
 
-  @VisibleForTesting
-  static Set<String> getAttributeValuesFromActivity(Activity activity, Property property) {
-    var attributeName = property.getBinding().getName();
-    var namespaceAndName = attributeName.split(":");
-
-    var attributeValue = namespaceAndName.length == 1 ?
-        activity.getAttributeValue(attributeName) :
-        activity.getAttributeValueNs(CAMUNDA_NS, namespaceAndName[1]);
+  /**
+   * Immutable lookups of the regulation symbols the BPMN inputs may refer to, built once per
+   * validation run and shared by the validation of all the BPMN files.
+   */
+  @RequiredArgsConstructor
+  private static final class InputLookup {
 
-    return Objects.isNull(attributeValue) ? Set.of() : Set.of(attributeValue);
-  }
+    private final RegulationIndex regulationIndex;
+    private final Set<String> defaultRoleNames;
+    private final Map<SymbolKind, Set<String>> restApiNames = new ConcurrentHashMap<>();
 
-  @VisibleForTesting
-  static Set<String> getPropertyValueFromActivity(Activity activity, Property property) {
-    var propertyName = property.getBinding().getName();
-    var extensionElements = activity.getExtensionElements();
-    if (Objects.isNull(extensionElements)) {
-      return Set.of();
+    boolean isRole(String role) {
+      return defaultRoleNames.contains(role) || contains(SymbolKind.ROLE, role);
     }
-    return extensionElements.getElementsQuery()
-        .filterByType(CamundaProperties.class)
-        .list()
-        .stream()
-        .flatMap(camundaProperties -> camundaProperties.getCamundaProperties().stream())
-        .filter(prop -> prop.getCamundaName().equals(propertyName))
-        .map(CamundaProperty::getCamundaValue)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
-  }
 
-  @VisibleForTesting
-  static Set<String> getInValueFromActivity(Activity activity, Property property) {
-    var propertyName = property.getBinding().getName();
-    var extensionElements = activity.getExtensionElements();
-    if (Objects.isNull(extensionElements)) {
-      return Set.of();
+    /**
+     * A process id missing from an incomplete index may be defined in an unreadable BPMN file,
+     * which is already reported on its own, so it is not reported as missing.
+     */
+    boolean contains(SymbolKind kind, String name) {
+      return regulationIndex.get(kind).contains(name)
+          || kind == SymbolKind.PROCESS_DEFINITION && !regulationIndex.isComplete(kind);
     }
-    return extensionElements.getElementsQuery()
-        .filterByType(CamundaIn.class)
-        .list()
-        .stream()
-        .filter(in -> in.getAttributeValue("target").equals(propertyName))
-        .map(in -> in.getAttributeValue("sourceExpression"))
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
-  }
-
-  @VisibleForTesting
-  static Set<String> getOutValueFromActivity(Activity activity, Property property) {
-    var propertyName = property.getBinding().getSource();
-    var extensionElements = activity.getExtensionElements();
-    if (Objects.isNull(extensionElements)) {
-      return Set.of();
-    }
-    return extensionElements.getElementsQuery()
-        .filterByType(CamundaOut.class)
-        .list()
-        .stream()
-        .filter(in -> in.getAttributeValue("source").equals(propertyName))
-        .map(in -> in.getAttributeValue("target"))
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
-  }
 
-  @VisibleForTesting
-  static Set<String> getInputParameterValueFromActivity(Activity activity, Property property) {
-    var propertyName = property.getBinding().getName();
-    var extensionElements = activity.getExtensionElements();
-    if (Objects.isNull(extensionElements)) {
-      return Set.of();
+    /**
+     * Rest API names are the Liquibase names with underscores replaced by hyphens, so the input
+     * has to be spelled with hyphens to match.
+     */
+    boolean containsRestApiName(SymbolKind kind, String restApiName) {
+      return restApiNames.computeIfAbsent(kind, key -> regulationIndex.get(key).getNames().stream()
+              .map(name -> name.replace('_', '-'))
+              .collect(Collectors.toSet()))
+          .contains(restApiName);
     }
-    return extensionElements.getElementsQuery()
-        .filterByType(CamundaInputOutput.class)
-        .list()
-        .stream()
-        .flatMap(cio -> cio.getCamundaInputParameters().stream())
-        .filter(cip -> cip.getCamundaName().equals(propertyName))
-        .map(CamundaInputParameter::getTextContent)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
-  }
-
-  @VisibleForTesting
-  static Set<String> getOutputParameterValueFromActivity(Activity activity, Property property) {
-    var propertyName = property.getBinding().getSource();
-    var extensionElements = activity.getExtensionElements();
-    if (Objects.isNull(extensionElements)) {
-      return Set.of();
-    }
-    return extensionElements.getElementsQuery()
-        .filterByType(CamundaInputOutput.class)
-        .list()
-        .stream()
-        .flatMap(cio -> cio.getCamundaOutputParameters().stream())
-        .filter(cop -> cop.getTextContent().equals(propertyName))
-        .map(CamundaOutputParameter::getCamundaName)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
-  }
-
-  private Set<String> getAllRoles(RegulationFiles regulationFiles) {
-    Set<String> roles = BpmnUtil.getRoles(regulationFiles);
-    roles.addAll(Objects.requireNonNullElse(defaultRoles, Collections.emptySet()));
-    return roles;
-  }
-
-  private Set<String> getAllFormName(RegulationFiles regulationFiles) {
-    return regulationFiles.getFormFiles().stream()
-        .map(file -> FilenameUtils.removeExtension(file.getName()))
-        .collect(Collectors.toSet());
-  }
-
-  private Set<String> getTableNames(List<Change> changes) {
-    return changes.stream()
-        .filter(change -> DdmCreateTableChange.class.isAssignableFrom(change.getClass()))
-        .map(change -> ((DdmCreateTableChange) change).getTableName().replaceAll("_", "-"))
-        .collect(Collectors.toSet());
-  }
-
-  private Set<String> getFilteredSearchConditions(List<Change> changes) {
-    Set<String> searchConditionsNames = changes.stream()
-        .filter(Objects::nonNull)
-        .flatMap(change -> {
-          if (change instanceof DdmCreateSearchConditionChange) {
-            return Stream.of(((DdmCreateSearchConditionChange) change).getName());
-          }
-          if (change instanceof DdmDropSearchConditionChange) {
-            return Stream.of(((DdmDropSearchConditionChange) change).getName());
-          } else {
-            return Stream.empty();
-          }
-        })
-        .collect(Collectors.toSet());
-
-    searchConditionsNames.removeIf(name -> getLastCriteriaChangeForName(changes,
-        name) instanceof DdmDropSearchConditionChange);
-
-    return searchConditionsNames.stream()
-        .map(s -> s.replaceAll("_", "-"))
-        .collect(Collectors.toSet());
-  }
-
-  private Change getLastCriteriaChangeForName(List<Change> changes, String name) {
-    return changes.stream()
-        .filter(change -> change instanceof DdmCreateSearchConditionChange ||
-            change instanceof DdmDropSearchConditionChange)
-        .filter(change -> {
-          if (change instanceof DdmCreateSearchConditionChange) {
-            return ((DdmCreateSearchConditionChange) change).getName().equals(name);
-          } else {
-            return ((DdmDropSearchConditionChange) change).getName().equals(name);
-          }
-        })
-        .reduce((first, second) -> second)
-        .orElse(null);
-  }
-
-  private Set<String> getCompositeEntityNames(List<Change> changes) {
-    return changes.stream()
-        .filter(change -> DdmCreateCompositeEntityChange.class.isAssignableFrom(change.getClass()))
-        .map(change -> ((DdmCreateCompositeEntityChange) change).getName().replaceAll("_", "-"))
-        .collect(Collectors.toSet());
-  }
-
-  private Set<String> getPartialUpdateEntityNames(List<Change> changes) {
-    return changes.stream()
-        .filter(change -> DdmPartialUpdateChange.class.isAssignableFrom(change.getClass()))
-        .map(change -> ((DdmPartialUpdateChange) change).getName().replaceAll("_", "-"))
-        .collect(Collectors.toSet());
-  }
-
-  private Map<String, ExternalSystem> getExternalSystems(RegulationFiles regulationFiles) {
-    return BpmnUtil.getTrembitaExternalSystems(regulationFiles);
-  }
-
-  private Set<String> getExternalSystemNames() {
-    return externalSystems.keySet();
-  }
-
-  private Set<String> getExternalSystemOperationNames() {
-    return externalSystems.values().stream()
-        .map(externalSystem -> externalSystem.getOperations().keySet())
-        .flatMap(Set::stream)
-        .collect(Collectors.toSet());
-  }
-
-  private Set<String> getExcerptNames(RegulationFiles regulationFiles) {
-    return regulationFiles.getExcerptFiles().stream()
-        .flatMap(dir -> Arrays.stream(Objects.requireNonNull(dir.listFiles(file -> !file.isHidden()))))
-        .map(file -> file.isDirectory() ? file.getName() : FilenameUtils.getBaseName(file.getName()))
-        .filter(StringUtils::isNotBlank)
-        .collect(Collectors.toSet());
-  }
-
-  private Set<String> getNotificationNames(RegulationFiles regulationFiles) {
-    return Stream.of(regulationFiles.getDiiaNotificationTemplateDirectory(),
-            regulationFiles.getEmailNotificationTemplateDirectory(),
-            regulationFiles.getInboxNotificationTemplateDirectory())
-        .flatMap(dir -> getNotificationNamesByDir(dir).stream())
-        .collect(Collectors.toSet());
-  }
-
-  private Set<String> getNotificationNamesByDir(Collection<File> notificationDir) {
-    return notificationDir.stream()
-        .filter(File::isDirectory)
-        .flatMap(dir -> Arrays.stream(Objects.requireNonNull(dir.listFiles(File::isDirectory))))
-        .map(File::getName)
-        .collect(Collectors.toSet());
-  }
-
-  private Boolean isExpression(String input) {
-    return (input.startsWith("${") || input.startsWith("#{")) && input.endsWith("}");
-  }
-
-  private List<Change> getChanges(File mainLiquibase) {
-    try {
-      return getAllChanges(getDatabaseChangeLog(mainLiquibase));
-    } catch (LiquibaseException e) {
-      throw new FileProcessingException(
-          String.format("A failure occurred while processing file %s", mainLiquibase.getName()), mainLiquibase, e);
-
-    }
-  }
-
-  private static class ElementTemplateListTypeReference extends
-      TypeReference<List<ElementTemplate>> {
-
   }
 }
@@ -16,12 +16,13 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.parser.ModelParsers;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.JuelFunctionScanner.FunctionCall;
 import java.io.File;
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -29,13 +30,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelException;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.camunda.bpm.model.bpmn.instance.Process;
@@ -46,6 +44,7 @@ import org.camunda.bpm.model.xml.ModelValidationException;
 import org.camunda.bpm.model.xml.instance.ModelElementInstance;
 
 @Slf4j
+@RequiredArgsConstructor
 public class BpmnFileValidator implements RegulationValidator<File> {
 
   private static final String MISSING_PROCESS_NAME_ERROR_MSG_FORMAT = "Process definition '%s' must have 'name' attribute defined";
@@ -55,14 +54,17 @@ public class BpmnFileValidator implements RegulationValidator<File> {
       "message_payload", List.of(ModelElementInstance.class),
       "sign_submission", List.of(Task.class, StartEvent.class),
       "submission", List.of(Task.class, StartEvent.class));
+  private static final JuelFunctionScanner juelFunctionScanner =
+      JuelFunctionScanner.of(juelFunctions.keySet());
+
+  private final BpmnModelCache bpmnModelCache;
 
   @Override
   public Set<ValidationError> validate(File regulationFile, ValidationContext validationContext) {
     try {
-      var bpmnModel = loadProcessModel(regulationFile);
-      var xmlContent = FileUtils.readFileToString(regulationFile);
-      return validateProcessModel(bpmnModel, regulationFile, validationContext, xmlContent);
-    } catch (BpmnModelException | ModelParseException | IOException ex) {
+      return bpmnModelCache.read(regulationFile,
+          bpmnModel -> validateProcessModel(bpmnModel, regulationFile, validationContext));
+    } catch (BpmnModelException | ModelParseException ex) {
       return Collections.singleton(
           ValidationError.of(validationContext.getRegulationFileType(), regulationFile,
               createErrorMsg(ex), ex)
@@ -78,13 +80,13 @@ public class BpmnFileValidator implements RegulationValidator<File> {
   }
 
   private Set<ValidationError> validateProcessModel(BpmnModelInstance bpmnModel,
-      File regulationFile, ValidationContext validationContext, String xmlContent) {
+      File regulationFile, ValidationContext validationContext) {
     var errors = new LinkedHashSet<ValidationError>();
     errors.addAll(validateSchema(bpmnModel, regulationFile, validationContext));
     errors.addAll(validateProcess(bpmnModel, regulationFile, validationContext));
-    juelFunctions.forEach(
-        (key, value) -> validateJuelFunction(key, value, bpmnModel, regulationFile,
-            validationContext, xmlContent, errors));
+    juelFunctionScanner.scan(bpmnModel).forEach(
+        functionCall -> validateJuelFunction(functionCall, bpmnModel, regulationFile,
+            validationContext, errors));
 
     return errors;
   }
@@ -92,7 +94,7 @@ public class BpmnFileValidator implements RegulationValidator<File> {
   private Set<ValidationError> validateSchema(BpmnModelInstance bpmnModel, File regulationFile,
       ValidationContext validationContext) {
     try {
-      Bpmn.validateModel(bpmnModel);
+      ModelParsers.validateBpmnModel(bpmnModel);
       return Collections.emptySet();
     } catch (ModelValidationException ex) {
       return Collections.singleton(
@@ -111,47 +113,23 @@ public class BpmnFileValidator implements RegulationValidator<File> {
         .collect(Collectors.toSet());
   }
 
-  private void validateJuelFunction(String functionName,
-      List<Class<?>> modelElementClass, BpmnModelInstance bpmnModel,
-      File regulationFile, ValidationContext validationContext, String xmlContent,
-      Set<ValidationError> errors) {
-    var values = getJuelFunctionsValues(functionName, xmlContent);
-
-    for (var value : values) {
-      var valueWithoutQuotes = extractValue(value);
-      if (Objects.isNull(valueWithoutQuotes)) {
-        log.warn(
-            String.format(UNABLE_VALIDATE_JUEL_FUNCTION_MSG_FORMAT, functionName, value));
-        continue;
-      }
-      var element = bpmnModel.getModelElementById(valueWithoutQuotes);
-      if (Objects.isNull(element) || modelElementClass.stream()
-          .noneMatch(c -> c.isAssignableFrom(element.getClass()))) {
-        errors.add(ValidationError.of(validationContext.getRegulationFileType(), regulationFile,
-            String.format("Element id %s not found for %s() juel function", value, functionName)));
-      }
+  private void validateJuelFunction(FunctionCall functionCall, BpmnModelInstance bpmnModel,
+      File regulationFile, ValidationContext validationContext, Set<ValidationError> errors) {
+    var functionName = functionCall.getFunctionName();
+    var value = functionCall.getArgument();
+    var valueWithoutQuotes = JuelFunctionScanner.getStringLiteral(value);
+    if (Objects.isNull(valueWithoutQuotes)) {
+      log.warn(
+          String.format(UNABLE_VALIDATE_JUEL_FUNCTION_MSG_FORMAT, functionName, value));
+      return;
     }
-  }
-
-  private List<String> getJuelFunctionsValues(String functionName, String xmlContent) {
-    String pattern = "(?<!\\w)" + functionName + "\\((.*?)\\)";
-    Pattern regexPattern = Pattern.compile(pattern);
-    Matcher matcher = regexPattern.matcher(xmlContent);
-    List<String> values = new ArrayList<>();
-    while (matcher.find()) {
-      values.add(matcher.group(1));
+    var modelElementClass = juelFunctions.get(functionName);
+    var element = bpmnModel.getModelElementById(valueWithoutQuotes);
+    if (Objects.isNull(element) || modelElementClass.stream()
+        .noneMatch(c -> c.isAssignableFrom(element.getClass()))) {
+      errors.add(ValidationError.of(validationContext.getRegulationFileType(), regulationFile,
+          String.format("Element id %s not found for %s() juel function", value, functionName)));
     }
-    return values;
-  }
-
-  private String extractValue(String value) {
-    String pattern = "^(\"[^\"']*\"|'[^\"']*')$";
-    Pattern regexPattern = Pattern.compile(pattern);
-    Matcher matcher = regexPattern.matcher(value);
-    if (matcher.matches()) {
-      return value.substring(1, value.length() - 1);
-    }
-    return null;
   }
 
   private ValidationError toValidationError(Process process, File regulationFile,
@@ -162,8 +140,4 @@ public class BpmnFileValidator implements RegulationValidator<File> {
         .errorMessage(String.format(MISSING_PROCESS_NAME_ERROR_MSG_FORMAT, process.getId()))
         .build();
   }
-
-  private BpmnModelInstance loadProcessModel(File regulationFile) {
-    return Bpmn.readModelFromFile(regulationFile);
-  }
 }
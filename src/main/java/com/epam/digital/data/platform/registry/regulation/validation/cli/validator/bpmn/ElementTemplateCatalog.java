@@ -0,0 +1,227 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.ElementTemplate;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.ElementTemplate.Property.Binding;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.AtomicFileWriter;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.utils.FileChecksumGenerator;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.ActivityBindings.BindingType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Element templates of the BPMN modeler indexed by template id, with the properties of every
+ * template resolved to their binding type and binding name.
+ *
+ * <p>The element template file is large, so it is only read when the first templated element is
+ * validated. With snapshots enabled, the index is also stored next to the element template file
+ * together with the checksum of the file, and is reused instead of binding the file as long as
+ * the checksum is unchanged. Snapshots never fail a validation: unreadable snapshots are ignored
+ * and failed writes are only logged.
+ */
+@Slf4j
+public class ElementTemplateCatalog {
+
+  static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+  private static final ObjectMapper OBJECT_MAPPER = new Jackson2ObjectMapperBuilder()
+      .failOnUnknownProperties(false)
+      .build();
+
+  private final File elementTemplateFile;
+  private final boolean snapshotEnabled;
+  private volatile Map<String, IndexedTemplate> templates;
+
+  private ElementTemplateCatalog(File elementTemplateFile, boolean snapshotEnabled) {
+    this.elementTemplateFile = elementTemplateFile;
+    this.snapshotEnabled = snapshotEnabled;
+  }
+
+  public static ElementTemplateCatalog of(String elementTemplatePath) {
+    return new ElementTemplateCatalog(new File(elementTemplatePath), false);
+  }
+
+  public static ElementTemplateCatalog withSnapshot(String elementTemplatePath) {
+    return new ElementTemplateCatalog(new File(elementTemplatePath), true);
+  }
+
+  Optional<IndexedTemplate> get(String templateId) {
+    return Optional.ofNullable(getTemplates().get(templateId));
+  }
+
+  boolean isLoaded() {
+    return templates != null;
+  }
+
+  private Map<String, IndexedTemplate> getTemplates() {
+    var result = templates;
+    if (result == null) {
+      synchronized (this) {
+        result = templates;
+        if (result == null) {
+          result = load();
+          templates = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private Map<String, IndexedTemplate> load() {
+    byte[] content;
+    try (var inputStream = new FileInputStream(elementTemplateFile)) {
+      content = inputStream.readAllBytes();
+    } catch (IOException e) {
+      throw new IllegalStateException("During reading elementTemplates file occurred error.", e);
+    }
+    if (!snapshotEnabled) {
+      return toMap(index(content));
+    }
+    var checksum = FileChecksumGenerator.generateContentChecksum(content);
+    var snapshotTemplates = readSnapshot(checksum);
+    if (snapshotTemplates.isPresent()) {
+      return toMap(snapshotTemplates.get());
+    }
+    var indexedTemplates = index(content);
+    writeSnapshot(checksum, indexedTemplates);
+    return toMap(indexedTemplates);
+  }
+
+  private static List<IndexedTemplate> index(byte[] content) {
+    try {
+      return OBJECT_MAPPER.readValue(content, new ElementTemplateListTypeReference()).stream()
+          .map(ElementTemplateCatalog::index)
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new IllegalStateException("During reading elementTemplates file occurred error.", e);
+    }
+  }
+
+  private static IndexedTemplate index(ElementTemplate elementTemplate) {
+    var properties = new ArrayList<TemplateProperty>();
+    var bindingTypes = EnumSet.noneOf(BindingType.class);
+    for (var property : elementTemplate.getProperties()) {
+      var binding = property.getBinding();
+      var bindingType = BindingType.of(binding.getType());
+      if (bindingType.isEmpty()) {
+        log.warn("Binding type {} of element template {} is not supported", binding.getType(),
+            elementTemplate.getId());
+        continue;
+      }
+      bindingTypes.add(bindingType.get());
+      properties.add(new TemplateProperty(binding, bindingType.get(),
+          bindingType.get().getBindingName(binding), property.getConstraints().isNotEmpty(),
+          property.getConstraints().getType()));
+    }
+    return new IndexedTemplate(elementTemplate.getId(), List.copyOf(properties), bindingTypes);
+  }
+
+  private Optional<List<IndexedTemplate>> readSnapshot(String checksum) {
+    var snapshotFile = getSnapshotFile();
+    try {
+      var snapshot = OBJECT_MAPPER.readValue(snapshotFile, Snapshot.class);
+      return checksum.equals(snapshot.getChecksum())
+          ? Optional.of(snapshot.getTemplates()) : Optional.empty();
+    } catch (NoSuchFileException | FileNotFoundException e) {
+      return Optional.empty();
+    } catch (IOException | RuntimeException e) {
+      log.warn("Ignoring unreadable element template snapshot {}", snapshotFile, e);
+      return Optional.empty();
+    }
+  }
+
+  private void writeSnapshot(String checksum, List<IndexedTemplate> indexedTemplates) {
+    var snapshotFile = getSnapshotFile();
+    var snapshot = new Snapshot();
+    snapshot.setChecksum(checksum);
+    snapshot.setTemplates(indexedTemplates);
+    try {
+      AtomicFileWriter.write(snapshotFile.toPath(), OBJECT_MAPPER.writeValueAsBytes(snapshot));
+    } catch (IOException e) {
+      log.warn("Failed to store element template snapshot {}", snapshotFile, e);
+    }
+  }
+
+  File getSnapshotFile() {
+    return new File(elementTemplateFile.getPath() + SNAPSHOT_SUFFIX);
+  }
+
+  private static Map<String, IndexedTemplate> toMap(List<IndexedTemplate> indexedTemplates) {
+    return indexedTemplates.stream()
+        .collect(Collectors.toUnmodifiableMap(IndexedTemplate::getId, Function.identity()));
+  }
+
+  /**
+   * Element template reduced to the properties the validation needs, with the binding types they
+   * use, so only the bindings of those types are collected from a templated element.
+   */
+  @Value
+  @Builder
+  @Jacksonized
+  static class IndexedTemplate {
+
+    String id;
+    List<TemplateProperty> properties;
+    Set<BindingType> bindingTypes;
+  }
+
+  @Value
+  @Builder
+  @Jacksonized
+  static class TemplateProperty {
+
+    Binding binding;
+    BindingType bindingType;
+    String bindingName;
+    boolean notEmpty;
+    String inputType;
+  }
+
+  @Data
+  @NoArgsConstructor
+  static class Snapshot {
+
+    private String checksum;
+    private List<IndexedTemplate> templates = new ArrayList<>();
+  }
+
+  private static class ElementTemplateListTypeReference extends
+      TypeReference<List<ElementTemplate>> {
+
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.Value;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.w3c.dom.Node;
+
+/**
+ * Finds the calls of the given JUEL functions in the attribute values and text content of a
+ * parsed BPMN model.
+ *
+ * <p>All the function names are matched by a single precompiled pattern, so every attribute value
+ * and text node is scanned once, whatever the number of functions. The model DOM is walked in
+ * place, without serializing the model or reading the BPMN file again.
+ */
+final class JuelFunctionScanner {
+
+  private final Pattern functionCallPattern;
+
+  private JuelFunctionScanner(Pattern functionCallPattern) {
+    this.functionCallPattern = functionCallPattern;
+  }
+
+  static JuelFunctionScanner of(Collection<String> functionNames) {
+    var functionNameAlternatives = functionNames.stream()
+        .map(Pattern::quote)
+        .collect(Collectors.joining("|"));
+    return new JuelFunctionScanner(
+        Pattern.compile("(?<!\\w)(" + functionNameAlternatives + ")\\((.*?)\\)"));
+  }
+
+  /**
+   * Returns the function calls in document order.
+   */
+  List<FunctionCall> scan(BpmnModelInstance bpmnModel) {
+    var functionCalls = new ArrayList<FunctionCall>();
+    var nodes = new ArrayDeque<Node>();
+    nodes.push(bpmnModel.getDocument().getDomSource().getNode());
+    while (!nodes.isEmpty()) {
+      var node = nodes.pop();
+      if (node.getNodeType() == Node.TEXT_NODE || node.getNodeType() == Node.CDATA_SECTION_NODE) {
+        scan(node.getNodeValue(), functionCalls);
+        continue;
+      }
+      var attributes = node.getAttributes();
+      if (Objects.nonNull(attributes)) {
+        for (var i = 0; i < attributes.getLength(); i++) {
+          scan(attributes.item(i).getNodeValue(), functionCalls);
+        }
+      }
+      var children = node.getChildNodes();
+      for (var i = children.getLength() - 1; i >= 0; i--) {
+        nodes.push(children.item(i));
+      }
+    }
+    return functionCalls;
+  }
+
+  private void scan(String content, List<FunctionCall> functionCalls) {
+    if (Objects.isNull(content) || content.indexOf('(') < 0) {
+      return;
+    }
+    var matcher = functionCallPattern.matcher(content);
+    while (matcher.find()) {
+      functionCalls.add(new FunctionCall(matcher.group(1), matcher.group(2)));
+    }
+  }
+
+  /**
+   * Returns the argument without the enclosing quotes if it is a single quoted string literal,
+   * {@code null} otherwise.
+   */
+  static String getStringLiteral(String argument) {
+    if (argument.length() < 2) {
+      return null;
+    }
+    var quote = argument.charAt(0);
+    if ((quote != '"' && quote != '\'') || argument.charAt(argument.length() - 1) != quote) {
+      return null;
+    }
+    for (var i = 1; i < argument.length() - 1; i++) {
+      var c = argument.charAt(i);
+      if (c == '"' || c == '\'') {
+        return null;
+      }
+    }
+    return argument.substring(1, argument.length() - 1);
+  }
+
+  @Value
+  static class FunctionCall {
+
+    String functionName;
+    String argument;
+  }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util;
+
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN20_NS;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_NS;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+import org.camunda.bpm.model.bpmn.BpmnModelException;
+
+/**
+ * Facts about a BPMN file needed by the cross-reference checks: process definitions and elements
+ * bound to element templates with the values of their bindings.
+ *
+ * <p>The summary is read in a single forward pass of a StAX reader, which is much cheaper than
+ * building the DOM of a {@link org.camunda.bpm.model.bpmn.BpmnModelInstance}, so the DOM is only
+ * built for the checks going through the element structure. Summaries only depend on the content
+ * of the file and are serializable, so they can be stored between validation runs.
+ */
+@Value
+@Builder
+@Jacksonized
+public class BpmnSummary {
+
+  public static final String CAMUNDA_PREFIX = "camunda:";
+
+  private static final String MODELER_TEMPLATE_ATTRIBUTE = "modelerTemplate";
+  private static final Set<String> ACTIVITIES = Set.of("task", "sendTask", "receiveTask",
+      "serviceTask", "userTask", "manualTask", "businessRuleTask", "scriptTask", "callActivity",
+      "subProcess", "adHocSubProcess", "transaction");
+  private static final XMLInputFactory XML_INPUT_FACTORY = newXmlInputFactory();
+
+  List<ProcessDefinition> processDefinitions;
+  List<TemplatedElement> templatedElements;
+
+  @JsonIgnore
+  public List<String> getProcessDefinitionsId() {
+    return processDefinitions.stream()
+        .map(ProcessDefinition::getId)
+        .collect(Collectors.toList());
+  }
+
+  public static BpmnSummary read(InputStream inputStream) {
+    var summaryReader = new SummaryReader();
+    try (inputStream) {
+      var reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+      try {
+        while (reader.hasNext()) {
+          summaryReader.accept(reader, reader.next());
+        }
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException | IOException e) {
+      throw new BpmnModelException("Cannot read BPMN summary", e);
+    }
+    return summaryReader.toSummary();
+  }
+
+  private static XMLInputFactory newXmlInputFactory() {
+    var factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  @Value
+  @Builder
+  @Jacksonized
+  public static class ProcessDefinition {
+
+    String id;
+    String name;
+  }
+
+  /**
+   * Element bound to an element template. Attributes are keyed by their local name, or by
+   * {@code camunda:}-prefixed local name for the Camunda namespace, and extension bindings are
+   * listed in document order.
+   */
+  @Value
+  @Builder
+  @Jacksonized
+  public static class TemplatedElement {
+
+    String id;
+    String modelerTemplate;
+    boolean activity;
+    Map<String, String> attributes;
+    List<ExtensionBinding> extensionBindings;
+
+    /**
+     * Value of an attribute named like in element template bindings, any prefix standing for the
+     * Camunda namespace.
+     */
+    public String getAttributeValue(String attributeName) {
+      var namespaceAndName = attributeName.split(":");
+      return namespaceAndName.length == 1
+          ? attributes.get(attributeName)
+          : attributes.get(CAMUNDA_PREFIX + namespaceAndName[1]);
+    }
+  }
+
+  /**
+   * Value of a Camunda extension element of a templated element, typed by the element template
+   * binding type it is resolved by, for instance {@code camunda:in}.
+   */
+  @Value
+  @Builder
+  @Jacksonized
+  public static class ExtensionBinding {
+
+    String type;
+    String name;
+    String value;
+  }
+
+  /**
+   * Tracks the elements open at the current position of the reader. Extension bindings are only
+   * taken from the {@code extensionElements} child of the innermost templated element.
+   */
+  private static final class SummaryReader {
+
+    private final List<ProcessDefinition> processDefinitions = new ArrayList<>();
+    private final List<TemplatedElementReader> templatedElements = new ArrayList<>();
+    private final Deque<TemplatedElementReader> openTemplatedElements = new ArrayDeque<>();
+    private int depth;
+
+    void accept(XMLStreamReader reader, int event) {
+      var current = openTemplatedElements.peek();
+      switch (event) {
+        case XMLStreamConstants.START_ELEMENT:
+          depth++;
+          if (isElement(reader, BPMN20_NS, "process")) {
+            processDefinitions.add(new ProcessDefinition(reader.getAttributeValue(null, "id"),
+                reader.getAttributeValue(null, "name")));
+          }
+          readAttributes(reader);
+          if (Objects.nonNull(current)) {
+            current.startElement(reader, depth);
+          }
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          if (Objects.nonNull(current)) {
+            current.endElement(depth);
+            if (current.depth == depth) {
+              openTemplatedElements.pop();
+            }
+          }
+          depth--;
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          if (Objects.nonNull(current)) {
+            current.text(reader);
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    private void readAttributes(XMLStreamReader reader) {
+      String modelerTemplate = null;
+      for (var i = 0; i < reader.getAttributeCount(); i++) {
+        var value = reader.getAttributeValue(i);
+        if (CAMUNDA_NS.equals(reader.getAttributeNamespace(i))
+            && MODELER_TEMPLATE_ATTRIBUTE.equals(reader.getAttributeLocalName(i))) {
+          modelerTemplate = value;
+        }
+      }
+      if (Objects.nonNull(modelerTemplate)) {
+        var templatedElement = new TemplatedElementReader(reader, modelerTemplate, depth);
+        templatedElements.add(templatedElement);
+        openTemplatedElements.push(templatedElement);
+      }
+    }
+
+    BpmnSummary toSummary() {
+      return new BpmnSummary(List.copyOf(processDefinitions), templatedElements.stream()
+          .map(TemplatedElementReader::toTemplatedElement)
+          .collect(Collectors.toUnmodifiableList()));
+    }
+  }
+
+  /**
+   * Collects the bindings of a templated element the way the Camunda model exposes them: the
+   * {@code camunda:property}, {@code camunda:in} and {@code camunda:out} elements by their
+   * attributes and the input and output parameters by their name and text content.
+   */
+  private static final class TemplatedElementReader {
+
+    private final String id;
+    private final String modelerTemplate;
+    private final boolean activity;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final List<ExtensionBinding> extensionBindings = new ArrayList<>();
+    private final int depth;
+    private int extensionElementsDepth = -1;
+    private int containerDepth = -1;
+    private String containerName;
+    private int parameterDepth = -1;
+    private String parameterName;
+    private String parameterAttribute;
+    private StringBuilder parameterText;
+
+    TemplatedElementReader(XMLStreamReader reader, String modelerTemplate, int depth) {
+      this.id = reader.getAttributeValue(null, "id");
+      this.modelerTemplate = modelerTemplate;
+      this.activity = BPMN20_NS.equals(reader.getNamespaceURI())
+          && ACTIVITIES.contains(reader.getLocalName());
+      this.depth = depth;
+      for (var i = 0; i < reader.getAttributeCount(); i++) {
+        var namespace = reader.getAttributeNamespace(i);
+        if (Objects.isNull(namespace) || namespace.isEmpty()) {
+          attributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        } else if (CAMUNDA_NS.equals(namespace)) {
+          attributes.put(CAMUNDA_PREFIX + reader.getAttributeLocalName(i),
+              reader.getAttributeValue(i));
+        }
+      }
+    }
+
+    void startElement(XMLStreamReader reader, int elementDepth) {
+      if (elementDepth == depth + 1 && isElement(reader, BPMN20_NS, "extensionElements")) {
+        extensionElementsDepth = elementDepth;
+      } else if (extensionElementsDepth > 0 && elementDepth == extensionElementsDepth + 1) {
+        startExtensionElement(reader, elementDepth);
+      } else if (containerDepth > 0 && elementDepth == containerDepth + 1) {
+        startContainedElement(reader, elementDepth);
+      }
+    }
+
+    private void startExtensionElement(XMLStreamReader reader, int elementDepth) {
+      if (!CAMUNDA_NS.equals(reader.getNamespaceURI())) {
+        return;
+      }
+      switch (reader.getLocalName()) {
+        case "properties":
+        case "inputOutput":
+          containerDepth = elementDepth;
+          containerName = reader.getLocalName();
+          break;
+        case "in":
+          addBinding("camunda:in", reader.getAttributeValue(null, "target"),
+              reader.getAttributeValue(null, "sourceExpression"));
+          break;
+        case "out":
+          addBinding("camunda:out", reader.getAttributeValue(null, "source"),
+              reader.getAttributeValue(null, "target"));
+          break;
+        default:
+          break;
+      }
+    }
+
+    private void startContainedElement(XMLStreamReader reader, int elementDepth) {
+      if (!CAMUNDA_NS.equals(reader.getNamespaceURI())) {
+        return;
+      }
+      var localName = reader.getLocalName();
+      if ("properties".equals(containerName) && "property".equals(localName)) {
+        addBinding("camunda:property", reader.getAttributeValue(null, "name"),
+            reader.getAttributeValue(null, "value"));
+      } else if ("inputOutput".equals(containerName)
+          && ("inputParameter".equals(localName) || "outputParameter".equals(localName))) {
+        parameterDepth = elementDepth;
+        parameterName = localName;
+        parameterAttribute = reader.getAttributeValue(null, "name");
+        parameterText = new StringBuilder();
+      }
+    }
+
+    void text(XMLStreamReader reader) {
+      if (parameterDepth > 0) {
+        parameterText.append(reader.getTextCharacters(), reader.getTextStart(),
+            reader.getTextLength());
+      }
+    }
+
+    void endElement(int elementDepth) {
+      if (elementDepth == parameterDepth) {
+        if ("inputParameter".equals(parameterName)) {
+          addBinding("camunda:inputParameter", parameterAttribute, parameterText.toString());
+        } else {
+          addBinding("camunda:outputParameter", parameterText.toString(), parameterAttribute);
+        }
+        parameterDepth = -1;
+        parameterText = null;
+      } else if (elementDepth == containerDepth) {
+        containerDepth = -1;
+        containerName = null;
+      } else if (elementDepth == extensionElementsDepth) {
+        extensionElementsDepth = -1;
+      }
+    }
+
+    private void addBinding(String type, String name, String value) {
+      if (Objects.nonNull(name) && Objects.nonNull(value)) {
+        extensionBindings.add(new ExtensionBinding(type, name, value));
+      }
+    }
+
+    TemplatedElement toTemplatedElement() {
+      return new TemplatedElement(id, modelerTemplate, activity, Map.copyOf(attributes),
+          List.copyOf(extensionBindings));
+    }
+  }
+
+  private static boolean isElement(XMLStreamReader reader, String namespace, String localName) {
+    return namespace.equals(reader.getNamespaceURI()) && localName.equals(reader.getLocalName());
+  }
+}
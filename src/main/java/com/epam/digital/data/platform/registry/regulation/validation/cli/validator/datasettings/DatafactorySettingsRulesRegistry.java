@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules.DatabaseNameDoesNotMatchPatternRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules.PackageDoesNotMatchPatternRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules.RetentionPolicyReadRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules.RetentionPolicyWriteRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules.SubpackageIsJavaReservedWordRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules.VersionDoesNotMatchPatternRule;
+import java.util.List;
+
+/**
+ * Datafactory settings rules in {@link RulesOrder}. A new rule has to be registered here as well,
+ * the rules package is not scanned.
+ */
+public final class DatafactorySettingsRulesRegistry {
+
+    private static final List<Class<?>> RULES = List.of(
+            VersionDoesNotMatchPatternRule.class,
+            PackageDoesNotMatchPatternRule.class,
+            DatabaseNameDoesNotMatchPatternRule.class,
+            SubpackageIsJavaReservedWordRule.class,
+            RetentionPolicyReadRule.class,
+            RetentionPolicyWriteRule.class);
+
+    private DatafactorySettingsRulesRegistry() {
+    }
+
+    public static List<Class<?>> ruleClasses() {
+        return RULES;
+    }
+}
@@ -19,12 +19,12 @@ package com.epam.digital.data.platform.registry.regulation.validation.cli.valida
 import com.deliveredtechnologies.rulebook.Fact;
 import com.deliveredtechnologies.rulebook.FactMap;
 import com.deliveredtechnologies.rulebook.NameValueReferableMap;
-import com.deliveredtechnologies.rulebook.model.RuleBook;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.DatafactorySettingsYaml;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.FactNames;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationRuleSet;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.File;
@@ -34,19 +34,19 @@ import java.util.Collections;
 import java.util.Set;
 
 public class DatafactorySettingsYamlRulesValidator implements RegulationValidator<File> {
-    private final RuleBook<Set<ValidationError>> settingsYamlRuleBook;
+    private final ValidationRuleSet settingsYamlRuleSet;
     private final ObjectMapper yamlObjectMapper;
 
-    public DatafactorySettingsYamlRulesValidator(ObjectMapper yamlObjectMapper, RuleBook<Set<ValidationError>> settingsYamlRuleBook) {
+    public DatafactorySettingsYamlRulesValidator(ObjectMapper yamlObjectMapper, ValidationRuleSet settingsYamlRuleSet) {
         this.yamlObjectMapper = yamlObjectMapper;
-        this.settingsYamlRuleBook = settingsYamlRuleBook;
+        this.settingsYamlRuleSet = settingsYamlRuleSet;
     }
 
     @Override
     public Set<ValidationError> validate(File regulationFile, ValidationContext context) {
         try {
-            settingsYamlRuleBook.run(getSettingsYamlFacts(regulationFile, context));
-            return settingsYamlRuleBook.getResult().get().getValue();
+            var settingsYamlFacts = getSettingsYamlFacts(regulationFile, context);
+            return settingsYamlRuleSet.run(settingsYamlFacts);
         } catch (IOException e) {
             return Collections.singleton(
                     ValidationError.of(context.getRegulationFileType(), regulationFile, "SettingsYaml file processing failure", e)
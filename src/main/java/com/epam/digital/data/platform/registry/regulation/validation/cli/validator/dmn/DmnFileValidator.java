@@ -16,23 +16,36 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.dmn;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.DmnModelCache;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
 import java.io.File;
 import java.util.Collections;
 import java.util.Set;
-import org.camunda.bpm.model.dmn.Dmn;
 import org.camunda.bpm.model.dmn.DmnModelException;
 import org.camunda.bpm.model.xml.ModelValidationException;
 
 public class DmnFileValidator implements RegulationValidator<File> {
 
+  private final DmnModelCache dmnModelCache;
+
+  public DmnFileValidator() {
+    this(new DmnModelCache());
+  }
+
+  /**
+   * The decisions of every valid DMN file are stored in the given cache, so they are indexed
+   * without parsing the file again.
+   */
+  public DmnFileValidator(DmnModelCache dmnModelCache) {
+    this.dmnModelCache = dmnModelCache;
+  }
+
   @Override
   public Set<ValidationError> validate(File regulationFile, ValidationContext validationContext) {
     try {
-      var dmnModelInstance = Dmn.readModelFromFile(regulationFile);
-      Dmn.validateModel(dmnModelInstance);
+      dmnModelCache.validate(regulationFile);
       return Collections.emptySet();
     } catch (DmnModelException ex) {
       return Collections.singleton(
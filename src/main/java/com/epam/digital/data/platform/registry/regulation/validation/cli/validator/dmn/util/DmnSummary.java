@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.dmn.util;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Value;
+import org.camunda.bpm.model.dmn.DmnModelInstance;
+import org.camunda.bpm.model.dmn.instance.Decision;
+
+/**
+ * Facts about a DMN file needed by the cross-reference checks: the decision requirements graph,
+ * which is the {@code definitions} element of the file, and the ids of its decisions.
+ */
+@Value
+public class DmnSummary {
+
+  String decisionRequirementsId;
+  String decisionRequirementsName;
+  List<String> decisionIds;
+
+  public static DmnSummary of(DmnModelInstance dmnModel) {
+    var definitions = dmnModel.getDefinitions();
+    var decisionIds = dmnModel.getModelElementsByType(Decision.class).stream()
+        .map(Decision::getId)
+        .collect(Collectors.toUnmodifiableList());
+    return new DmnSummary(definitions.getId(), definitions.getName(), decisionIds);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+/**
+ * Runs validation tasks on a bounded fork-join pool.
+ *
+ * <p>Results are always returned in the order of the submitted items, so the error output does
+ * not depend on the thread scheduling. With parallelism of {@code 1} no pool is created and all
+ * the tasks are executed on the calling thread.
+ */
+public class ValidationExecutor implements AutoCloseable {
+
+  private static final String WORKER_THREAD_NAME_FORMAT = "validation-worker-%d";
+
+  @Getter
+  private final int parallelism;
+  private final ForkJoinPool pool;
+
+  private ValidationExecutor(int parallelism) {
+    Assert.isTrue(parallelism > 0, "Parallelism must be positive");
+
+    this.parallelism = parallelism;
+    this.pool = parallelism == 1 ? null : newPool(parallelism);
+  }
+
+  public static ValidationExecutor of(int parallelism) {
+    return new ValidationExecutor(parallelism);
+  }
+
+  public static ValidationExecutor sequential() {
+    return new ValidationExecutor(1);
+  }
+
+  public static int defaultParallelism() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  public <T, R> List<R> map(Collection<T> items, Function<T, R> task) {
+    if (pool == null || items.size() < 2) {
+      return items.stream().map(task).collect(Collectors.toList());
+    }
+    return pool.submit(() -> items.parallelStream().map(task).collect(Collectors.toList())).join();
+  }
+
+  public Executor asExecutor() {
+    return pool == null ? Runnable::run : pool;
+  }
+
+  @Override
+  public void close() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  private static ForkJoinPool newPool(int parallelism) {
+    var classLoader = Thread.currentThread().getContextClassLoader();
+    var threadCounter = new AtomicInteger();
+    ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = forkJoinPool -> {
+      var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+      thread.setName(String.format(WORKER_THREAD_NAME_FORMAT, threadCounter.incrementAndGet()));
+      // fat-jar classes (liquibase extensions, camunda model) must be visible to the workers
+      thread.setContextClassLoader(classLoader);
+      return thread;
+    };
+    return new ForkJoinPool(parallelism, threadFactory, null, false);
+  }
+}
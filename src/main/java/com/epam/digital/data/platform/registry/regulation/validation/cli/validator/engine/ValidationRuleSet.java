@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine;
+
+import com.deliveredtechnologies.rulebook.NameValueReferableMap;
+import com.deliveredtechnologies.rulebook.Result;
+import com.deliveredtechnologies.rulebook.model.Rule;
+import com.deliveredtechnologies.rulebook.model.RuleBook;
+import com.deliveredtechnologies.rulebook.model.rulechain.cor.CoRRuleBook;
+import com.deliveredtechnologies.rulebook.model.runner.RuleAdapter;
+import com.deliveredtechnologies.rulebook.model.runner.RuleBookRunner;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.google.common.base.Suppliers;
+import java.io.InvalidClassException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Ordered set of RuleBook POJO rules producing validation errors, safe to run concurrently.
+ *
+ * <p>A {@link RuleBookRunner} keeps the result of its last run and its default result is a single
+ * shared instance, so runs of one runner must not interleave. Each {@link #run(NameValueReferableMap)
+ * run} of a rule set instead builds a rule book of its own, with new rule instances and a new
+ * result, so nothing but the list of rule classes is shared between runs.
+ *
+ * <p>The rule classes come from a registry maintained next to the rules rather than from a
+ * classpath scan, and are resolved once, on the first run, so commands that never validate
+ * rule-checked files do not load them at all.
+ */
+public final class ValidationRuleSet {
+
+  private final Supplier<List<Class<?>>> ruleClasses;
+
+  private ValidationRuleSet(Supplier<List<Class<?>>> ruleClasses) {
+    this.ruleClasses = Suppliers.memoize(ruleClasses::get);
+  }
+
+  /**
+   * Rule set of the {@link com.deliveredtechnologies.rulebook.annotation.Rule rules} supplied by
+   * the given registry, in the order they have to be run.
+   */
+  public static ValidationRuleSet of(Supplier<List<Class<?>>> ruleClasses) {
+    return new ValidationRuleSet(ruleClasses);
+  }
+
+  public Set<ValidationError> run(NameValueReferableMap<Object> facts) {
+    RuleBook<Set<ValidationError>> ruleBook = new CoRRuleBook<>();
+    ruleBook.setDefaultResult(new HashSet<>());
+    for (var ruleClass : ruleClasses.get()) {
+      ruleBook.addRule(newRule(ruleClass));
+    }
+    ruleBook.run(facts);
+    return ruleBook.getResult().map(Result::getValue).orElseGet(HashSet::new);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Rule<Object, Set<ValidationError>> newRule(Class<?> ruleClass) {
+    try {
+      return new RuleAdapter(ruleClass.getDeclaredConstructor().newInstance());
+    } catch (InstantiationException | IllegalAccessException | NoSuchMethodException
+        | InvocationTargetException | InvalidClassException e) {
+      throw new IllegalStateException("Cannot instantiate rule " + ruleClass.getName(), e);
+    }
+  }
+}
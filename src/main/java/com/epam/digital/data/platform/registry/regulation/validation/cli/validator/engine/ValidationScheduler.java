@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs validation stages as a directed acyclic graph on the {@link ValidationExecutor}.
+ *
+ * <p>Independent stages are run concurrently, a stage is started only after all of its upstream
+ * stages are completed and is skipped if any of them failed. The results are returned in the order
+ * the stages were declared, regardless of the order they were completed in.
+ *
+ * <p>Stages may also depend on stages completed by a previous run, whose outcomes are given to
+ * {@link #run(List, RegulationFiles, Map)}, so only the stages affected by a change can be re-run.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ValidationScheduler {
+
+  private final ValidationExecutor validationExecutor;
+
+  public Map<ValidationStageId, Set<ValidationError>> run(List<ValidationStage> stages,
+      RegulationFiles regulationFiles) {
+    return run(stages, regulationFiles, Map.of());
+  }
+
+  /**
+   * Runs the stages, which may depend on the completed stages of a previous run.
+   *
+   * @param completedStages whether each of the stages completed by a previous run passed
+   */
+  public Map<ValidationStageId, Set<ValidationError>> run(List<ValidationStage> stages,
+      RegulationFiles regulationFiles, Map<ValidationStageId, Boolean> completedStages) {
+    var outcomes = new HashMap<ValidationStageId, CompletableFuture<StageOutcome>>();
+    completedStages.forEach((stageId, passed) -> outcomes.put(stageId,
+        CompletableFuture.completedFuture(passed
+            ? StageOutcome.completed(stageId, Collections.emptySet())
+            : StageOutcome.skipped(stageId))));
+    for (var stage : topologicalOrder(stages, completedStages.keySet())) {
+      var upstreamOutcomes = stage.getDependsOn().stream()
+          .map(outcomes::get)
+          .collect(Collectors.toList());
+      var outcome = CompletableFuture.allOf(upstreamOutcomes.toArray(CompletableFuture[]::new))
+          .thenApplyAsync(ignored -> runStage(stage, upstreamOutcomes, regulationFiles),
+              validationExecutor.asExecutor());
+      outcomes.put(stage.getId(), outcome);
+    }
+
+    var errors = new LinkedHashMap<ValidationStageId, Set<ValidationError>>();
+    stages.forEach(stage -> errors.put(stage.getId(), join(outcomes.get(stage.getId())).errors));
+    return errors;
+  }
+
+  private StageOutcome runStage(ValidationStage stage,
+      List<CompletableFuture<StageOutcome>> upstreamOutcomes, RegulationFiles regulationFiles) {
+    var failedUpstreamStages = upstreamOutcomes.stream()
+        .map(CompletableFuture::join)
+        .filter(upstreamOutcome -> !upstreamOutcome.isPassed())
+        .map(upstreamOutcome -> upstreamOutcome.stageId)
+        .collect(Collectors.toList());
+    if (!failedUpstreamStages.isEmpty()) {
+      log.warn("[{}] Validation stage skipped as upstream stages failed: {}", stage.getId(),
+          failedUpstreamStages);
+      return StageOutcome.skipped(stage.getId());
+    }
+    return StageOutcome.completed(stage.getId(), stage.getValidation().apply(regulationFiles));
+  }
+
+  private List<ValidationStage> topologicalOrder(List<ValidationStage> stages,
+      Set<ValidationStageId> completedStageIds) {
+    var stageIds = stages.stream().map(ValidationStage::getId).collect(Collectors.toSet());
+    stageIds.addAll(completedStageIds);
+    stages.forEach(stage -> stage.getDependsOn().stream()
+        .filter(upstreamStageId -> !stageIds.contains(upstreamStageId))
+        .findFirst()
+        .ifPresent(upstreamStageId -> {
+          throw new IllegalStateException(
+              String.format("Stage %s depends on unknown stage %s", stage.getId(), upstreamStageId));
+        }));
+
+    var ordered = new ArrayList<ValidationStage>();
+    var orderedIds = new HashSet<>(completedStageIds);
+    var pending = new ArrayList<>(stages);
+    while (!pending.isEmpty()) {
+      var ready = pending.stream()
+          .filter(stage -> orderedIds.containsAll(stage.getDependsOn()))
+          .findFirst()
+          .orElseThrow(() -> new IllegalStateException(
+              "Validation stages have cyclic dependencies: " + pending.stream()
+                  .map(ValidationStage::getId)
+                  .collect(Collectors.toList())));
+      pending.remove(ready);
+      ordered.add(ready);
+      orderedIds.add(ready.getId());
+    }
+    return ordered;
+  }
+
+  private StageOutcome join(CompletableFuture<StageOutcome> outcome) {
+    try {
+      return outcome.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class StageOutcome {
+
+    private final ValidationStageId stageId;
+    private final Set<ValidationError> errors;
+    private final boolean skipped;
+
+    static StageOutcome completed(ValidationStageId stageId, Set<ValidationError> errors) {
+      return new StageOutcome(stageId, errors, false);
+    }
+
+    static StageOutcome skipped(ValidationStageId stageId) {
+      return new StageOutcome(stageId, Collections.emptySet(), true);
+    }
+
+    boolean isPassed() {
+      return !skipped && errors.isEmpty();
+    }
+  }
+}
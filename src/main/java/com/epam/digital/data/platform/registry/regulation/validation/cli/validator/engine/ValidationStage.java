@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * A node of the validation graph run by {@link ValidationScheduler}.
+ *
+ * <p>A stage declares the regulation file collections it reads ({@code inputs}) and the stages
+ * that must pass before it is run ({@code dependsOn}). If any of the upstream stages reports
+ * errors or is skipped itself, the stage is skipped.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ValidationStage {
+
+  @NonNull
+  private final ValidationStageId id;
+  @Singular
+  private final Set<RegulationFileType> inputs;
+  @Singular("dependsOn")
+  private final Set<ValidationStageId> dependsOn;
+  @NonNull
+  private final Function<RegulationFiles, Set<ValidationError>> validation;
+}
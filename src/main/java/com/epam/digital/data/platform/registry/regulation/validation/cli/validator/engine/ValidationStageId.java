@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ValidationStageId {
+
+  Kind kind;
+  RegulationFileType regulationFileType;
+
+  public static ValidationStageId file(RegulationFileType regulationFileType) {
+    return new ValidationStageId(Kind.FILE, regulationFileType);
+  }
+
+  public static ValidationStageId group(RegulationFileType regulationFileType) {
+    return new ValidationStageId(Kind.GROUP, regulationFileType);
+  }
+
+  public static ValidationStageId global(RegulationFileType regulationFileType) {
+    return new ValidationStageId(Kind.GLOBAL, regulationFileType);
+  }
+
+  @Override
+  public String toString() {
+    return kind + ":" + regulationFileType;
+  }
+
+  public enum Kind {
+    FILE,
+    GROUP,
+    GLOBAL
+  }
+}
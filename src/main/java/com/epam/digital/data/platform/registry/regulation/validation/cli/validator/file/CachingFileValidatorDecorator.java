@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.file;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ValidationResultCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+/**
+ * Skips the decorated validator chain for a regulation file whose content was already validated
+ * by a previous run, reusing the errors stored in the {@link ValidationResultCache}.
+ *
+ * <p>Only chains whose result depends on nothing but the content and the name of the validated
+ * file may be decorated. Missing files and directories are always validated.
+ */
+@Slf4j
+public class CachingFileValidatorDecorator implements RegulationValidator<File> {
+
+  private final RegulationValidator<File> validator;
+  private final ValidationResultCache validationResultCache;
+
+  private CachingFileValidatorDecorator(RegulationValidator<File> validator,
+      ValidationResultCache validationResultCache) {
+    this.validator = validator;
+    this.validationResultCache = validationResultCache;
+  }
+
+  public static RegulationValidator<File> wrap(RegulationValidator<File> validator,
+      ValidationResultCache validationResultCache) {
+    Assert.notNull(validator, "Validator must be not NULL");
+    Assert.notNull(validationResultCache, "Validation result cache must be not NULL");
+
+    if (!validationResultCache.isEnabled()) {
+      return validator;
+    }
+    return new CachingFileValidatorDecorator(validator, validationResultCache);
+  }
+
+  @Override
+  public Set<ValidationError> validate(File regulationFile, ValidationContext validationContext) {
+    if (!regulationFile.isFile()) {
+      return validator.validate(regulationFile, validationContext);
+    }
+    byte[] content;
+    try {
+      content = Files.readAllBytes(regulationFile.toPath());
+    } catch (IOException e) {
+      return validator.validate(regulationFile, validationContext);
+    }
+
+    var regulationFileType = validationContext.getRegulationFileType();
+    var cachedErrors = validationResultCache.get(regulationFile, content, regulationFileType);
+    if (cachedErrors.isPresent()) {
+      log.info("[{}] Regulation file is unchanged, reusing cached validation result.",
+          regulationFile.getName());
+      return cachedErrors.get();
+    }
+
+    var errors = validator.validate(regulationFile, validationContext);
+    validationResultCache.put(regulationFile, content, regulationFileType, errors);
+    return errors;
+  }
+}
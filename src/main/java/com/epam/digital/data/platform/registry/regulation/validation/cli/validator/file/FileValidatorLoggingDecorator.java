@@ -19,9 +19,11 @@ package com.epam.digital.data.platform.registry.regulation.validation.cli.valida
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.google.common.base.Stopwatch;
 import java.io.File;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.Assert;
 
@@ -43,14 +45,18 @@ public class FileValidatorLoggingDecorator implements RegulationValidator<File>
   @Override
   public Set<ValidationError> validate(File regulationFile, ValidationContext validationContext) {
     log.info("[{}] Starting validation of regulation file.", regulationFile.getName());
+    var stopwatch = Stopwatch.createStarted();
     var errors = this.validator.validate(regulationFile, validationContext);
+    var elapsedMillis = stopwatch.elapsed(TimeUnit.MILLISECONDS);
 
     if (errors.isEmpty()) {
-      log.info("[{}] Regulation file passed validation successfully.", regulationFile.getName());
+      log.info("[{}] Regulation file passed validation successfully in {} ms.",
+          regulationFile.getName(), elapsedMillis);
       return Collections.emptySet();
     }
 
-    log.error("[{}] Regulation file FAILED validation.", regulationFile.getName());
+    log.error("[{}] Regulation file FAILED validation in {} ms.", regulationFile.getName(),
+        elapsedMillis);
     return errors;
   }
 }
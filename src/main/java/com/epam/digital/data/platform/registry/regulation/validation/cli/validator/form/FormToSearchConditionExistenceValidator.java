@@ -16,8 +16,9 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.form;
 
-import com.epam.digital.data.platform.liquibase.extension.change.core.DdmCreateSearchConditionChange;
-import com.epam.digital.data.platform.liquibase.extension.change.core.DdmDropSearchConditionChange;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.SymbolKind;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.SymbolTable;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
@@ -26,8 +27,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
-import liquibase.change.Change;
-import liquibase.exception.LiquibaseException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -37,35 +36,28 @@ import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.MainLiquibaseUtil.getAllChanges;
-import static com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.MainLiquibaseUtil.getDatabaseChangeLog;
-
 @Slf4j
 @RequiredArgsConstructor
 public class FormToSearchConditionExistenceValidator implements
     RegulationValidator<RegulationFiles> {
 
   private final ObjectMapper fileObjectMapper;
+  private final RegulationIndexer regulationIndexer;
 
   @Override
   public Set<ValidationError> validate(RegulationFiles regulation, ValidationContext context) {
     Set<ValidationError> errors = Sets.newHashSet();
-    List<Change> changes = new ArrayList<>();
-
-    var liquibaseFiles = regulation.getLiquibaseFiles();
-    if (!liquibaseFiles.isEmpty()) {
-      var mainLiquibase = liquibaseFiles.iterator().next();
-      try {
-        changes = getAllChanges(getDatabaseChangeLog(mainLiquibase));
-      } catch (LiquibaseException e) {
-        return Collections.singleton(
-            ValidationError.of(context.getRegulationFileType(), mainLiquibase,
-                "File processing failure", e)
-        );
-      }
+    var regulationIndex = regulationIndexer.index(regulation);
+    var failures = regulationIndex.getFailures(SymbolKind.SEARCH_CONDITION);
+    if (!failures.isEmpty()) {
+      var failure = failures.get(0);
+      return Collections.singleton(
+          ValidationError.of(context.getRegulationFileType(), failure.getFile(),
+              "File processing failure", (Exception) failure.getCause())
+      );
     }
 
-    var searchConditions = getSearchConditions(changes);
+    var searchConditions = regulationIndex.get(SymbolKind.SEARCH_CONDITION);
 
     for (File regulationFile : regulation.getFormFiles()) {
       try {
@@ -81,7 +73,7 @@ public class FormToSearchConditionExistenceValidator implements
   }
 
   private void validateDataUrl(File regulationFile, ValidationContext context,
-      Map<String, Change> searchConditions, Set<ValidationError> errors) throws IOException {
+      SymbolTable searchConditions, Set<ValidationError> errors) throws IOException {
     var form = fileObjectMapper.readTree(regulationFile);
     var urls = getDataUrlsFromForm(form);
     for (var url : urls) {
@@ -90,8 +82,7 @@ public class FormToSearchConditionExistenceValidator implements
         continue;
       }
       var searchConditionName = getSearchConditionNameFromURL(url);
-      var change = searchConditions.get(searchConditionName);
-      if (Objects.isNull(change) || change instanceof DdmDropSearchConditionChange) {
+      if (!searchConditions.contains(searchConditionName)) {
         errors.add(ValidationError.of(context.getRegulationFileType(),
             regulationFile,
             "Next search condition doesn't exist under data-model files: "
@@ -113,26 +104,6 @@ public class FormToSearchConditionExistenceValidator implements
         .collect(Collectors.toList());
   }
 
-  private Map<String, Change> getSearchConditions(List<Change> changes) {
-    return changes.stream()
-        .filter(c -> DdmCreateSearchConditionChange.class.isAssignableFrom(c.getClass())
-            || DdmDropSearchConditionChange.class.isAssignableFrom(c.getClass()))
-        .collect(Collectors.toMap(
-            this::getChangeName,
-            c -> c,
-            (first, second) -> second
-        ));
-  }
-
-  private String getChangeName(Change change) {
-    if (change instanceof DdmCreateSearchConditionChange) {
-      return ((DdmCreateSearchConditionChange) change).getName();
-    } else if (change instanceof DdmDropSearchConditionChange) {
-      return ((DdmDropSearchConditionChange) change).getName();
-    }
-    return "";
-  }
-
   private String getSearchConditionNameFromURL(String url) {
     return StringUtils.substringAfterLast(url, "/").replace("-", "_");
   }
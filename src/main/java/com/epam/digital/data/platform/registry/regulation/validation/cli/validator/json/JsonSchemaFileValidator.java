@@ -30,7 +30,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.SneakyThrows;
 import org.springframework.core.io.ResourceLoader;
 
@@ -38,11 +40,18 @@ public class JsonSchemaFileValidator implements RegulationValidator<File> {
 
   private static final VersionFlag JSON_SCHEMA_VERSION = VersionFlag.V4;
 
+  /**
+   * Schemas are bundled with the CLI and immutable, so they are compiled once per process and
+   * shared by the validators of every run, e.g. of every run served by a daemon.
+   */
+  private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
   private final JsonSchema schema;
   private final ObjectMapper fileObjectMapper;
 
   public JsonSchemaFileValidator(String jsonSchemaLocation, ResourceLoader resourceLoader, ObjectMapper fileObjectMapper) {
-    this.schema = loadSchema(jsonSchemaLocation, resourceLoader);
+    this.schema = SCHEMAS.computeIfAbsent(jsonSchemaLocation,
+        location -> loadSchema(location, resourceLoader));
     this.fileObjectMapper = fileObjectMapper;
   }
 
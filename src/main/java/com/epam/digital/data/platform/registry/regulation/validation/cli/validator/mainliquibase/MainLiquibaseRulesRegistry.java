@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.rules.ColumnNameHasCyrillicSymbolRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.rules.ColumnNameIsReservedJavaWordRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.rules.ColumnNameIsTooLongRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.rules.ColumnNameStartsFromDigitRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.rules.ForeignKeyHasCapitalLetterRule;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.rules.TableNameIsReservedJavaWordRule;
+import java.util.List;
+
+/**
+ * Main Liquibase rules in {@link RulesOrder}. A new rule has to be registered here as well, the
+ * rules package is not scanned.
+ */
+public final class MainLiquibaseRulesRegistry {
+
+    private static final List<Class<?>> RULES = List.of(
+            ColumnNameStartsFromDigitRule.class,
+            ColumnNameHasCyrillicSymbolRule.class,
+            ColumnNameIsTooLongRule.class,
+            ForeignKeyHasCapitalLetterRule.class,
+            TableNameIsReservedJavaWordRule.class,
+            ColumnNameIsReservedJavaWordRule.class);
+
+    private MainLiquibaseRulesRegistry() {
+    }
+
+    public static List<Class<?>> ruleClasses() {
+        return RULES;
+    }
+}
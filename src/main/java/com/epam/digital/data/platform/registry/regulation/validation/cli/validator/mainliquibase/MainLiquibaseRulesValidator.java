@@ -19,33 +19,35 @@ package com.epam.digital.data.platform.registry.regulation.validation.cli.valida
 import com.deliveredtechnologies.rulebook.Fact;
 import com.deliveredtechnologies.rulebook.FactMap;
 import com.deliveredtechnologies.rulebook.NameValueReferableMap;
-import com.deliveredtechnologies.rulebook.model.RuleBook;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.FactNames;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationRuleSet;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.LiquibaseIdentifiers;
 import liquibase.exception.LiquibaseException;
 
 import java.io.File;
 import java.util.Collections;
 import java.util.Set;
 
-import static com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.MainLiquibaseUtil.getAllChanges;
-import static com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.MainLiquibaseUtil.getDatabaseChangeLog;
-
 public class MainLiquibaseRulesValidator implements RegulationValidator<File> {
 
-    private final RuleBook<Set<ValidationError>> mainLiquibaseRuleBook;
+    private final ValidationRuleSet mainLiquibaseRuleSet;
+    private final ChangeIndexCache changeIndexCache;
 
-    public MainLiquibaseRulesValidator(RuleBook<Set<ValidationError>> mainLiquibaseRuleBook) {
-        this.mainLiquibaseRuleBook = mainLiquibaseRuleBook;
+    public MainLiquibaseRulesValidator(ValidationRuleSet mainLiquibaseRuleSet,
+                                       ChangeIndexCache changeIndexCache) {
+        this.mainLiquibaseRuleSet = mainLiquibaseRuleSet;
+        this.changeIndexCache = changeIndexCache;
     }
 
     @Override
     public Set<ValidationError> validate(File regulationFile, ValidationContext context) {
         try {
-            mainLiquibaseRuleBook.run(getMainLiquibaseFacts(regulationFile, context));
-            return mainLiquibaseRuleBook.getResult().get().getValue();
+            var mainLiquibaseFacts = getMainLiquibaseFacts(regulationFile, context);
+            return mainLiquibaseRuleSet.run(mainLiquibaseFacts);
         } catch (LiquibaseException e) {
             return Collections.singleton(
                     ValidationError.of(context.getRegulationFileType(), regulationFile,
@@ -56,7 +58,9 @@ public class MainLiquibaseRulesValidator implements RegulationValidator<File> {
 
     private NameValueReferableMap<Object> getMainLiquibaseFacts(File regulationFile, ValidationContext context) throws LiquibaseException {
         NameValueReferableMap<Object> mainLiquibaseFacts = new FactMap<>();
-        mainLiquibaseFacts.put(new Fact<>(FactNames.DATABASE_ALL_CHANGES, getAllChanges(getDatabaseChangeLog(regulationFile))));
+        var changeIndex = changeIndexCache.get(regulationFile);
+        mainLiquibaseFacts.put(new Fact<>(FactNames.DATABASE_CHANGE_INDEX, changeIndex));
+        mainLiquibaseFacts.put(new Fact<>(FactNames.LIQUIBASE_IDENTIFIERS, LiquibaseIdentifiers.of(changeIndex)));
         mainLiquibaseFacts.put(new Fact<>(FactNames.REGULATION_FILE_TYPE, context.getRegulationFileType()));
         mainLiquibaseFacts.put(new Fact<>(FactNames.REGULATION_FILE, regulationFile));
 
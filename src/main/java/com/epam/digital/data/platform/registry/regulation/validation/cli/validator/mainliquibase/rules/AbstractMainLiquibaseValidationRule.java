@@ -21,17 +21,20 @@ import com.deliveredtechnologies.rulebook.annotation.Result;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.FactNames;
-import liquibase.change.Change;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.ChangeIndex;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.LiquibaseIdentifiers;
 
 import java.io.File;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public abstract class AbstractMainLiquibaseValidationRule {
 
-    @Given(FactNames.DATABASE_ALL_CHANGES)
-    protected List<Change> allChanges;
+    @Given(FactNames.DATABASE_CHANGE_INDEX)
+    protected ChangeIndex changeIndex;
+
+    @Given(FactNames.LIQUIBASE_IDENTIFIERS)
+    protected LiquibaseIdentifiers identifiers;
 
     @Given(FactNames.REGULATION_FILE_TYPE)
     protected RegulationFileType regulationFileType;
@@ -43,9 +46,6 @@ public abstract class AbstractMainLiquibaseValidationRule {
     protected Set<ValidationError> errors;
 
     public <T> List<T> getChangesByType(Class<T> type) {
-        return allChanges.stream()
-                .filter(c -> type.isAssignableFrom(c.getClass()))
-                .map(x -> (T) x)
-                .collect(Collectors.toList());
+        return changeIndex.getChangesByType(type);
     }
 }
\ No newline at end of file
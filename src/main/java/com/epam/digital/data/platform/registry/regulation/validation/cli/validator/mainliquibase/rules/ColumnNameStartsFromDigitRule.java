@@ -23,6 +23,7 @@ import com.deliveredtechnologies.rulebook.annotation.When;
 import com.deliveredtechnologies.rulebook.spring.RuleBean;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.RulesOrder;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.IdentifierCharacters;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -31,14 +32,12 @@ import java.util.stream.Collectors;
 @Rule(order = RulesOrder.COLUMN_NAME_STARTS_FROM_DIGIT_RULE)
 public class ColumnNameStartsFromDigitRule extends AbstractColumnNamesRule {
 
-    private static final String FIRST_SYMBOL_IS_DIGIT_PATTERN = "^\\d.*";
-
     private List<String> columnIdentifiers;
 
     @When
     public boolean checkColumnNames() {
         columnIdentifiers = getCreatedColumnIdentifiers().stream()
-                .filter(x -> x.matches(FIRST_SYMBOL_IS_DIGIT_PATTERN))
+                .filter(IdentifierCharacters::startsWithDigit)
                 .collect(Collectors.toList());
 
         return !columnIdentifiers.isEmpty();
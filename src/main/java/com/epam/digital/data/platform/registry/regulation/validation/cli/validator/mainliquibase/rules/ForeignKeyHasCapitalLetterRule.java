@@ -23,29 +23,22 @@ import com.deliveredtechnologies.rulebook.annotation.When;
 import com.deliveredtechnologies.rulebook.spring.RuleBean;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.RulesOrder;
-import liquibase.change.ColumnConfig;
-import liquibase.change.ConstraintsConfig;
-import liquibase.change.core.CreateTableChange;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util.IdentifierCharacters;
 
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @RuleBean
 @Rule(order = RulesOrder.FOREIGN_KEY_HAS_CAPITAL_LETTER_RULE)
 public class ForeignKeyHasCapitalLetterRule extends AbstractMainLiquibaseValidationRule {
 
-    private static final String HAS_UPPER_CASE_SYMBOL_PATTERN = "^.*\\p{javaUpperCase}.*$";
-
     private List<String> foreignKeyIdentifiers;
 
     @When
     public boolean checkForeignKeys() {
-        foreignKeyIdentifiers = getForeignKeys(
-                getChangesByType(CreateTableChange.class))
+        foreignKeyIdentifiers = identifiers.getForeignKeyNames()
                 .stream()
-                .filter(fk -> fk.matches(HAS_UPPER_CASE_SYMBOL_PATTERN))
+                .filter(IdentifierCharacters::hasUpperCase)
                 .collect(Collectors.toList());
 
         return !foreignKeyIdentifiers.isEmpty();
@@ -58,15 +51,4 @@ public class ForeignKeyHasCapitalLetterRule extends AbstractMainLiquibaseValidat
                         + "which is invalid: " + foreignKeyIdentifiers));
         return RuleState.NEXT;
     }
-
-
-    protected Set<String> getForeignKeys(List<CreateTableChange> changes) {
-        return changes.stream()
-                .flatMap(x -> x.getColumns().stream())
-                .map(ColumnConfig::getConstraints)
-                .filter(Objects::nonNull)
-                .map(ConstraintsConfig::getForeignKeyName)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-    }
 }
@@ -26,7 +26,6 @@ import com.epam.digital.data.platform.registry.regulation.validation.cli.validat
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.lang.model.SourceVersion;
-import liquibase.change.core.CreateTableChange;
 
 @RuleBean
 @Rule(order = RulesOrder.TABLE_NAME_IS_RESERVED_JAVA_WORD_RULE)
@@ -36,9 +35,8 @@ public class TableNameIsReservedJavaWordRule extends AbstractMainLiquibaseValida
 
   @When
   public boolean checkTableNames() {
-    tableNames = getChangesByType(CreateTableChange.class)
+    tableNames = identifiers.getTableNames()
         .stream()
-        .map(CreateTableChange::getTableName)
         .filter(SourceVersion::isKeyword)
         .collect(Collectors.toList());
 
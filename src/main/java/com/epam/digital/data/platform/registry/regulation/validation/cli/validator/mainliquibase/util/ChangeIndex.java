@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import liquibase.change.Change;
+import liquibase.changelog.DatabaseChangeLog;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Immutable index of all the changes of a parsed changelog, grouped by every class and interface
+ * each change is assignable to, so lookups by change type do not scan the whole changelog.
+ *
+ * <p>Changes are always returned in changelog order.
+ */
+public final class ChangeIndex {
+
+  private static final ChangeIndex EMPTY = new ChangeIndex(List.of());
+
+  private final List<Change> allChanges;
+  private final Map<Class<?>, List<Integer>> positionsByType = new HashMap<>();
+
+  private ChangeIndex(List<Change> allChanges) {
+    this.allChanges = Collections.unmodifiableList(allChanges);
+    for (int i = 0; i < allChanges.size(); i++) {
+      for (var type : assignableTypes(allChanges.get(i).getClass())) {
+        positionsByType.computeIfAbsent(type, key -> new ArrayList<>()).add(i);
+      }
+    }
+  }
+
+  public static ChangeIndex of(DatabaseChangeLog databaseChangeLog) {
+    return of(databaseChangeLog.getChangeSets()
+        .stream()
+        .flatMap(changeSet -> changeSet.getChanges().stream())
+        .collect(Collectors.toList()));
+  }
+
+  public static ChangeIndex of(List<Change> changes) {
+    return new ChangeIndex(new ArrayList<>(changes));
+  }
+
+  public static ChangeIndex empty() {
+    return EMPTY;
+  }
+
+  public List<Change> getAllChanges() {
+    return allChanges;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> List<T> getChangesByType(Class<T> type) {
+    var positions = positionsByType.getOrDefault(type, List.of());
+    var changes = new ArrayList<T>(positions.size());
+    positions.forEach(position -> changes.add((T) allChanges.get(position)));
+    return changes;
+  }
+
+  /**
+   * Returns the changes of any of the given types, keeping their relative changelog order, e.g. to
+   * find out whether the last change of a search condition created or dropped it.
+   */
+  public List<Change> getChangesByTypes(Class<?>... types) {
+    var positions = new TreeSet<Integer>();
+    for (var type : types) {
+      positions.addAll(positionsByType.getOrDefault(type, List.of()));
+    }
+    return positions.stream().map(allChanges::get).collect(Collectors.toList());
+  }
+
+  private static Iterable<Class<?>> assignableTypes(Class<?> changeClass) {
+    var types = new LinkedHashSet<Class<?>>();
+    types.add(changeClass);
+    types.addAll(ClassUtils.getAllSuperclasses(changeClass));
+    types.addAll(ClassUtils.getAllInterfaces(changeClass));
+    return types;
+  }
+}
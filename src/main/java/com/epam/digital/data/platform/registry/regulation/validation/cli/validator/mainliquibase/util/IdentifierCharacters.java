@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util;
+
+import java.lang.Character.UnicodeScript;
+import java.util.BitSet;
+
+/**
+ * Character class checks of the identifiers of a changelog, equivalent to the {@code \p{IsCyrillic}},
+ * {@code \p{javaUpperCase}} and {@code \d} regular expression classes, without compiling or
+ * matching a regular expression per identifier.
+ *
+ * <p>The Cyrillic script is looked up in a table of the Basic Multilingual Plane computed once,
+ * other code points are resolved by {@link UnicodeScript#of(int)}.
+ */
+public final class IdentifierCharacters {
+
+  private static final int BMP_SIZE = Character.MAX_VALUE + 1;
+  private static final BitSet CYRILLIC_BMP = new BitSet(BMP_SIZE);
+
+  static {
+    for (int codePoint = 0; codePoint < BMP_SIZE; codePoint++) {
+      if (UnicodeScript.of(codePoint) == UnicodeScript.CYRILLIC) {
+        CYRILLIC_BMP.set(codePoint);
+      }
+    }
+  }
+
+  private IdentifierCharacters() {
+  }
+
+  public static boolean hasCyrillic(String identifier) {
+    return identifier.codePoints().anyMatch(IdentifierCharacters::isCyrillic);
+  }
+
+  public static boolean hasUpperCase(String identifier) {
+    return identifier.codePoints().anyMatch(Character::isUpperCase);
+  }
+
+  public static boolean startsWithDigit(String identifier) {
+    return !identifier.isEmpty() && identifier.charAt(0) >= '0' && identifier.charAt(0) <= '9';
+  }
+
+  private static boolean isCyrillic(int codePoint) {
+    return codePoint < BMP_SIZE
+        ? CYRILLIC_BMP.get(codePoint)
+        : UnicodeScript.of(codePoint) == UnicodeScript.CYRILLIC;
+  }
+}
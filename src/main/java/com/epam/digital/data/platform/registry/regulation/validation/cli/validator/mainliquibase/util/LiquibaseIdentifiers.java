@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util;
+
+import com.epam.digital.data.platform.liquibase.extension.change.DdmColumnConfig;
+import com.epam.digital.data.platform.liquibase.extension.change.DdmTableConfig;
+import com.epam.digital.data.platform.liquibase.extension.change.core.DdmCreateSearchConditionChange;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import liquibase.change.core.CreateTableChange;
+
+/**
+ * Identifiers created by a changelog, collected in a single traversal of its changes and shared by
+ * all the identifier rules, so no rule scans the changes on its own.
+ *
+ * <p>Column identifiers are the columns of the created tables and the columns and column aliases
+ * of the created search conditions and of their common table expressions.
+ */
+public final class LiquibaseIdentifiers {
+
+  private final List<String> tableNames;
+  private final Set<String> columnIdentifiers;
+  private final Set<String> foreignKeyNames;
+
+  private LiquibaseIdentifiers(List<String> tableNames, Set<String> columnIdentifiers,
+      Set<String> foreignKeyNames) {
+    this.tableNames = Collections.unmodifiableList(tableNames);
+    this.columnIdentifiers = Collections.unmodifiableSet(columnIdentifiers);
+    this.foreignKeyNames = Collections.unmodifiableSet(foreignKeyNames);
+  }
+
+  public static LiquibaseIdentifiers of(ChangeIndex changeIndex) {
+    var tableNames = new ArrayList<String>();
+    var columnIdentifiers = new HashSet<String>();
+    var foreignKeyNames = new HashSet<String>();
+    for (var change : changeIndex.getAllChanges()) {
+      if (change instanceof CreateTableChange) {
+        var createTable = (CreateTableChange) change;
+        tableNames.add(createTable.getTableName());
+        for (var column : createTable.getColumns()) {
+          addIfNotNull(columnIdentifiers, column.getName());
+          if (Objects.nonNull(column.getConstraints())) {
+            addIfNotNull(foreignKeyNames, column.getConstraints().getForeignKeyName());
+          }
+        }
+      } else if (change instanceof DdmCreateSearchConditionChange) {
+        var searchCondition = (DdmCreateSearchConditionChange) change;
+        searchCondition.getTables().forEach(table -> addColumns(columnIdentifiers, table));
+        for (var cte : searchCondition.getCtes()) {
+          for (var table : cte.getTables()) {
+            addColumns(columnIdentifiers, table);
+            for (var function : table.getFunctions()) {
+              addIfNotNull(columnIdentifiers, function.getColumnName());
+              addIfNotNull(columnIdentifiers, function.getAlias());
+            }
+          }
+        }
+      }
+    }
+    return new LiquibaseIdentifiers(tableNames, columnIdentifiers, foreignKeyNames);
+  }
+
+  /**
+   * Names of the created tables in changelog order.
+   */
+  public List<String> getTableNames() {
+    return tableNames;
+  }
+
+  public Set<String> getColumnIdentifiers() {
+    return columnIdentifiers;
+  }
+
+  public Set<String> getForeignKeyNames() {
+    return foreignKeyNames;
+  }
+
+  private static void addColumns(Set<String> columnIdentifiers, DdmTableConfig table) {
+    for (DdmColumnConfig column : table.getColumns()) {
+      addIfNotNull(columnIdentifiers, column.getName());
+      addIfNotNull(columnIdentifiers, column.getAlias());
+    }
+  }
+
+  private static void addIfNotNull(Set<String> identifiers, String identifier) {
+    if (Objects.nonNull(identifier)) {
+      identifiers.add(identifier);
+    }
+  }
+}
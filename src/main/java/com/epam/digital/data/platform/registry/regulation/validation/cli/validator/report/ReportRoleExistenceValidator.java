@@ -16,14 +16,13 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.report;
 
-import com.epam.digital.data.platform.registry.regulation.validation.cli.model.BpRoleConfiguration;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.SymbolKind;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -35,9 +34,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReportRoleExistenceValidator implements RegulationValidator<RegulationFiles> {
 
-  private final ObjectMapper yamlObjectMapper;
   private final String officerPermissionsFile;
   private final List<String> defaultRoles;
+  private final RegulationIndexer regulationIndexer;
 
   @Override
   public Set<ValidationError> validate(RegulationFiles regulation, ValidationContext context) {
@@ -48,17 +47,16 @@ public class ReportRoleExistenceValidator implements RegulationValidator<Regulat
     regulation.getReportsFolders().forEach(folder ->
         reportsRolesNames.addAll(getReportsRolesNames(folder)));
 
-    for (File file : regulation.getRolesFiles()) {
-      try {
-        if (file.getName().equals(officerPermissionsFile)) {
-          existingRoles.addAll(getExistingRolesInBpFile(file));
-        }
-      } catch (IOException e) {
-        errors.add(
-            ValidationError.of(context.getRegulationFileType(), file,
-                "Exception during reading file"));
-      }
-    }
+    var regulationIndex = regulationIndexer.index(regulation);
+    regulationIndex.getFailures(SymbolKind.ROLE).stream()
+        .filter(failure -> isOfficerPermissionsFile(failure.getFile()))
+        .forEach(failure -> errors.add(
+            ValidationError.of(context.getRegulationFileType(), failure.getFile(),
+                "Exception during reading file")));
+    var roles = regulationIndex.get(SymbolKind.ROLE);
+    regulation.getRolesFiles().stream()
+        .filter(this::isOfficerPermissionsFile)
+        .forEach(file -> existingRoles.addAll(roles.getNames(file)));
 
     if (null != defaultRoles) {
       existingRoles.addAll(defaultRoles);
@@ -86,10 +84,8 @@ public class ReportRoleExistenceValidator implements RegulationValidator<Regulat
     return roles;
   }
 
-  private Set<String> getExistingRolesInBpFile(File bpFile) throws IOException {
-    return yamlObjectMapper.readValue(bpFile, BpRoleConfiguration.class)
-        .getRoles().stream().map(BpRoleConfiguration.Role::getName)
-        .collect(Collectors.toSet());
+  private boolean isOfficerPermissionsFile(File file) {
+    return file.getName().equals(officerPermissionsFile);
   }
 
 }
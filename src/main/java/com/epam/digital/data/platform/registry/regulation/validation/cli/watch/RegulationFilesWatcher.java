@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.watch;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Watches the directories behind the regulation files for changes.
+ *
+ * <p>Regulation directories and the directory of the Liquibase changelog are watched with all
+ * their subdirectories, including the ones created later. For single regulation files only their
+ * parent directory is watched.
+ *
+ * <p>Editors usually save a file with several events, so the changes are reported only once the
+ * file system is quiet for the debounce interval.
+ */
+@Slf4j
+public class RegulationFilesWatcher implements Closeable {
+
+  public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(300);
+
+  private final WatchService watchService;
+  private final Duration debounce;
+  private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+  private final Set<Path> recursiveDirectories = new HashSet<>();
+
+  private RegulationFilesWatcher(WatchService watchService, Duration debounce) {
+    this.watchService = watchService;
+    this.debounce = debounce;
+  }
+
+  public static RegulationFilesWatcher of(RegulationFiles regulationFiles, Duration debounce)
+      throws IOException {
+    var watcher = new RegulationFilesWatcher(FileSystems.getDefault().newWatchService(),
+        debounce);
+    try {
+      for (var regulationFileType : RegulationFileType.values()) {
+        for (var file : regulationFiles.getRegulationFiles(regulationFileType)) {
+          watcher.register(file.getAbsoluteFile(), regulationFileType);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      watcher.close();
+      throw e;
+    }
+    return watcher;
+  }
+
+  /**
+   * Blocks until the regulation files change and the file system is quiet for the debounce
+   * interval.
+   *
+   * @return the changed paths
+   */
+  public Set<Path> awaitChanges() throws InterruptedException, IOException {
+    var changedPaths = new TreeSet<Path>();
+    var watchKey = watchService.take();
+    while (Objects.nonNull(watchKey)) {
+      changedPaths.addAll(processEvents(watchKey));
+      watchKey = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    return changedPaths;
+  }
+
+  Set<Path> getWatchedDirectories() {
+    return new HashSet<>(watchedDirectories.values());
+  }
+
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+  }
+
+  private void register(File file, RegulationFileType regulationFileType) throws IOException {
+    if (file.isDirectory()) {
+      registerRecursively(file.toPath());
+    } else if (Objects.nonNull(file.getParentFile()) && file.getParentFile().isDirectory()) {
+      if (regulationFileType == RegulationFileType.LIQUIBASE) {
+        registerRecursively(file.getParentFile().toPath());
+      } else {
+        registerDirectory(file.getParentFile().toPath());
+      }
+    } else {
+      log.warn("Registry regulation file {} does not exist and is not watched", file);
+    }
+  }
+
+  private void registerRecursively(Path directory) throws IOException {
+    try (var paths = Files.walk(directory)) {
+      for (var subdirectory : paths.filter(Files::isDirectory).collect(Collectors.toList())) {
+        recursiveDirectories.add(subdirectory);
+        registerDirectory(subdirectory);
+      }
+    }
+  }
+
+  private void registerDirectory(Path directory) throws IOException {
+    if (watchedDirectories.containsValue(directory)) {
+      return;
+    }
+    var watchKey = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    watchedDirectories.put(watchKey, directory);
+  }
+
+  private Set<Path> processEvents(WatchKey watchKey) throws IOException {
+    var changedPaths = new HashSet<Path>();
+    var directory = watchedDirectories.get(watchKey);
+    for (var event : watchKey.pollEvents()) {
+      if (Objects.isNull(directory) || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        continue;
+      }
+      var path = directory.resolve((Path) event.context());
+      changedPaths.add(path);
+      if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+          && recursiveDirectories.contains(directory) && Files.isDirectory(path)) {
+        registerRecursively(path);
+      }
+    }
+    if (!watchKey.reset()) {
+      watchedDirectories.remove(watchKey);
+    }
+    return changedPaths;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.function.Function;
+import org.camunda.bpm.model.bpmn.BpmnModelException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BpmnModelCacheTest {
+
+  private static final String PROCESS_FILE = "src/test/resources/registry-regulation/correct/process.bpmn";
+  private static final String TREMBITA_PROCESS_FILE = "src/test/resources/registry-regulation/correct/trembita-process.bpmn";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void shouldParseUnchangedFileOnlyOnce() {
+    var cache = new BpmnModelCache();
+    var file = new File(PROCESS_FILE);
+
+    var first = cache.read(file, Function.identity());
+    var second = cache.read(file, Function.identity());
+
+    assertThat(second).isSameAs(first);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReparseFileIfContentChangedAndDropModelOfPreviousContent() throws IOException {
+    var cache = new BpmnModelCache();
+    var file = tempDir.resolve("process.bpmn");
+    Files.copy(Path.of(PROCESS_FILE), file);
+    var first = cache.read(file.toFile(), Function.identity());
+
+    Files.copy(Path.of(TREMBITA_PROCESS_FILE), file, StandardCopyOption.REPLACE_EXISTING);
+    var second = cache.read(file.toFile(), Function.identity());
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedModelsBeyondBudgetAndReparseThemOnDemand() throws IOException {
+    var first = tempDir.resolve("first.bpmn");
+    var second = tempDir.resolve("second.bpmn");
+    Files.copy(Path.of(PROCESS_FILE), first);
+    Files.copy(Path.of(TREMBITA_PROCESS_FILE), second);
+    var budget = Math.max(Files.size(first), Files.size(second))
+        * BpmnModelCache.MODEL_BYTES_PER_FILE_BYTE;
+    var cache = new BpmnModelCache(BpmnSummaryCache.disabled(), budget);
+
+    var firstModel = cache.read(first.toFile(), Function.identity());
+    cache.read(first.toFile(), Function.identity());
+    cache.read(second.toFile(), Function.identity());
+    var reparsedFirstModel = cache.read(first.toFile(), Function.identity());
+
+    assertThat(reparsedFirstModel).isNotSameAs(firstModel);
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(3);
+    assertThat(cache.stats().evictionCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldServeSummaryOfUnchangedFileFromPersistentCacheWithoutParsing() throws IOException {
+    var file = tempDir.resolve("process.bpmn");
+    Files.copy(Path.of(PROCESS_FILE), file);
+    var summaryCache = BpmnSummaryCache.of(tempDir.resolve("cache"), "1");
+    var summary = new BpmnModelCache(summaryCache).summary(file.toFile());
+    var checksum = FileArtifactKey.of(file.toFile(), Files.readAllBytes(file)).getChecksum();
+    var storedSummary = BpmnSummary.builder()
+        .processDefinitions(List.of())
+        .templatedElements(List.of())
+        .build();
+    summaryCache.put(file.toFile(), checksum, storedSummary);
+
+    assertThat(summary.getProcessDefinitions()).isNotEmpty();
+    assertThat(new BpmnModelCache(summaryCache).summary(file.toFile())).isEqualTo(storedSummary);
+    assertThat(new BpmnModelCache().summary(file.toFile())).isEqualTo(summary);
+  }
+
+  @Test
+  void shouldFailIfFileDoesNotExist() {
+    var cache = new BpmnModelCache();
+    var file = tempDir.resolve("missing.bpmn").toFile();
+
+    assertThrows(BpmnModelException.class, () -> cache.read(file, Function.identity()));
+    assertThat(cache.size()).isZero();
+  }
+}
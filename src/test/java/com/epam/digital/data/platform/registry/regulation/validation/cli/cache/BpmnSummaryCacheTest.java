@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BpmnSummaryCacheTest {
+
+  private static final File PROCESS_FILE = new File(
+      "src/test/resources/registry-regulation/correct/process-for-validating-inputs.bpmn");
+  private static final String CHECKSUM = "0A1B2C";
+
+  @TempDir
+  Path cacheDirectory;
+
+  @Test
+  void shouldReturnStoredSummary() throws IOException {
+    var summary = BpmnSummary.read(Files.newInputStream(PROCESS_FILE.toPath()));
+    BpmnSummaryCache.of(cacheDirectory, "1").put(PROCESS_FILE, CHECKSUM, summary);
+
+    var cache = BpmnSummaryCache.of(cacheDirectory, "1");
+
+    assertThat(cache.get(PROCESS_FILE, CHECKSUM)).hasValue(summary);
+    assertThat(cache.get(PROCESS_FILE, "0A1B2D")).isEmpty();
+    assertThat(BpmnSummaryCache.of(cacheDirectory, "2").get(PROCESS_FILE, CHECKSUM)).isEmpty();
+  }
+
+  @Test
+  void shouldTreatCorruptedEntryAsMiss() throws IOException {
+    var cache = BpmnSummaryCache.of(cacheDirectory, "1");
+    cache.put(PROCESS_FILE, CHECKSUM,
+        BpmnSummary.read(Files.newInputStream(PROCESS_FILE.toPath())));
+    try (var entries = Files.walk(cacheDirectory)) {
+      for (var entry : (Iterable<Path>) entries.filter(Files::isRegularFile)::iterator) {
+        Files.writeString(entry, "{broken");
+      }
+    }
+
+    assertThat(cache.get(PROCESS_FILE, CHECKSUM)).isEmpty();
+  }
+
+  @Test
+  void shouldNotStoreAnythingWhenDisabled() throws IOException {
+    var cache = BpmnSummaryCache.disabled();
+    cache.put(PROCESS_FILE, CHECKSUM,
+        BpmnSummary.read(Files.newInputStream(PROCESS_FILE.toPath())));
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.get(PROCESS_FILE, CHECKSUM)).isEmpty();
+  }
+}
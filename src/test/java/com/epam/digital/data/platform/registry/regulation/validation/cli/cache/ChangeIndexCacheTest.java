@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import liquibase.exception.LiquibaseException;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ChangeIndexCacheTest {
+
+  private static final String MAIN_LIQUIBASE_FILE = "src/test/resources/registry-regulation/correct/test-main-liquibase.xml";
+  private static final String INCLUDES_DIRECTORY = "src/test/resources/liquibase-includes";
+
+  @Test
+  void shouldParseChangelogOnlyOnce() throws LiquibaseException {
+    var cache = new ChangeIndexCache();
+    var file = new File(MAIN_LIQUIBASE_FILE);
+
+    var first = cache.get(file);
+    var second = cache.get(file);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.getAllChanges()).isNotEmpty();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldShareIndexesWithCacheParsingOnAnotherExecutor() throws LiquibaseException {
+    var cache = new ChangeIndexCache();
+    var file = new File(MAIN_LIQUIBASE_FILE);
+    var first = cache.get(file);
+
+    try (var executor = ValidationExecutor.of(2)) {
+      var second = cache.withIncludeParsingExecutor(executor).get(file);
+
+      assertThat(second).isSameAs(first);
+    }
+  }
+
+  @Test
+  void shouldNotCacheParsingFailures() {
+    var cache = new ChangeIndexCache();
+    var file = new File(
+        "src/test/resources/registry-regulation/broken/main-liquibase/test-main-liquibase-broken.xml");
+
+    assertThrows(LiquibaseException.class, () -> cache.get(file));
+    assertThat(cache.size()).isZero();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4})
+  void shouldParseChangelogAgainWhenIncludedChangelogChanged(int parallelism,
+      @TempDir Path tempDir) throws LiquibaseException, IOException {
+    FileUtils.copyDirectory(new File(INCLUDES_DIRECTORY), tempDir.toFile());
+    var file = tempDir.resolve("main-liquibase.xml").toFile();
+    try (var executor = ValidationExecutor.of(parallelism)) {
+      var cache = new ChangeIndexCache(executor);
+
+      var first = cache.get(file);
+      var viewTables = tempDir.resolve("changes/nested/view-tables.xml");
+      Files.writeString(viewTables, Files.readString(viewTables)
+          .replace("</databaseChangeLog>", "<!-- changed -->\n</databaseChangeLog>"));
+      var second = cache.get(file);
+
+      assertThat(second).isNotSameAs(first);
+      assertThat(cache.size()).isEqualTo(1);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4})
+  void shouldParseChangelogAgainWhenIncludingChangelogChanged(int parallelism,
+      @TempDir Path tempDir) throws LiquibaseException, IOException {
+    FileUtils.copyDirectory(new File(INCLUDES_DIRECTORY), tempDir.toFile());
+    var file = tempDir.resolve("main-liquibase.xml").toFile();
+    try (var executor = ValidationExecutor.of(parallelism)) {
+      var cache = new ChangeIndexCache(executor);
+
+      var first = cache.get(file);
+      var views = tempDir.resolve("changes/nested/views.xml");
+      Files.writeString(views, Files.readString(views)
+          .replace("    <include file=\"changes/nested/audit.xml\"/>\n", ""));
+      var second = cache.get(file);
+
+      assertThat(second).isNotSameAs(first);
+      assertThat(second.getAllChanges()).hasSize(first.getAllChanges().size() - 2);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4})
+  void shouldNotParseChangelogAgainWhenUnrelatedFileChanged(int parallelism,
+      @TempDir Path tempDir) throws LiquibaseException, IOException {
+    FileUtils.copyDirectory(new File(INCLUDES_DIRECTORY), tempDir.toFile());
+    var file = tempDir.resolve("main-liquibase.xml").toFile();
+    try (var executor = ValidationExecutor.of(parallelism)) {
+      var cache = new ChangeIndexCache(executor);
+
+      var first = cache.get(file);
+      Files.writeString(tempDir.resolve("changes/unused.xml"), "<databaseChangeLog/>");
+      Files.createDirectories(tempDir.resolve(".git"));
+      Files.writeString(tempDir.resolve(".git/HEAD"), "ref: refs/heads/master");
+      var second = cache.get(file);
+
+      assertThat(second).isSameAs(first);
+    }
+  }
+}
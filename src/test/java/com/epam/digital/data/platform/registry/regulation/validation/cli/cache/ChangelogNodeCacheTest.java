@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import liquibase.parser.core.ParsedNode;
+import liquibase.parser.core.ParsedNodeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChangelogNodeCacheTest {
+
+  private static final String CHECKSUM = "ab" + "0".repeat(62);
+  private static final String CHANGELOG_PATH = "changes/tables.xml";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void shouldRestoreStoredNodeTree() throws ParsedNodeException {
+    var cache = ChangelogNodeCache.of(tempDir, "v1");
+    var node = changeLogNode();
+
+    cache.put(CHANGELOG_PATH, CHECKSUM, node);
+
+    assertThat(cache.get(CHANGELOG_PATH, CHECKSUM)).contains(node);
+    assertThat(cache.get(CHANGELOG_PATH, "cd" + "0".repeat(62))).isEmpty();
+  }
+
+  @Test
+  void shouldNotShareEntriesBetweenParserVersions() throws ParsedNodeException {
+    ChangelogNodeCache.of(tempDir, "v1").put(CHANGELOG_PATH, CHECKSUM, changeLogNode());
+
+    assertThat(ChangelogNodeCache.of(tempDir, "v2").get(CHANGELOG_PATH, CHECKSUM)).isEmpty();
+  }
+
+  @Test
+  void shouldTreatUnreadableEntryAsMissing() throws ParsedNodeException, IOException {
+    var cache = ChangelogNodeCache.of(tempDir, "v1");
+    cache.put(CHANGELOG_PATH, CHECKSUM, changeLogNode());
+    try (var entries = Files.walk(tempDir)) {
+      for (var entry : (Iterable<Path>) entries.filter(Files::isRegularFile)::iterator) {
+        Files.writeString(entry, "{");
+      }
+    }
+
+    assertThat(cache.get(CHANGELOG_PATH, CHECKSUM)).isEmpty();
+  }
+
+  @Test
+  void shouldNotStoreAnythingIfDisabled() throws ParsedNodeException {
+    var cache = ChangelogNodeCache.disabled();
+
+    cache.put(CHANGELOG_PATH, CHECKSUM, changeLogNode());
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.get(CHANGELOG_PATH, CHECKSUM)).isEmpty();
+  }
+
+  @Test
+  void shouldIncludeLiquibaseExtensionVersionInParserVersion() {
+    assertThat(ChangelogNodeCache.parserVersion())
+        .startsWith("liquibase-")
+        .contains("_ddm-ext-")
+        .doesNotContain("_ddm-ext-unknown");
+  }
+
+  private static ParsedNode changeLogNode() throws ParsedNodeException {
+    var changeSet = new ParsedNode(null, "changeSet")
+        .addChild(null, "id", "table-1")
+        .addChild(null, "author", "testUser");
+    changeSet.addChild(new ParsedNode(null, "createTable").addChild(null, "tableName", "person"));
+    return new ParsedNode(null, "databaseChangeLog").addChild(changeSet);
+  }
+}
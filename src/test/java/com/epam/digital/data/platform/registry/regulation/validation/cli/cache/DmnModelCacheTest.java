@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.parser.ModelParsers;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.camunda.bpm.model.dmn.DmnModelException;
+import org.camunda.bpm.model.xml.ModelValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+class DmnModelCacheTest {
+
+  private static final String RULE_FILE = "src/test/resources/registry-regulation/correct/rule.dmn";
+  private static final String BROKEN_RULE_FILE = "src/test/resources/registry-regulation/broken/rule-broken.dmn";
+
+  @Test
+  void shouldSummarizeDecisionsOfValidatedFile() {
+    var cache = new DmnModelCache();
+
+    var summary = cache.validate(new File(RULE_FILE));
+
+    assertThat(summary.getDecisionRequirementsId()).isEqualTo("drd");
+    assertThat(summary.getDecisionRequirementsName()).isEqualTo("DRD");
+    assertThat(summary.getDecisionIds()).contains("decision_1", "Decision_0ke7tnl",
+        "thirdDownstreamTwo");
+  }
+
+  @Test
+  void shouldServeSummaryOfValidatedFileWithoutParsing() {
+    var cache = new DmnModelCache();
+    var file = new File(RULE_FILE);
+    var summary = cache.validate(file);
+
+    try (var modelParsers = Mockito.mockStatic(ModelParsers.class)) {
+      assertThat(cache.summary(file)).isSameAs(summary);
+      modelParsers.verify(Mockito.never(),
+          () -> ModelParsers.readDmnModel(Mockito.any(InputStream.class)));
+    }
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldValidateSummarizedFileWithoutParsingItAgain() {
+    var cache = new DmnModelCache();
+    var file = new File(RULE_FILE);
+
+    try (var modelParsers = Mockito.mockStatic(ModelParsers.class, Mockito.CALLS_REAL_METHODS)) {
+      var summary = cache.summary(file);
+
+      assertThat(cache.validate(file)).isSameAs(summary);
+      modelParsers.verify(Mockito.times(1),
+          () -> ModelParsers.readDmnModel(Mockito.any(InputStream.class)));
+    }
+  }
+
+  @Test
+  void shouldSummarizeFileViolatingSchemaAndReportViolationOnValidation() {
+    var cache = new DmnModelCache();
+    var file = new File(RULE_FILE);
+
+    try (var modelParsers = Mockito.mockStatic(ModelParsers.class, Mockito.CALLS_REAL_METHODS)) {
+      modelParsers.when(() -> ModelParsers.validateDmnModel(Mockito.any()))
+          .thenThrow(new ModelValidationException("invalid"));
+
+      assertThat(cache.summary(file).getDecisionRequirementsId()).isEqualTo("drd");
+      assertThrows(ModelValidationException.class, () -> cache.validate(file));
+      assertThrows(ModelValidationException.class, () -> cache.validate(file));
+      modelParsers.verify(Mockito.times(1),
+          () -> ModelParsers.readDmnModel(Mockito.any(InputStream.class)));
+    }
+  }
+
+  @Test
+  void shouldDropSummaryOfPreviousContentIfContentChanged(@TempDir Path tempDir)
+      throws IOException {
+    var cache = new DmnModelCache();
+    var file = tempDir.resolve("rule.dmn");
+    Files.copy(Path.of(RULE_FILE), file);
+    var first = cache.summary(file.toFile());
+
+    Files.writeString(file, Files.readString(file).replace("\"drd\"", "\"changed-drd\""));
+    var second = cache.summary(file.toFile());
+
+    assertThat(first.getDecisionRequirementsId()).isEqualTo("drd");
+    assertThat(second.getDecisionRequirementsId()).isEqualTo("changed-drd");
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotCacheParsingFailures() {
+    var cache = new DmnModelCache();
+    var file = new File(BROKEN_RULE_FILE);
+
+    assertThrows(DmnModelException.class, () -> cache.summary(file));
+    assertThrows(DmnModelException.class, () -> cache.validate(file));
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldFailIfFileDoesNotExist() {
+    var cache = new DmnModelCache();
+
+    var exception = assertThrows(DmnModelException.class,
+        () -> cache.summary(new File("not-existing.dmn")));
+
+    assertThat(exception.getMessage()).endsWith("file does not exist.");
+  }
+}
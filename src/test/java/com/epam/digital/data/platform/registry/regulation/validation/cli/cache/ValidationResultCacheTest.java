@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ValidationResultCacheTest {
+
+  private static final byte[] CONTENT = "authorization:".getBytes(StandardCharsets.UTF_8);
+
+  @TempDir
+  Path cacheDirectory;
+
+  @Test
+  void shouldReturnStoredErrorsBoundToValidatedFile() {
+    var cache = ValidationResultCache.of(cacheDirectory, "1");
+    var storedFile = new File("first/bp-auth.yml");
+    var otherFile = new File("roles/officer.yml");
+    cache.put(storedFile, CONTENT, RegulationFileType.BP_AUTH, Set.of(
+        ValidationError.of(RegulationFileType.BP_AUTH, storedFile, "Schema violation"),
+        ValidationError.of(RegulationFileType.ROLES, otherFile, "Missing role", new IllegalStateException("cause"))));
+
+    var movedFile = new File("second/bp-auth.yml");
+    var errors = cache.get(movedFile, CONTENT, RegulationFileType.BP_AUTH);
+
+    assertThat(errors).hasValue(Set.of(
+        ValidationError.of(RegulationFileType.BP_AUTH, movedFile, "Schema violation"),
+        ValidationError.of(RegulationFileType.ROLES, otherFile, "Missing role", new IllegalStateException("cause"))));
+  }
+
+  @Test
+  void shouldMissOnChangedContentTypeNameOrValidatorChainVersion() {
+    var file = new File("bp-auth.yml");
+    ValidationResultCache.of(cacheDirectory, "1")
+        .put(file, CONTENT, RegulationFileType.BP_AUTH, Set.of());
+
+    var cache = ValidationResultCache.of(cacheDirectory, "1");
+    assertThat(cache.get(file, CONTENT, RegulationFileType.BP_AUTH)).hasValue(Set.of());
+    assertThat(cache.get(file, "changed".getBytes(StandardCharsets.UTF_8),
+        RegulationFileType.BP_AUTH)).isEmpty();
+    assertThat(cache.get(file, CONTENT, RegulationFileType.BP_TREMBITA)).isEmpty();
+    assertThat(cache.get(new File("bp-auth-2.yml"), CONTENT, RegulationFileType.BP_AUTH))
+        .isEmpty();
+    assertThat(ValidationResultCache.of(cacheDirectory, "2")
+        .get(file, CONTENT, RegulationFileType.BP_AUTH)).isEmpty();
+  }
+
+  @Test
+  void shouldTreatCorruptedEntryAsMiss() throws IOException {
+    var cache = ValidationResultCache.of(cacheDirectory, "1");
+    var file = new File("bp-auth.yml");
+    cache.put(file, CONTENT, RegulationFileType.BP_AUTH, Set.of());
+    try (var entries = Files.walk(cacheDirectory)) {
+      for (var entry : (Iterable<Path>) entries.filter(Files::isRegularFile)::iterator) {
+        Files.writeString(entry, "{broken");
+      }
+    }
+
+    assertThat(cache.get(file, CONTENT, RegulationFileType.BP_AUTH)).isEmpty();
+  }
+
+  @Test
+  void shouldNotStoreAnythingWhenDisabled() {
+    var cache = ValidationResultCache.disabled();
+    var file = new File("bp-auth.yml");
+    cache.put(file, CONTENT, RegulationFileType.BP_AUTH, Set.of());
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.get(file, CONTENT, RegulationFileType.BP_AUTH)).isEmpty();
+  }
+}
@@ -17,11 +17,15 @@
 package com.epam.digital.data.platform.registry.regulation.validation.cli.command.impl;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.epam.digital.data.platform.registry.regulation.validation.cli.command.CommandParameters;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.incremental.RegulationFileChanges;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.support.SystemExit;
@@ -29,11 +33,14 @@ import com.epam.digital.data.platform.registry.regulation.validation.cli.validat
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidatorFactory;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
 import java.io.File;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -60,7 +67,7 @@ class ValidateCommandTest {
     var parameters = new CommandParameters();
     parameters.setRegulationFiles(regulationFiles);
     var validationErr = new HashSet<ValidationError>();
-    when(validatorFactory.newRegulationFilesValidator()).thenReturn(validator);
+    when(validatorFactory.newRegulationFilesValidator(any(), any())).thenReturn(validator);
     when(validator.validate(eq(regulationFiles), any())).thenReturn(validationErr);
 
     validateCommand.execute(parameters);
@@ -86,7 +93,7 @@ class ValidateCommandTest {
         .regulationFile(testFile)
         .regulationFileType(RegulationFileType.BP_GROUPING)
         .build());
-    when(validatorFactory.newRegulationFilesValidator()).thenReturn(validator);
+    when(validatorFactory.newRegulationFilesValidator(any(), any())).thenReturn(validator);
     when(validator.validate(eq(regulationFiles), any())).thenReturn(validationErr);
 
     validateCommand.execute(parameters);
@@ -94,6 +101,54 @@ class ValidateCommandTest {
     verify(systemExit).validationFailure();
   }
 
+  @Test
+  void shouldValidateOnlyChangesSinceLastSuccessfulValidationInIncrementalMode(
+      @TempDir Path cacheDirectory) {
+    var testFile = new File("src/test/resources/registry-regulation/correct/bp-grouping/bp-grouping.yml");
+    var regulationFiles = RegulationFiles.builder()
+        .bpGroupingFiles(Collections.singleton(testFile))
+        .build();
+    var parameters = new CommandParameters();
+    parameters.setRegulationFiles(regulationFiles);
+    parameters.setCacheDirectory(cacheDirectory.toFile());
+    parameters.setIncremental(true);
+    when(validatorFactory.newRegulationFilesValidator(any(), any())).thenReturn(validator);
+    when(validatorFactory.getValidatorChainVersion()).thenReturn("1");
+    when(validator.validate(eq(regulationFiles), any())).thenReturn(Set.of());
+    when(validator.validateChanges(eq(regulationFiles), any())).thenReturn(Set.of());
+
+    validateCommand.execute(parameters);
+    validateCommand.execute(parameters);
+
+    verify(validator, times(1)).validate(eq(regulationFiles), any());
+    verify(validator).validateChanges(eq(regulationFiles),
+        argThat(RegulationFileChanges::isEmpty));
+    verify(systemExit, times(2)).complete();
+  }
+
+  @Test
+  void shouldValidateAllFilesInIncrementalModeIfValidatorBuildIsUnknown(
+      @TempDir Path cacheDirectory) {
+    var testFile = new File("src/test/resources/registry-regulation/correct/bp-grouping/bp-grouping.yml");
+    var regulationFiles = RegulationFiles.builder()
+        .bpGroupingFiles(Collections.singleton(testFile))
+        .build();
+    var parameters = new CommandParameters();
+    parameters.setRegulationFiles(regulationFiles);
+    parameters.setCacheDirectory(cacheDirectory.toFile());
+    parameters.setIncremental(true);
+    when(validatorFactory.newRegulationFilesValidator(any(), any())).thenReturn(validator);
+    when(validatorFactory.getValidatorChainVersion()).thenReturn(null);
+    when(validator.validate(eq(regulationFiles), any())).thenReturn(Set.of());
+
+    validateCommand.execute(parameters);
+    validateCommand.execute(parameters);
+
+    verify(validator, times(2)).validate(eq(regulationFiles), any());
+    verify(validator, never()).validateChanges(any(), any());
+    verify(systemExit, times(2)).complete();
+  }
+
   @Test
   void shouldSuccessfullyCompleteWhenNoFilesToValidate() {
     var parameters = new CommandParameters();
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.daemon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Slf4j
+class ValidationDaemonTest {
+
+  @TempDir
+  Path tempDir;
+
+  private ValidationDaemon daemon;
+  private CompletableFuture<Void> serving;
+
+  @AfterEach
+  void tearDown() throws IOException {
+    if (daemon != null) {
+      daemon.close();
+      serving.join();
+    }
+  }
+
+  @Test
+  void shouldStreamOutputAndExitCodeToClient() throws IOException {
+    var port = startDaemon(request -> {
+      System.out.println("Validating " + request.getArgs());
+      log.error("[{}] Regulation file FAILED validation.", request.getWorkingDirectory().getName());
+      return 10;
+    });
+    var output = new ByteArrayOutputStream();
+
+    var exitCode = client(port)
+        .execute(new File("/registry"), List.of("validate", "--bpmn-files=process.bpmn"), output);
+
+    assertThat(exitCode).isEqualTo(10);
+    assertThat(output.toString(StandardCharsets.UTF_8))
+        .contains("Validating [validate, --bpmn-files=process.bpmn]")
+        .contains("[registry] Regulation file FAILED validation.");
+  }
+
+  @Test
+  void shouldReportSystemErrorIfRequestFailed() throws IOException {
+    var port = startDaemon(request -> {
+      throw new IllegalStateException("failure");
+    });
+
+    var exitCode = client(port)
+        .execute(new File("/registry"), List.of("validate"), new ByteArrayOutputStream());
+
+    assertThat(exitCode).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReportSystemErrorIfDaemonIsNotRunning() throws IOException {
+    int port;
+    try (var socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+
+    var exitCode = client(port)
+        .execute(new File("/registry"), List.of("validate"), new ByteArrayOutputStream());
+
+    assertThat(exitCode).isEqualTo(1);
+  }
+
+  @Test
+  void shouldStoreTokenReadableByOwnerOnlyAndRemoveItOnClose() throws IOException {
+    var port = startDaemon(request -> 0);
+
+    assertThat(Files.getPosixFilePermissions(tokenFile(port)))
+        .isEqualTo(PosixFilePermissions.fromString("rw-------"));
+
+    daemon.close();
+
+    assertThat(tokenFile(port)).doesNotExist();
+  }
+
+  @Test
+  void shouldKeepServingIfAnotherDaemonFailedToBindItsPort() throws IOException {
+    var port = startDaemon(request -> 10);
+    var token = Files.readAllBytes(tokenFile(port));
+
+    try (var otherDaemon = new ValidationDaemon(port, tempDir, Duration.ofSeconds(10),
+        request -> 0)) {
+      assertThatThrownBy(otherDaemon::start).isInstanceOf(BindException.class);
+    }
+
+    assertThat(tokenFile(port)).hasBinaryContent(token);
+    var exitCode = client(port)
+        .execute(new File("/registry"), List.of("validate"), new ByteArrayOutputStream());
+    assertThat(exitCode).isEqualTo(10);
+  }
+
+  @Test
+  void shouldKeepTokenOfDaemonOnAnotherPortOnClose() throws IOException {
+    var port = startDaemon(request -> 10);
+    int otherPort;
+    try (var otherDaemon = new ValidationDaemon(0, tempDir, Duration.ofSeconds(10),
+        request -> 0)) {
+      otherPort = otherDaemon.start();
+      assertThat(tokenFile(otherPort)).exists();
+    }
+
+    assertThat(tokenFile(otherPort)).doesNotExist();
+    var exitCode = client(port)
+        .execute(new File("/registry"), List.of("validate"), new ByteArrayOutputStream());
+    assertThat(exitCode).isEqualTo(10);
+  }
+
+  @Test
+  void shouldKeepTokenFileReplacedByAnotherDaemonOnClose() throws IOException {
+    var port = startDaemon(request -> 0);
+    DaemonToken.generate(tokenFile(port));
+    var otherToken = Files.readAllBytes(tokenFile(port));
+
+    daemon.close();
+
+    assertThat(tokenFile(port)).hasBinaryContent(otherToken);
+  }
+
+  @Test
+  void shouldForwardCommandLineWithPortGivenAfterCommand() throws IOException {
+    var forwardedArgs = new ArrayList<List<String>>();
+    var userHome = System.getProperty("user.home");
+    System.setProperty("user.home", tempDir.toString());
+    try {
+      daemon = new ValidationDaemon(0, DaemonToken.defaultDirectory(), Duration.ofSeconds(10),
+          request -> {
+            forwardedArgs.add(request.getArgs());
+            return 10;
+          });
+      var port = daemon.start();
+      serving = CompletableFuture.runAsync(daemon::serve);
+
+      var exitCode = DaemonClient.run("client", "validate", "--port=" + port, "--bpmn-files=a");
+
+      assertThat(exitCode).isEqualTo(10);
+      assertThat(forwardedArgs).containsExactly(List.of("validate", "--bpmn-files=a"));
+    } finally {
+      System.setProperty("user.home", userHome);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"--port=70x0", "--port=0", "--port=65536", "--port="})
+  void shouldFailWithUsageErrorIfClientPortIsMalformed(String portArg) {
+    var errors = new ByteArrayOutputStream();
+    var systemErr = System.err;
+    System.setErr(new PrintStream(errors, true, StandardCharsets.UTF_8));
+    try {
+      var exitCode = DaemonClient.run("client", portArg, "validate");
+
+      assertThat(exitCode).isEqualTo(1);
+    } finally {
+      System.setErr(systemErr);
+    }
+    assertThat(errors.toString(StandardCharsets.UTF_8))
+        .contains("Port must be an integer between 1 and 65535")
+        .contains("Usage: client [--port=<arg>]");
+  }
+
+  @Test
+  void shouldRejectClientWithInvalidToken() throws IOException {
+    var handled = new AtomicInteger();
+    var port = startDaemon(request -> handled.incrementAndGet());
+    var otherTokenDirectory = tempDir.resolve("other");
+    DaemonToken.generate(DaemonToken.file(otherTokenDirectory, port));
+
+    var exitCode = new DaemonClient(port, otherTokenDirectory)
+        .execute(new File("/registry"), List.of("validate"), new ByteArrayOutputStream());
+
+    assertThat(exitCode).isEqualTo(1);
+    assertThat(handled).hasValue(0);
+  }
+
+  @Test
+  void shouldRejectClientWithoutToken() throws IOException {
+    var port = startDaemon(request -> 0);
+
+    var exitCode = new DaemonClient(port, tempDir.resolve("missing"))
+        .execute(new File("/registry"), List.of("validate"), new ByteArrayOutputStream());
+
+    assertThat(exitCode).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepServingAfterMalformedRequest() throws IOException {
+    var port = startDaemon(request -> 10);
+
+    try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      var out = new DataOutputStream(socket.getOutputStream());
+      var token = Files.readAllBytes(tokenFile(port));
+      out.writeInt(token.length);
+      out.write(token);
+      out.writeInt(1);
+      out.write('/');
+      out.writeInt(-1);
+      out.flush();
+      assertThat(socket.getInputStream().read()).isEqualTo(-1);
+    }
+    try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      var out = new DataOutputStream(socket.getOutputStream());
+      out.writeInt(Integer.MAX_VALUE);
+      out.flush();
+      assertThat(socket.getInputStream().read()).isEqualTo(-1);
+    }
+
+    var exitCode = client(port)
+        .execute(new File("/registry"), List.of("validate"), new ByteArrayOutputStream());
+
+    assertThat(exitCode).isEqualTo(10);
+  }
+
+  @Test
+  void shouldKeepServingAfterIdleClientTimedOut() throws IOException {
+    var port = startDaemon(Duration.ofMillis(200), request -> 10);
+
+    try (var ignored = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      var exitCode = client(port)
+          .execute(new File("/registry"), List.of("validate"), new ByteArrayOutputStream());
+
+      assertThat(exitCode).isEqualTo(10);
+    }
+  }
+
+  private DaemonClient client(int port) {
+    return new DaemonClient(port, tempDir);
+  }
+
+  private Path tokenFile(int port) {
+    return DaemonToken.file(tempDir, port);
+  }
+
+  private int startDaemon(DaemonRequestHandler requestHandler) throws IOException {
+    return startDaemon(Duration.ofSeconds(10), requestHandler);
+  }
+
+  private int startDaemon(Duration requestTimeout, DaemonRequestHandler requestHandler)
+      throws IOException {
+    daemon = new ValidationDaemon(0, tempDir, requestTimeout, requestHandler);
+    var port = daemon.start();
+    serving = CompletableFuture.runAsync(daemon::serve);
+    return port;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ValidationStateTest {
+
+  @TempDir
+  Path regulationDirectory;
+
+  @Test
+  void shouldReportModifiedAndAddedFilesAndTypesWithRemovedFiles() throws IOException {
+    var officerRoles = write("officer.yml", "roles: []");
+    var citizenRoles = write("citizen.yml", "roles: []");
+    var form = write("form.json", "{}");
+    var rule = write("rule.dmn", "<definitions/>");
+    var previous = ValidationState.of(RegulationFiles.builder()
+        .rolesFiles(List.of(officerRoles, citizenRoles))
+        .formFiles(List.of(form))
+        .dmnFiles(List.of(rule))
+        .build(), "1");
+
+    Files.writeString(officerRoles.toPath(), "roles: [officer]");
+    var newForm = write("new-form.json", "{}");
+    var changes = ValidationState.of(RegulationFiles.builder()
+        .rolesFiles(List.of(officerRoles, citizenRoles))
+        .formFiles(List.of(form, newForm))
+        .build(), "1").changesSince(previous);
+
+    assertThat(changes.getChangedTypes()).containsExactlyInAnyOrder(RegulationFileType.ROLES,
+        RegulationFileType.FORMS, RegulationFileType.DMN);
+    assertThat(changes.isChanged(officerRoles)).isTrue();
+    assertThat(changes.isChanged(newForm)).isTrue();
+    assertThat(changes.isChanged(citizenRoles)).isFalse();
+    assertThat(changes.isChanged(form)).isFalse();
+  }
+
+  @Test
+  void shouldReportNoChangesForSameFiles() throws IOException {
+    var regulationFiles = RegulationFiles.builder()
+        .rolesFiles(List.of(write("officer.yml", "roles: []")))
+        .build();
+
+    var changes = ValidationState.of(regulationFiles, "1")
+        .changesSince(ValidationState.of(regulationFiles, "1"));
+
+    assertThat(changes.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldReportAllFilesChangedForAnotherValidatorChainVersion() throws IOException {
+    var officerRoles = write("officer.yml", "roles: []");
+    var regulationFiles = RegulationFiles.builder().rolesFiles(List.of(officerRoles)).build();
+
+    var changes = ValidationState.of(regulationFiles, "2")
+        .changesSince(ValidationState.of(regulationFiles, "1"));
+
+    assertThat(changes.getChangedTypes()).containsExactly(RegulationFileType.ROLES);
+    assertThat(changes.isChanged(officerRoles)).isTrue();
+  }
+
+  @Test
+  void shouldRestoreSavedState() throws IOException {
+    var regulationFiles = RegulationFiles.builder()
+        .rolesFiles(List.of(write("officer.yml", "roles: []")))
+        .build();
+    var state = ValidationState.of(regulationFiles, "1");
+    var repository = new ValidationStateRepository(regulationDirectory.resolve("cache").toFile());
+
+    assertThat(repository.find()).isEmpty();
+    repository.save(state);
+
+    assertThat(repository.find()).hasValueSatisfying(
+        saved -> assertThat(state.changesSince(saved).isEmpty()).isTrue());
+  }
+
+  private File write(String name, String content) throws IOException {
+    return Files.writeString(regulationDirectory.resolve(name), content).toFile();
+  }
+}
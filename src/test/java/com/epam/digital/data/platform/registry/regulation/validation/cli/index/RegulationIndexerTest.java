@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.registry.regulation.validation.cli.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.DmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import java.io.File;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class RegulationIndexerTest {
+
+  private static final String CORRECT_BASE_PATH = "src/test/resources/registry-regulation/correct/";
+
+  private ValidationExecutor validationExecutor;
+  private RegulationIndexer regulationIndexer;
+
+  @BeforeEach
+  void setUp() {
+    validationExecutor = ValidationExecutor.of(2);
+    regulationIndexer = new RegulationIndexer(new YAMLMapper(), new BpmnModelCache(),
+        new ChangeIndexCache(), validationExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    validationExecutor.close();
+  }
+
+  @Test
+  void shouldIndexSymbolsWithProvenance() {
+    var officerRoles = new File(CORRECT_BASE_PATH + "officer.yml");
+    var process = new File(CORRECT_BASE_PATH + "process.bpmn");
+    var mainLiquibase = new File(CORRECT_BASE_PATH + "form/main-liquibase.xml");
+    var form = new File(CORRECT_BASE_PATH + "form/test-form.json");
+    var regulationFiles = RegulationFiles.builder()
+        .rolesFiles(List.of(officerRoles))
+        .bpmnFiles(List.of(process))
+        .liquibaseFiles(List.of(mainLiquibase))
+        .formFiles(List.of(form))
+        .build();
+
+    var regulationIndex = regulationIndexer.index(regulationFiles);
+
+    assertThat(regulationIndex.get(SymbolKind.ROLE).contains("officer")).isTrue();
+    assertThat(regulationIndex.get(SymbolKind.ROLE).getFiles("officer"))
+        .containsExactly(officerRoles);
+    assertThat(regulationIndex.get(SymbolKind.PROCESS_DEFINITION).getNames(process))
+        .containsExactly("add-lab");
+    assertThat(regulationIndex.get(SymbolKind.SEARCH_CONDITION).getNames())
+        .containsExactlyInAnyOrder("find_all", "person_profile_equal_last_name");
+    assertThat(regulationIndex.get(SymbolKind.FORM).getNames()).containsExactly("test-form");
+    assertThat(regulationIndex.get(SymbolKind.TABLE).isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldIndexDecisionsOfValidatedDmnFilesWithoutParsingThemAgain() {
+    var rule = new File(CORRECT_BASE_PATH + "rule.dmn");
+    var dmnModelCache = new DmnModelCache();
+    dmnModelCache.validate(rule);
+    var indexer = new RegulationIndexer(new YAMLMapper(), new BpmnModelCache(), dmnModelCache,
+        new ChangeIndexCache(), validationExecutor);
+
+    var regulationIndex = indexer.index(RegulationFiles.builder()
+        .dmnFiles(List.of(rule))
+        .build());
+
+    assertThat(regulationIndex.get(SymbolKind.DECISION_REQUIREMENTS_DEFINITION).getNames(rule))
+        .containsExactly("drd");
+    assertThat(regulationIndex.get(SymbolKind.DECISION_DEFINITION).getFiles("decision_1"))
+        .containsExactly(rule);
+    assertThat(dmnModelCache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldScanDecisionsOnlyWhenAskedFor() {
+    var rule = new File(CORRECT_BASE_PATH + "rule.dmn");
+    var dmnModelCache = Mockito.spy(new DmnModelCache());
+    var indexer = new RegulationIndexer(new YAMLMapper(), new BpmnModelCache(), dmnModelCache,
+        new ChangeIndexCache(), validationExecutor);
+
+    var regulationIndex = indexer.index(RegulationFiles.builder()
+        .dmnFiles(List.of(rule))
+        .build());
+
+    Mockito.verify(dmnModelCache, Mockito.never()).summary(Mockito.any());
+    assertThat(regulationIndex.get(SymbolKind.DECISION_DEFINITION).contains("decision_1"))
+        .isTrue();
+    assertThat(regulationIndex.isComplete(SymbolKind.DECISION_REQUIREMENTS_DEFINITION)).isTrue();
+    Mockito.verify(dmnModelCache, Mockito.times(1)).summary(rule);
+  }
+
+  @Test
+  void shouldBuildIndexOncePerRegulation() {
+    var regulationFiles = RegulationFiles.builder()
+        .rolesFiles(List.of(new File(CORRECT_BASE_PATH + "officer.yml")))
+        .build();
+
+    var first = regulationIndexer.index(regulationFiles);
+    var second = regulationIndexer.index(regulationFiles);
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void shouldBuildIndexAgainAfterInvalidation() {
+    var regulationFiles = RegulationFiles.builder()
+        .rolesFiles(List.of(new File(CORRECT_BASE_PATH + "officer.yml")))
+        .build();
+
+    var first = regulationIndexer.index(regulationFiles);
+    regulationIndexer.invalidate();
+    var second = regulationIndexer.index(regulationFiles);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.get(SymbolKind.ROLE).getNames())
+        .isEqualTo(first.get(SymbolKind.ROLE).getNames());
+  }
+
+  @Test
+  void shouldKeepFailuresOfUnreadableFiles() {
+    var missingRoles = new File(CORRECT_BASE_PATH + "missing-roles.yml");
+    var regulationFiles = RegulationFiles.builder()
+        .rolesFiles(List.of(missingRoles, new File(CORRECT_BASE_PATH + "officer.yml")))
+        .build();
+
+    var regulationIndex = regulationIndexer.index(regulationFiles);
+
+    assertThat(regulationIndex.getFailures(SymbolKind.ROLE))
+        .singleElement()
+        .satisfies(failure -> assertThat(failure.getFile()).isEqualTo(missingRoles));
+    assertThat(regulationIndex.get(SymbolKind.ROLE).contains("officer")).isTrue();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.instance.FlowElement;
+import org.camunda.bpm.model.dmn.DmnModelException;
+import org.camunda.bpm.model.dmn.instance.Decision;
+import org.junit.jupiter.api.Test;
+
+class ModelParsersTest {
+
+  private static final Path PROCESS_FILE = Path.of(
+      "src/test/resources/registry-regulation/correct/process.bpmn");
+  private static final File RULE_FILE = new File(
+      "src/test/resources/registry-regulation/correct/rule.dmn");
+  private static final File BROKEN_RULE_FILE = new File(
+      "src/test/resources/registry-regulation/broken/rule-broken.dmn");
+
+  @Test
+  void shouldReadBpmnModelLikeCamundaParser() throws IOException {
+    var content = Files.readAllBytes(PROCESS_FILE);
+
+    var model = ModelParsers.readBpmnModel(new ByteArrayInputStream(content));
+    ModelParsers.validateBpmnModel(model);
+
+    var expectedModel = Bpmn.readModelFromStream(new ByteArrayInputStream(content));
+    assertThat(model.getModelElementsByType(FlowElement.class)).hasSameSizeAs(
+        expectedModel.getModelElementsByType(FlowElement.class));
+  }
+
+  @Test
+  void shouldReportBpmnFailuresLikeCamundaParser() {
+    var malformed = "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">";
+    var invalid = "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">"
+        + "<unknown/></definitions>";
+
+    for (var content : List.of(malformed, invalid)) {
+      var expected = catchThrowable(() -> Bpmn.readModelFromStream(toInputStream(content)));
+
+      assertThatThrownBy(() -> ModelParsers.readBpmnModel(toInputStream(content)))
+          .isInstanceOf(expected.getClass())
+          .hasMessage(expected.getMessage());
+    }
+  }
+
+  @Test
+  void shouldReadDmnModelAndReportFailuresLikeCamundaParser() {
+    var model = ModelParsers.readDmnModel(RULE_FILE);
+    ModelParsers.validateDmnModel(model);
+
+    assertThat(model.getModelElementsByType(Decision.class)).isNotEmpty();
+    assertThatThrownBy(() -> ModelParsers.readDmnModel(BROKEN_RULE_FILE))
+        .isInstanceOf(DmnModelException.class);
+    assertThatThrownBy(() -> ModelParsers.readDmnModel(new File("missing.dmn")))
+        .isInstanceOf(DmnModelException.class)
+        .hasMessageContaining("file does not exist");
+  }
+
+  @Test
+  void shouldReadModelsConcurrently() throws Exception {
+    var content = Files.readAllBytes(PROCESS_FILE);
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var tasks = IntStream.range(0, 32)
+          .mapToObj(i -> (Callable<Integer>) () -> ModelParsers.readBpmnModel(
+              new ByteArrayInputStream(content)).getModelElementsByType(FlowElement.class).size())
+          .collect(Collectors.toList());
+
+      var sizes = executor.invokeAll(tasks).stream()
+          .map(ModelParsersTest::getResult)
+          .collect(Collectors.toSet());
+
+      assertThat(sizes).hasSize(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static ByteArrayInputStream toInputStream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Integer getResult(Future<Integer> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
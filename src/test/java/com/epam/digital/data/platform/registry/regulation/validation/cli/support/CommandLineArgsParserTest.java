@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.registry.regulation.validation.cli.support;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -60,6 +61,34 @@ public class CommandLineArgsParserTest {
     assertThrows(MissingArgumentException.class, () -> commandLineArgsParser.parse("--global-vars-file"));
   }
 
+  @Test
+  public void shouldSupportParallelismOption() throws ParseException {
+    var options = commandLineArgsParser.parse("--parallelism=4");
+
+    assertEquals("4", options.getOption("parallelism").getValue());
+  }
+
+  @Test
+  public void shouldSupportCacheDirOption() throws ParseException {
+    var options = commandLineArgsParser.parse("--cache-dir=/tmp/cache");
+
+    assertEquals("/tmp/cache", options.getOption("cache-dir").getValue());
+  }
+
+  @Test
+  public void shouldSupportIncrementalOption() throws ParseException {
+    var options = commandLineArgsParser.parse("--incremental");
+
+    assertTrue(options.hasOption("incremental"));
+  }
+
+  @Test
+  public void shouldSupportWatchOption() throws ParseException {
+    var options = commandLineArgsParser.parse("--watch");
+
+    assertTrue(options.hasOption("watch"));
+  }
+
   @Test
   public void shouldSupportBpAuthOption() throws ParseException {
     var options = commandLineArgsParser.parse("--bp-auth-files=test");
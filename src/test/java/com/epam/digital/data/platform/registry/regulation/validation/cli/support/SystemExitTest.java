@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+
+class SystemExitTest {
+
+  private final SystemExit systemExit = new SystemExit(mock(ApplicationContext.class));
+
+  @Test
+  void shouldCaptureRequestedExitCode() {
+    assertThat(systemExit.capture(systemExit::validationFailure))
+        .isEqualTo(SystemExit.VALIDATION_FAILURE_EXIT_CODE);
+    assertThat(systemExit.capture(systemExit::systemError))
+        .isEqualTo(SystemExit.SYSTEM_ERROR_EXIT_CODE);
+  }
+
+  @Test
+  void shouldCaptureSuccessIfNoExitCodeRequested() {
+    assertThat(systemExit.capture(() -> {
+    })).isEqualTo(SystemExit.SUCCESS_EXIT_CODE);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BuildChecksumTest {
+
+  @Test
+  void shouldChangeChecksumOfClassesDirectoryIfClassIsRebuilt(@TempDir Path classes)
+      throws IOException {
+    var classFile = Files.createDirectories(classes.resolve("cli")).resolve("Validator.class");
+    Files.write(classFile, new byte[]{1, 2, 3});
+    Files.setLastModifiedTime(classFile, FileTime.from(Instant.parse("2023-01-01T00:00:00Z")));
+    var checksum = BuildChecksum.of(classes.toUri().toURL());
+
+    Files.setLastModifiedTime(classFile, FileTime.from(Instant.parse("2023-01-02T00:00:00Z")));
+
+    assertThat(checksum).isPresent();
+    assertThat(BuildChecksum.of(classes.toUri().toURL())).isPresent().isNotEqualTo(checksum);
+  }
+
+  @Test
+  void shouldChecksumOuterJarOfNestedClasses(@TempDir Path directory) throws IOException {
+    var jar = directory.resolve("registry-regulations-validator-cli.jar");
+    Files.write(jar, new byte[]{1, 2, 3});
+    var nestedClasses = new URL("jar:" + jar.toUri() + "!/BOOT-INF/classes!/");
+
+    var checksum = BuildChecksum.of(nestedClasses);
+
+    assertThat(checksum).isPresent().isEqualTo(BuildChecksum.of(jar.toUri().toURL()));
+    Files.write(jar, new byte[]{1, 2, 4});
+    assertThat(BuildChecksum.of(nestedClasses)).isPresent().isNotEqualTo(checksum);
+  }
+
+  @Test
+  void shouldReturnEmptyChecksumIfBuildCannotBeRead(@TempDir Path directory) throws IOException {
+    assertThat(BuildChecksum.of(directory.resolve("missing.jar").toUri().toURL())).isEmpty();
+    assertThat(BuildChecksum.of(new URL("http://localhost/registry-regulations-validator-cli.jar")))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldChecksumBuildOfLoadedClass() {
+    assertThat(BuildChecksum.of(BuildChecksum.class)).isPresent();
+  }
+}
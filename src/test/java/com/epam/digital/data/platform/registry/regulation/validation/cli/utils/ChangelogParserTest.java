@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangelogNodeCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.exception.LiquibaseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChangelogParserTest {
+
+  private static final Path INCLUDES_DIRECTORY = Path.of("src/test/resources/liquibase-includes");
+  private static final String MAIN_LIQUIBASE_FILE = "main-liquibase.xml";
+
+  private ValidationExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = ValidationExecutor.of(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void shouldResolveIncludedChangeLogsInIncludeOrder() {
+    var leafChangeLogs = ChangelogIncludeGraph.leafChangeLogs(
+        INCLUDES_DIRECTORY.resolve(MAIN_LIQUIBASE_FILE).toFile());
+
+    assertThat(leafChangeLogs).contains(List.of(
+        "changes/tables.xml",
+        "changes/nested/view-tables.xml",
+        "changes/nested/audit.xml",
+        "changes/data.xml"));
+  }
+
+  @Test
+  void shouldParseIncludedChangeLogsConcurrentlyInSequentialOrder() throws LiquibaseException {
+    var changeLogFile = INCLUDES_DIRECTORY.resolve(MAIN_LIQUIBASE_FILE).toFile();
+
+    var sequential = ChangelogParser.parseChangeLog(changeLogFile);
+    var parallel = ChangelogParser.parseChangeLog(changeLogFile, executor);
+
+    assertThat(describe(parallel)).isEqualTo(describe(sequential)).hasSize(6);
+    assertThat(describe(parallel).get(0)).startsWith("changes/nested/audit.xml::audit-1");
+  }
+
+  @Test
+  void shouldNotResolveIncludesOfChangeLogWithProperties(@TempDir Path tempDir)
+      throws IOException, LiquibaseException {
+    var changeLogFile = copyIncludes(tempDir);
+    var tables = tempDir.resolve("changes/tables.xml");
+    Files.writeString(tables, Files.readString(tables)
+        .replaceFirst("<changeSet", "<property name=\"schema\" value=\"public\"/>\n    <changeSet"));
+
+    assertThat(ChangelogIncludeGraph.leafChangeLogs(changeLogFile)).isEmpty();
+    assertThat(describe(ChangelogParser.parseChangeLog(changeLogFile, executor)))
+        .isEqualTo(describe(ChangelogParser.parseChangeLog(changeLogFile)));
+  }
+
+  @Test
+  void shouldNotResolveIncludesOfChangeLogMixingChangeSetsAndIncludes(@TempDir Path tempDir)
+      throws IOException {
+    var changeLogFile = copyIncludes(tempDir);
+    var tables = tempDir.resolve("changes/tables.xml");
+    Files.writeString(tables, Files.readString(tables)
+        .replace("</databaseChangeLog>",
+            "    <include file=\"changes/data.xml\"/>\n</databaseChangeLog>"));
+
+    assertThat(ChangelogIncludeGraph.leafChangeLogs(changeLogFile)).isEmpty();
+  }
+
+  @Test
+  void shouldRethrowParsingFailureOfIncludedChangeLog(@TempDir Path tempDir) throws IOException {
+    var changeLogFile = copyIncludes(tempDir);
+    var data = tempDir.resolve("changes/data.xml");
+    Files.writeString(data, Files.readString(data).replace("<createTable", "<unknownChange"));
+
+    assertThrows(LiquibaseException.class,
+        () -> ChangelogParser.parseChangeLog(changeLogFile, executor));
+  }
+
+  @Test
+  void shouldParseOnlyChangedIncludedChangeLogsWithNodeCache(@TempDir Path tempDir,
+      @TempDir Path cacheDir) throws IOException, LiquibaseException {
+    var changeLogFile = copyIncludes(tempDir);
+    var nodeCache = ChangelogNodeCache.of(cacheDir);
+
+    var firstRun = ChangelogParser.parseChangeLog(changeLogFile, executor, nodeCache);
+    var cachedEntries = countFiles(cacheDir);
+    var secondRun = ChangelogParser.parseChangeLog(changeLogFile, executor, nodeCache);
+
+    assertThat(cachedEntries).isEqualTo(4);
+    assertThat(describe(firstRun))
+        .isEqualTo(describe(ChangelogParser.parseChangeLog(changeLogFile)));
+    assertThat(describe(secondRun)).isEqualTo(describe(firstRun));
+
+    var data = tempDir.resolve("changes/data.xml");
+    Files.writeString(data, Files.readString(data).replace("dictionary", "dictionary_v2"));
+    var changedRun = ChangelogParser.parseChangeLog(changeLogFile, executor, nodeCache);
+
+    assertThat(countFiles(cacheDir)).isEqualTo(5);
+    assertThat(describe(changedRun))
+        .isEqualTo(describe(ChangelogParser.parseChangeLog(changeLogFile)))
+        .anyMatch(changeSet -> changeSet.contains("dictionary_v2"));
+  }
+
+  @Test
+  void shouldNotCacheChangeLogsReferringToParameters(@TempDir Path tempDir, @TempDir Path cacheDir)
+      throws IOException, LiquibaseException {
+    var changeLogFile = copyIncludes(tempDir);
+    var data = tempDir.resolve("changes/data.xml");
+    Files.writeString(data, Files.readString(data).replace("dictionary", "${user.name}_dictionary"));
+
+    ChangelogParser.parseChangeLog(changeLogFile, executor, ChangelogNodeCache.of(cacheDir));
+
+    assertThat(countFiles(cacheDir)).isEqualTo(3);
+  }
+
+  private static long countFiles(Path directory) throws IOException {
+    try (var paths = Files.walk(directory)) {
+      return paths.filter(Files::isRegularFile).count();
+    }
+  }
+
+  private static File copyIncludes(Path targetDirectory) throws IOException {
+    try (var paths = Files.walk(INCLUDES_DIRECTORY)) {
+      for (var path : paths.collect(Collectors.toList())) {
+        var target = targetDirectory.resolve(INCLUDES_DIRECTORY.relativize(path).toString());
+        if (Files.isDirectory(path)) {
+          Files.createDirectories(target);
+        } else {
+          Files.copy(path, target);
+        }
+      }
+    }
+    return targetDirectory.resolve(MAIN_LIQUIBASE_FILE).toFile();
+  }
+
+  private static List<String> describe(DatabaseChangeLog changeLog) {
+    return changeLog.getChangeSets().stream()
+        .map(changeSet -> changeSet.getFilePath() + "::" + changeSet.getId() + "::"
+            + changeSet.getChanges().stream()
+            .map(change -> change.getClass().getSimpleName() + ':' + change.getConfirmationMessage())
+            .collect(Collectors.joining(",")))
+        .collect(Collectors.toList());
+  }
+}
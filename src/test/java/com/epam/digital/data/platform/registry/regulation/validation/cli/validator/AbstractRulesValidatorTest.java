@@ -16,12 +16,7 @@
 
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator;
 
-import com.deliveredtechnologies.rulebook.model.RuleBook;
-import com.deliveredtechnologies.rulebook.model.runner.RuleBookRunner;
-import com.google.common.collect.Sets;
-
 import java.io.File;
-import java.util.Set;
 
 public abstract class AbstractRulesValidatorTest {
 
@@ -29,11 +24,4 @@ public abstract class AbstractRulesValidatorTest {
         var classLoader = getClass().getClassLoader();
         return new File(classLoader.getResource(filePath).getFile());
     }
-
-    @SuppressWarnings("unchecked")
-    protected RuleBook<Set<ValidationError>> getRuleBookRunner(String rulePackage)  {
-        var springAwareRuleBookRunner = new RuleBookRunner(rulePackage);
-        springAwareRuleBookRunner.setDefaultResult(Sets.newHashSet());
-        return springAwareRuleBookRunner;
-    }
 }
\ No newline at end of file
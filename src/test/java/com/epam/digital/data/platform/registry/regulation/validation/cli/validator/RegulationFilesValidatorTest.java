@@ -17,17 +17,33 @@
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.incremental.RegulationFileChanges;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationStageId;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 class RegulationFilesValidatorTest {
@@ -112,6 +128,285 @@ class RegulationFilesValidatorTest {
     verify(formToSearchConditionExistenceValidator, times(1)).validate(any(), any());
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldReturnErrorsInSameOrderWhenValidatedInParallel() {
+    RegulationValidator<File> fileValidator = (file, context) -> Set.of(
+        ValidationError.of(context.getRegulationFileType(), file, "error"));
+    RegulationValidator<Collection<File>> groupValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> globalValidator = mock(RegulationValidator.class);
+
+    var validators = new EnumMap<RegulationFileType, RegulationValidator<File>>(
+        RegulationFileType.class);
+    Arrays.stream(RegulationFileType.values()).forEach(type -> validators.put(type, fileValidator));
+    var groupValidators = new EnumMap<RegulationFileType, RegulationValidator<Collection<File>>>(
+        RegulationFileType.class);
+    Arrays.stream(RegulationFileType.values()).forEach(type -> groupValidators.put(type, groupValidator));
+    var globalValidators = new EnumMap<RegulationFileType, RegulationValidator<RegulationFiles>>(
+        RegulationFileType.class);
+    Arrays.stream(RegulationFileType.values()).forEach(type -> globalValidators.put(type, globalValidator));
+
+    var regulationFiles = RegulationFiles.builder()
+        .bpAuthFiles(files("bp-auth", 3))
+        .rolesFiles(files("roles", 2))
+        .bpmnFiles(files("process", 20))
+        .formFiles(files("form", 20))
+        .dmnFiles(files("rule", 5))
+        .bpGroupingFiles(files("bp-grouping", 1))
+        .build();
+
+    var sequentialErrors = new RegulationFilesValidator(validators, groupValidators,
+        globalValidators).validate(regulationFiles, ValidationContext.empty());
+    Set<ValidationError> parallelErrors;
+    try (var executor = ValidationExecutor.of(4)) {
+      parallelErrors = new RegulationFilesValidator(validators, groupValidators,
+          globalValidators, executor).validate(regulationFiles, ValidationContext.empty());
+    }
+
+    assertThat(parallelErrors).hasSize(51).containsExactlyElementsOf(sequentialErrors);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldSkipOnlyBpmnGroupValidatorIfBpmnFileValidationFailed() {
+    RegulationValidator<File> bpmnFileValidator = (file, context) -> Set.of(
+        ValidationError.of(context.getRegulationFileType(), file, "error"));
+    RegulationValidator<File> formsFileValidator = mock(RegulationValidator.class);
+    RegulationValidator<Collection<File>> groupValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> bpmnDependentValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> formToSearchConditionValidator = mock(RegulationValidator.class);
+
+    var validators = Map.of(
+        RegulationFileType.BPMN, bpmnFileValidator,
+        RegulationFileType.FORMS, formsFileValidator);
+    var groupValidators = Map.of(
+        RegulationFileType.BPMN, groupValidator,
+        RegulationFileType.EXCERPTS, groupValidator,
+        RegulationFileType.REPORTS, groupValidator);
+    var globalValidators = Map.of(
+        RegulationFileType.BP_AUTH_TO_BPMN, bpmnDependentValidator,
+        RegulationFileType.BP_TREMBITA_TO_BPMN, bpmnDependentValidator,
+        RegulationFileType.BP_GROUPING_TO_BPMN, bpmnDependentValidator,
+        RegulationFileType.BPMN, bpmnDependentValidator,
+        RegulationFileType.BP_ROLE_EXISTENCE, formToSearchConditionValidator,
+        RegulationFileType.REPORT_ROLE_EXISTENCE, formToSearchConditionValidator,
+        RegulationFileType.FORM_TO_SC, formToSearchConditionValidator);
+
+    var regulationFiles = RegulationFiles.builder()
+        .bpmnFiles(singleFile())
+        .formFiles(singleFile())
+        .build();
+
+    var errors = new RegulationFilesValidator(validators, groupValidators, globalValidators)
+        .validate(regulationFiles, ValidationContext.empty());
+
+    assertThat(errors).hasSize(1);
+    verify(groupValidator, times(2)).validate(any(), any());
+    verify(bpmnDependentValidator, times(4)).validate(any(), any());
+    verify(formToSearchConditionValidator, times(3)).validate(any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldRunGlobalValidatorsDespiteFileValidationErrors() {
+    RegulationValidator<File> failingFileValidator = (file, context) -> Set.of(
+        ValidationError.of(context.getRegulationFileType(), file, "error"));
+    RegulationValidator<RegulationFiles> bpmnInputsValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> bpmnReferencesValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> roleExistenceValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> formToSearchConditionValidator = mock(RegulationValidator.class);
+    RegulationValidator<Collection<File>> groupValidator = mock(RegulationValidator.class);
+    when(bpmnInputsValidator.validate(any(), any())).thenReturn(Set.of(
+        ValidationError.of(RegulationFileType.BPMN, new File("process.bpmn"), "input error")));
+
+    var validators = Map.of(
+        RegulationFileType.BPMN, failingFileValidator,
+        RegulationFileType.ROLES, failingFileValidator);
+    var groupValidators = Map.of(
+        RegulationFileType.BPMN, groupValidator,
+        RegulationFileType.EXCERPTS, groupValidator,
+        RegulationFileType.REPORTS, groupValidator);
+    var globalValidators = Map.of(
+        RegulationFileType.BPMN, bpmnInputsValidator,
+        RegulationFileType.BP_AUTH_TO_BPMN, bpmnReferencesValidator,
+        RegulationFileType.BP_TREMBITA_TO_BPMN, bpmnReferencesValidator,
+        RegulationFileType.BP_GROUPING_TO_BPMN, bpmnReferencesValidator,
+        RegulationFileType.BP_ROLE_EXISTENCE, roleExistenceValidator,
+        RegulationFileType.REPORT_ROLE_EXISTENCE, roleExistenceValidator,
+        RegulationFileType.FORM_TO_SC, formToSearchConditionValidator);
+
+    var regulationFiles = RegulationFiles.builder()
+        .bpmnFiles(singleFile())
+        .rolesFiles(singleFile())
+        .build();
+
+    var errors = new RegulationFilesValidator(validators, groupValidators, globalValidators)
+        .validate(regulationFiles, ValidationContext.empty());
+
+    assertThat(errors).hasSize(3)
+        .extracting(ValidationError::getErrorMessage)
+        .containsOnly("error", "input error");
+    verify(bpmnInputsValidator).validate(any(), any());
+    verify(bpmnReferencesValidator, times(3)).validate(any(), any());
+    verify(roleExistenceValidator, times(2)).validate(any(), any());
+  }
+
+  @Test
+  public void shouldInvalidateSharedRegulationIndex() {
+    var regulationIndexer = mock(RegulationIndexer.class);
+    var regulationFilesValidator = new RegulationFilesValidator(Map.of(), Map.of(), Map.of(),
+        ValidationExecutor.sequential(), regulationIndexer);
+
+    regulationFilesValidator.invalidateRegulationIndex();
+
+    verify(regulationIndexer).invalidate();
+  }
+
+  @Test
+  public void shouldMapChangedRegulationFileTypesToDependentValidations() {
+    var regulationFilesValidator = new RegulationFilesValidator(Map.of(), Map.of(), Map.of());
+
+    assertThat(regulationFilesValidator.getDependentStages(Set.of(RegulationFileType.ROLES)))
+        .containsExactlyInAnyOrder(
+            ValidationStageId.file(RegulationFileType.ROLES),
+            ValidationStageId.global(RegulationFileType.BPMN),
+            ValidationStageId.global(RegulationFileType.BP_ROLE_EXISTENCE),
+            ValidationStageId.global(RegulationFileType.REPORT_ROLE_EXISTENCE))
+        .doesNotContain(ValidationStageId.file(RegulationFileType.DMN));
+    assertThat(regulationFilesValidator.getDependentStages(Set.of(RegulationFileType.FORMS)))
+        .containsExactlyInAnyOrder(
+            ValidationStageId.file(RegulationFileType.FORMS),
+            ValidationStageId.global(RegulationFileType.BPMN),
+            ValidationStageId.global(RegulationFileType.FORM_TO_SC));
+    assertThat(regulationFilesValidator.getDependentStages(Set.of(RegulationFileType.DMN)))
+        .containsExactly(ValidationStageId.file(RegulationFileType.DMN));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldValidateOnlyChangedFilesAndDependentValidations() {
+    RegulationValidator<File> rolesFileValidator = mock(RegulationValidator.class);
+    RegulationValidator<File> dmnFileValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> bpmnInputsValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> bpRoleExistenceValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> reportRoleExistenceValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> formToSearchConditionValidator = mock(RegulationValidator.class);
+    when(rolesFileValidator.validate(any(), any())).thenReturn(Set.of());
+    when(bpmnInputsValidator.validate(any(), any())).thenReturn(Set.of());
+    when(bpRoleExistenceValidator.validate(any(), any())).thenReturn(Set.of());
+    when(reportRoleExistenceValidator.validate(any(), any())).thenReturn(Set.of());
+
+    var validators = Map.of(
+        RegulationFileType.ROLES, rolesFileValidator,
+        RegulationFileType.DMN, dmnFileValidator);
+    var globalValidators = Map.of(
+        RegulationFileType.BPMN, bpmnInputsValidator,
+        RegulationFileType.BP_ROLE_EXISTENCE, bpRoleExistenceValidator,
+        RegulationFileType.REPORT_ROLE_EXISTENCE, reportRoleExistenceValidator,
+        RegulationFileType.FORM_TO_SC, formToSearchConditionValidator);
+    var changedRoles = new File("officer.yml");
+    var regulationFiles = RegulationFiles.builder()
+        .rolesFiles(List.of(changedRoles, new File("citizen.yml")))
+        .dmnFiles(singleFile())
+        .build();
+    var changes = RegulationFileChanges.of(Set.of(RegulationFileType.ROLES),
+        Set.of(changedRoles.getAbsoluteFile()));
+
+    var errors = new RegulationFilesValidator(validators, Map.of(), globalValidators)
+        .validateChanges(regulationFiles, changes);
+
+    assertThat(errors).isEmpty();
+    verify(rolesFileValidator, times(1)).validate(eq(changedRoles), any());
+    verify(bpmnInputsValidator, times(1)).validate(eq(regulationFiles), any());
+    verify(bpRoleExistenceValidator, times(1)).validate(eq(regulationFiles), any());
+    verify(reportRoleExistenceValidator, times(1)).validate(eq(regulationFiles), any());
+    verify(dmnFileValidator, never()).validate(any(), any());
+    verify(formToSearchConditionValidator, never()).validate(any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldKeepErrorsOfUnchangedFilesWhenRevalidatingStages() {
+    RegulationValidator<File> formsFileValidator = spy(new RegulationValidator<File>() {
+      @Override
+      public Set<ValidationError> validate(File file, ValidationContext context) {
+        return Set.of(ValidationError.of(context.getRegulationFileType(), file, "error"));
+      }
+    });
+    RegulationValidator<Collection<File>> groupValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> globalValidator = mock(RegulationValidator.class);
+    var groupValidators = new EnumMap<RegulationFileType, RegulationValidator<Collection<File>>>(
+        RegulationFileType.class);
+    Arrays.stream(RegulationFileType.values()).forEach(type -> groupValidators.put(type, groupValidator));
+    var globalValidators = new EnumMap<RegulationFileType, RegulationValidator<RegulationFiles>>(
+        RegulationFileType.class);
+    Arrays.stream(RegulationFileType.values()).forEach(type -> globalValidators.put(type, globalValidator));
+    var changedForm = new File("changed-form.json");
+    var unchangedForm = new File("unchanged-form.json");
+    var regulationFiles = RegulationFiles.builder()
+        .formFiles(List.of(changedForm, unchangedForm))
+        .build();
+    var regulationFilesValidator = new RegulationFilesValidator(
+        Map.of(RegulationFileType.FORMS, formsFileValidator), groupValidators, globalValidators);
+    var previousErrors = regulationFilesValidator.validateStages(regulationFiles);
+    var changes = RegulationFileChanges.of(Set.of(RegulationFileType.FORMS),
+        Set.of(changedForm.getAbsoluteFile()));
+
+    var errors = regulationFilesValidator.revalidateStages(regulationFiles, changes,
+        previousErrors);
+
+    assertThat(errors.get(ValidationStageId.file(RegulationFileType.FORMS)))
+        .extracting(ValidationError::getRegulationFile)
+        .containsExactlyInAnyOrder(changedForm, unchangedForm);
+    verify(formsFileValidator, times(2)).validate(eq(changedForm), any());
+    verify(formsFileValidator, times(1)).validate(eq(unchangedForm), any());
+    verify(globalValidator, times(2)).validate(any(),
+        argThat(context -> context.getRegulationFileType() == RegulationFileType.FORM_TO_SC));
+    verify(globalValidator, times(1)).validate(any(),
+        argThat(context -> context.getRegulationFileType() == RegulationFileType.BP_AUTH_TO_BPMN));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldSkipRevalidatedStagesIfUpstreamStageStillFailed() {
+    RegulationValidator<File> bpmnFileValidator = mock(RegulationValidator.class);
+    RegulationValidator<Collection<File>> bpmnGroupValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> bpmnInputsValidator = mock(RegulationValidator.class);
+    RegulationValidator<RegulationFiles> bpmnReferencesValidator = mock(RegulationValidator.class);
+    when(bpmnFileValidator.validate(any(), any())).thenReturn(Set.of());
+    var brokenBpmnFile = new File("broken.bpmn");
+    var changedBpmnFile = new File("process.bpmn");
+    var regulationFiles = RegulationFiles.builder()
+        .bpmnFiles(List.of(brokenBpmnFile, changedBpmnFile))
+        .build();
+    var bpmnError = ValidationError.of(RegulationFileType.BPMN, brokenBpmnFile, "error");
+    var previousErrors = Map.of(ValidationStageId.file(RegulationFileType.BPMN), Set.of(bpmnError));
+    var changes = RegulationFileChanges.of(Set.of(RegulationFileType.BPMN),
+        Set.of(changedBpmnFile.getAbsoluteFile()));
+
+    var errors = new RegulationFilesValidator(
+        Map.of(RegulationFileType.BPMN, bpmnFileValidator),
+        Map.of(RegulationFileType.BPMN, bpmnGroupValidator),
+        Map.of(RegulationFileType.BPMN, bpmnInputsValidator,
+            RegulationFileType.BP_AUTH_TO_BPMN, bpmnReferencesValidator,
+            RegulationFileType.BP_TREMBITA_TO_BPMN, bpmnReferencesValidator,
+            RegulationFileType.BP_GROUPING_TO_BPMN, bpmnReferencesValidator))
+        .revalidateStages(regulationFiles, changes, previousErrors);
+
+    assertThat(errors.get(ValidationStageId.file(RegulationFileType.BPMN)))
+        .containsExactly(bpmnError);
+    verify(bpmnFileValidator, times(1)).validate(eq(changedBpmnFile), any());
+    verify(bpmnGroupValidator, never()).validate(any(), any());
+    verify(bpmnInputsValidator, times(1)).validate(any(), any());
+    verify(bpmnReferencesValidator, times(3)).validate(any(), any());
+  }
+
+  private List<File> files(String prefix, int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> new File(prefix + "-" + i))
+        .collect(Collectors.toList());
+  }
+
   private ArrayList<File> singleFile() {
     return newArrayList(new File("no-file"));
   }
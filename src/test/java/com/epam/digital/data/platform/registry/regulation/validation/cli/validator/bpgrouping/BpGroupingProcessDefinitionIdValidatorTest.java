@@ -21,9 +21,13 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.Is.is;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import java.io.File;
 import java.util.Collections;
@@ -38,7 +42,9 @@ class BpGroupingProcessDefinitionIdValidatorTest {
 
   @BeforeEach
   public void setUp() {
-    this.validator = new BpGroupingProcessDefinitionIdValidator(new YAMLMapper());
+    this.validator = new BpGroupingProcessDefinitionIdValidator(new YAMLMapper(),
+        new RegulationIndexer(new YAMLMapper(), new BpmnModelCache(),
+            new ChangeIndexCache(), ValidationExecutor.sequential()));
   }
 
   @Test
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.ActivityBindings.BindingType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary.TemplatedElement;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.impl.BpmnModelConstants;
+import org.camunda.bpm.model.bpmn.instance.Activity;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaIn;
+import org.junit.jupiter.api.Test;
+
+class ActivityBindingsTest {
+
+  @Test
+  void shouldCollectAllBindingsOfActivityInSinglePass() {
+    var activityBindings = ActivityBindings.of(newCallActivity());
+
+    assertThat(activityBindings.get(BindingType.CAMUNDA_IN, "payload"))
+        .containsExactly("${payload}");
+    assertThat(activityBindings.get(BindingType.CAMUNDA_OUT, "result"))
+        .containsExactly("subprocessResult");
+    assertThat(activityBindings.get(BindingType.CAMUNDA_INPUT_PARAMETER, "role"))
+        .containsExactlyInAnyOrder("officer", "citizen");
+    assertThat(activityBindings.get(BindingType.CAMUNDA_OUTPUT_PARAMETER, "${response}"))
+        .containsExactly("response");
+    assertThat(activityBindings.get(BindingType.CAMUNDA_IN, "missing")).isEmpty();
+  }
+
+  @Test
+  void shouldReadAttributesWithAnyPrefixFromCamundaNamespace() {
+    var activityBindings = ActivityBindings.of(newCallActivity());
+
+    assertThat(activityBindings.get(BindingType.PROPERTY, "calledElement"))
+        .containsExactly("subprocess");
+    assertThat(activityBindings.get(BindingType.PROPERTY, "camunda:modelerTemplate"))
+        .containsExactly("callActivityTemplate");
+    assertThat(activityBindings.get(BindingType.PROPERTY, "ns:modelerTemplate"))
+        .containsExactly("callActivityTemplate");
+    assertThat(activityBindings.get(BindingType.PROPERTY, "modelerTemplate")).isEmpty();
+    assertThat(activityBindings.get(BindingType.PROPERTY, "camunda:missing")).isEmpty();
+  }
+
+  @Test
+  void shouldSkipBindingsWithoutNameOrValue() {
+    var activityBindings = ActivityBindings.of(newServiceTask(
+        "<camunda:properties>"
+            + "<camunda:property name=\"propName\" value=\"propValue\"/>"
+            + "<camunda:property name=\"propName\"/>"
+            + "<camunda:property value=\"noName\"/>"
+            + "<camunda:property name=\"propName2\" value=\"otherValue\"/>"
+            + "</camunda:properties>"
+            + "<camunda:in target=\"propName\" sourceExpression=\"propValue\"/>"
+            + "<camunda:in target=\"propName\"/>"
+            + "<camunda:out source=\"{ propValue }\" target=\"propName\"/>"
+            + "<camunda:out source=\"{ propValue }\"/>"));
+
+    assertThat(activityBindings.get(BindingType.CAMUNDA_PROPERTY, "propName"))
+        .containsExactly("propValue");
+    assertThat(activityBindings.get(BindingType.CAMUNDA_PROPERTY, "propName2"))
+        .containsExactly("otherValue");
+    assertThat(activityBindings.get(BindingType.CAMUNDA_IN, "propName"))
+        .containsExactly("propValue");
+    assertThat(activityBindings.get(BindingType.CAMUNDA_OUT, "{ propValue }"))
+        .containsExactly("propName");
+  }
+
+  @Test
+  void shouldFindNothingForActivityWithoutExtensionElements() {
+    var activityBindings = ActivityBindings.of(newServiceTask(""));
+
+    for (var bindingType : EnumSet.complementOf(EnumSet.of(BindingType.PROPERTY))) {
+      assertThat(activityBindings.get(bindingType, "propName")).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldTakeOnlyBindingsOfGivenTypes() {
+    var activityBindings = ActivityBindings.of(newCallActivity(),
+        EnumSet.of(BindingType.CAMUNDA_IN));
+
+    assertThat(activityBindings.get(BindingType.CAMUNDA_IN, "payload"))
+        .containsExactly("${payload}");
+    assertThat(activityBindings.get(BindingType.CAMUNDA_OUT, "result")).isEmpty();
+    assertThat(activityBindings.get(BindingType.PROPERTY, "calledElement"))
+        .containsExactly("subprocess");
+  }
+
+  private static TemplatedElement newCallActivity() {
+    var model = Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .callActivity("callActivity")
+        .calledElement("subprocess")
+        .camundaIn("payload", "payload")
+        .camundaOut("result", "subprocessResult")
+        .camundaInputParameter("role", "officer")
+        .camundaInputParameter("role", "citizen")
+        .camundaOutputParameter("response", "${response}")
+        .endEvent()
+        .done();
+    model.getModelElementsByType(CamundaIn.class)
+        .forEach(in -> in.setAttributeValue("sourceExpression", "${payload}"));
+    model.<Activity>getModelElementById("callActivity").setAttributeValueNs(
+        BpmnModelConstants.CAMUNDA_NS, "modelerTemplate", "callActivityTemplate");
+    var output = new ByteArrayOutputStream();
+    Bpmn.writeModelToStream(output, model);
+    return templatedElementOf(output.toByteArray());
+  }
+
+  private static TemplatedElement newServiceTask(String extensionElements) {
+    var bpmn = "<definitions xmlns=\"" + BpmnModelConstants.BPMN20_NS + "\""
+        + " xmlns:camunda=\"" + BpmnModelConstants.CAMUNDA_NS + "\">"
+        + "<process id=\"process\">"
+        + "<serviceTask id=\"serviceTask\" camunda:modelerTemplate=\"serviceTaskTemplate\">"
+        + "<extensionElements>" + extensionElements + "</extensionElements>"
+        + "</serviceTask>"
+        + "</process>"
+        + "</definitions>";
+    return templatedElementOf(bpmn.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static TemplatedElement templatedElementOf(byte[] bpmn) {
+    var templatedElements = BpmnSummary.read(new ByteArrayInputStream(bpmn))
+        .getTemplatedElements();
+    assertThat(templatedElements).hasSize(1);
+    assertThat(templatedElements.get(0).isActivity()).isTrue();
+    return templatedElements.get(0);
+  }
+}
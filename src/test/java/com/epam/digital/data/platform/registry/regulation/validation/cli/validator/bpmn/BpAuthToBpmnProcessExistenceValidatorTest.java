@@ -17,15 +17,24 @@
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
 
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
@@ -38,7 +47,9 @@ class BpAuthToBpmnProcessExistenceValidatorTest {
 
   @BeforeEach
   public void setUp() {
-    this.bpAuthValidator = new BpAuthToBpmnProcessExistenceValidator(new YAMLMapper());
+    this.bpAuthValidator = new BpAuthToBpmnProcessExistenceValidator(new YAMLMapper(),
+        new RegulationIndexer(new YAMLMapper(), new BpmnModelCache(),
+            new ChangeIndexCache(), ValidationExecutor.sequential()));
   }
 
   @Test
@@ -65,6 +76,20 @@ class BpAuthToBpmnProcessExistenceValidatorTest {
     assertThat(errors, is(not(empty())));
   }
 
+  @Test
+  void shouldSkipProcessExistenceCheckIfBpmnFileIsUnreadable(@TempDir Path tempDir) throws IOException {
+    var unreadableBpmn = tempDir.resolve("unreadable.bpmn");
+    Files.writeString(unreadableBpmn, "<bpmn:definitions");
+    var regulationFiles = RegulationFiles.builder()
+            .bpAuthFiles(Collections.singleton(getFileFromClasspath("registry-regulation/broken/bp-auth-bp-process-id-broken.yml")))
+            .bpmnFiles(List.of(getFileFromClasspath("registry-regulation/correct/process.bpmn"), unreadableBpmn.toFile()))
+            .build();
+
+    var errors = bpAuthValidator.validate(regulationFiles, ValidationContext.of(RegulationFileType.BP_AUTH_TO_BPMN));
+
+    assertThat(errors, is(empty()));
+  }
+
   private File getFileFromClasspath(String filePath) {
     var classLoader = getClass().getClassLoader();
     return new File(classLoader.getResource(filePath).getFile());
@@ -17,9 +17,13 @@
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
 
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,7 +42,9 @@ class BpTrembitaToBpmnProcessExistenceValidatorTest {
 
   @BeforeEach
   public void setUp() {
-    this.validator = new BpTrembitaToBpmnProcessExistenceValidator(new YAMLMapper());
+    this.validator = new BpTrembitaToBpmnProcessExistenceValidator(new YAMLMapper(),
+        new RegulationIndexer(new YAMLMapper(), new BpmnModelCache(),
+            new ChangeIndexCache(), ValidationExecutor.sequential()));
   }
 
   @Test
@@ -21,6 +21,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNot.not;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import java.io.File;
@@ -29,7 +30,8 @@ import org.junit.jupiter.api.Test;
 
 class BpmnFileGroupUniqueProcessIdValidatorTest {
 
-  private BpmnFileGroupUniqueProcessIdValidator groupValidator = new BpmnFileGroupUniqueProcessIdValidator();
+  private BpmnFileGroupUniqueProcessIdValidator groupValidator = new BpmnFileGroupUniqueProcessIdValidator(
+      new BpmnModelCache());
 
   @Test
   void shouldFailProcessParsingDueToDuplicatedProcessId() {
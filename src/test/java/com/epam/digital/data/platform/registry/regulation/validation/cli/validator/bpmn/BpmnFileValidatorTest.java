@@ -20,8 +20,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNot.not;
+import static org.mockito.ArgumentMatchers.any;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.parser.ModelParsers;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import java.io.File;
 import org.camunda.bpm.model.bpmn.Bpmn;
@@ -37,7 +40,7 @@ public class BpmnFileValidatorTest {
 
   @BeforeEach
   public void setUp() {
-    this.validator = new BpmnFileValidator();
+    this.validator = new BpmnFileValidator(new BpmnModelCache());
   }
 
   @Test
@@ -84,10 +87,10 @@ public class BpmnFileValidatorTest {
     var processFile = getFileFromClasspath("registry-regulation/correct/process.bpmn");
     var bpmnModel = Bpmn.readModelFromFile(processFile);
 
-    try (MockedStatic<Bpmn> bpmn = Mockito.mockStatic(Bpmn.class)) {
-      bpmn.when(() -> Bpmn.readModelFromFile(processFile))
+    try (MockedStatic<ModelParsers> bpmn = Mockito.mockStatic(ModelParsers.class)) {
+      bpmn.when(() -> ModelParsers.readBpmnModel(any()))
           .thenReturn(bpmnModel);
-      bpmn.when(() -> Bpmn.validateModel(bpmnModel))
+      bpmn.when(() -> ModelParsers.validateBpmnModel(bpmnModel))
           .thenThrow(new ModelValidationException());
 
       var errors = this.validator.validate(processFile, ValidationContext.of(RegulationFileType.BPMN));
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.ElementTemplateCatalog.TemplateProperty;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ElementTemplateCatalogTest {
+
+  @TempDir
+  Path tempDir;
+
+  private Path elementTemplateFile;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var resource = Objects.requireNonNull(getClass().getClassLoader()
+        .getResource("business-process-modeler-element-template.json"));
+    elementTemplateFile = tempDir.resolve("element-templates.json");
+    Files.copy(Path.of(resource.toURI()), elementTemplateFile);
+  }
+
+  @Test
+  void shouldLoadElementTemplatesOnFirstLookupOnly() {
+    var catalog = ElementTemplateCatalog.of(tempDir.resolve("nonExistedFile").toString());
+
+    assertThat(catalog.isLoaded()).isFalse();
+    assertThatThrownBy(() -> catalog.get("testTemplate"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("During reading elementTemplates file occurred error.")
+        .hasCauseInstanceOf(FileNotFoundException.class);
+  }
+
+  @Test
+  void shouldIndexElementTemplatesByIdAndBindingType() {
+    var catalog = ElementTemplateCatalog.of(elementTemplateFile.toString());
+
+    var template = catalog.get("testTemplate");
+
+    assertThat(catalog.isLoaded()).isTrue();
+    assertThat(template).isPresent();
+    assertThat(template.get().getBindingTypes()).isEqualTo(template.get().getProperties().stream()
+        .map(TemplateProperty::getBindingType)
+        .collect(Collectors.toSet()));
+    assertThat(catalog.get("unknownTemplate")).isEmpty();
+    assertThat(catalog.getSnapshotFile()).doesNotExist();
+  }
+
+  @Test
+  void shouldReuseSnapshotWhileElementTemplateFileIsUnchanged() throws IOException {
+    ElementTemplateCatalog.withSnapshot(elementTemplateFile.toString()).get("testTemplate");
+    var catalog = ElementTemplateCatalog.withSnapshot(elementTemplateFile.toString());
+    var snapshotFile = catalog.getSnapshotFile().toPath();
+    assertThat(snapshotFile).exists();
+    Files.writeString(snapshotFile, Files.readString(snapshotFile)
+        .replace("\"testTemplate\"", "\"snapshotTemplate\""));
+
+    assertThat(catalog.get("snapshotTemplate")).isPresent();
+    assertThat(catalog.get("testTemplate")).isEmpty();
+  }
+
+  @Test
+  void shouldRebuildSnapshotWhenElementTemplateFileChanges() throws IOException {
+    ElementTemplateCatalog.withSnapshot(elementTemplateFile.toString()).get("testTemplate");
+    Files.writeString(elementTemplateFile, Files.readString(elementTemplateFile)
+        .replace("\"testTemplate\"", "\"renamedTemplate\""));
+
+    var catalog = ElementTemplateCatalog.withSnapshot(elementTemplateFile.toString());
+
+    assertThat(catalog.get("testTemplate")).isEmpty();
+    assertThat(catalog.get("renamedTemplate")).isPresent();
+    assertThat(Files.readString(catalog.getSnapshotFile().toPath()))
+        .contains("renamedTemplate");
+  }
+}
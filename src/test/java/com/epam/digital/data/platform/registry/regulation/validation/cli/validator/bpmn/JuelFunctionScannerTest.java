@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.JuelFunctionScanner.FunctionCall;
+import java.util.List;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.jupiter.api.Test;
+
+class JuelFunctionScannerTest {
+
+  private final JuelFunctionScanner scanner = JuelFunctionScanner.of(
+      List.of("completer", "sign_submission", "submission"));
+
+  @Test
+  void shouldFindFunctionCallsInAttributesAndTextInDocumentOrder() {
+    var model = Bpmn.createExecutableProcess("process")
+        .startEvent("start")
+        .userTask("task")
+        .camundaAssignee("${completer('start').userName}")
+        .serviceTask("service")
+        .camundaInputParameter("payload",
+            "${sign_submission(\"task\").formData} ${submission('task').formData}")
+        .endEvent()
+        .done();
+
+    assertThat(scanner.scan(model)).containsExactly(
+        new FunctionCall("completer", "'start'"),
+        new FunctionCall("sign_submission", "\"task\""),
+        new FunctionCall("submission", "'task'"));
+  }
+
+  @Test
+  void shouldExtractOnlyQuotedStringLiterals() {
+    assertThat(JuelFunctionScanner.getStringLiteral("'task'")).isEqualTo("task");
+    assertThat(JuelFunctionScanner.getStringLiteral("\"task\"")).isEqualTo("task");
+    assertThat(JuelFunctionScanner.getStringLiteral("${value}")).isNull();
+    assertThat(JuelFunctionScanner.getStringLiteral("'first' + 'second'")).isNull();
+    assertThat(JuelFunctionScanner.getStringLiteral("'")).isNull();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary.ProcessDefinition;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.bpmn.util.BpmnSummary.TemplatedElement;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelException;
+import org.camunda.bpm.model.bpmn.instance.Process;
+import org.camunda.bpm.model.bpmn.instance.UserTask;
+import org.junit.jupiter.api.Test;
+
+class BpmnSummaryTest {
+
+  @Test
+  void shouldReadProcessDefinitionsAndTemplatedElements() {
+    var model = Bpmn.createExecutableProcess("process")
+        .name("Process name")
+        .startEvent("start")
+        .userTask("task")
+        .camundaAssignee("${initiator}")
+        .endEvent()
+        .done();
+    model.<UserTask>getModelElementById("task")
+        .setAttributeValueNs("http://camunda.org/schema/1.0/bpmn", "modelerTemplate",
+            "userTaskTemplate");
+    var output = new ByteArrayOutputStream();
+    Bpmn.writeModelToStream(output, model);
+
+    var summary = BpmnSummary.read(new ByteArrayInputStream(output.toByteArray()));
+
+    assertThat(summary.getProcessDefinitions())
+        .containsExactly(new ProcessDefinition("process", "Process name"));
+    assertThat(summary.getProcessDefinitionsId())
+        .containsExactly(model.getModelElementsByType(Process.class).iterator().next().getId());
+    assertThat(summary.getTemplatedElements())
+        .extracting(TemplatedElement::getId, TemplatedElement::getModelerTemplate,
+            TemplatedElement::isActivity)
+        .containsExactly(tuple("task", "userTaskTemplate", true));
+  }
+
+  @Test
+  void shouldNotResolveExternalEntities() {
+    var content = "<?xml version=\"1.0\"?>"
+        + "<!DOCTYPE definitions [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+        + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">&xxe;</definitions>";
+
+    assertThatThrownBy(() -> BpmnSummary.read(
+        new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))))
+        .isInstanceOf(BpmnModelException.class);
+  }
+}
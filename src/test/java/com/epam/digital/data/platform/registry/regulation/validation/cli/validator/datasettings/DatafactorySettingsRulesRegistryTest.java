@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deliveredtechnologies.rulebook.annotation.Rule;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.reflections.Reflections;
+
+class DatafactorySettingsRulesRegistryTest {
+
+    private static final String RULES_PACKAGE =
+            "com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules";
+
+    @Test
+    void shouldRegisterEveryRuleOfRulesPackageInRulesOrder() {
+        var scannedRules = new Reflections(RULES_PACKAGE).getTypesAnnotatedWith(Rule.class).stream()
+                .filter(ruleClass -> !Modifier.isAbstract(ruleClass.getModifiers()))
+                .sorted(Comparator.comparingInt(ruleClass -> ruleClass.getAnnotation(Rule.class).order()))
+                .collect(Collectors.toList());
+
+        assertThat(DatafactorySettingsRulesRegistry.ruleClasses()).isNotEmpty().isEqualTo(scannedRules);
+    }
+}
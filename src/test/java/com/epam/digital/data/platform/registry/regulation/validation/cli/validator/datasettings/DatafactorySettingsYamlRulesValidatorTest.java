@@ -20,6 +20,7 @@ import com.epam.digital.data.platform.registry.regulation.validation.cli.model.R
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.AbstractRulesValidatorTest;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationRuleSet;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,8 +39,7 @@ class DatafactorySettingsYamlRulesValidatorTest extends AbstractRulesValidatorTe
     @BeforeEach
     public void setUp() {
         this.validator = new DatafactorySettingsYamlRulesValidator(new YAMLMapper(),
-                getRuleBookRunner(
-                        "com.epam.digital.data.platform.registry.regulation.validation.cli.validator.datasettings.rules"));
+                ValidationRuleSet.of(DatafactorySettingsRulesRegistry::ruleClasses));
     }
 
     @Test
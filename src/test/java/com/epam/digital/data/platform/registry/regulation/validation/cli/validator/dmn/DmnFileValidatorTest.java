@@ -22,8 +22,10 @@ import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNot.not;
 
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.parser.ModelParsers;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import java.io.File;
+import java.io.InputStream;
 import org.camunda.bpm.model.dmn.Dmn;
 import org.camunda.bpm.model.xml.ModelValidationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,10 +65,10 @@ public class DmnFileValidatorTest {
     var ruleFile = getFileFromClasspath("registry-regulation/correct/rule.dmn");
     var dmnModel = Dmn.readModelFromFile(ruleFile);
 
-    try (MockedStatic<Dmn> bpmn = Mockito.mockStatic(Dmn.class)) {
-      bpmn.when(() -> Dmn.readModelFromFile(ruleFile))
+    try (MockedStatic<ModelParsers> bpmn = Mockito.mockStatic(ModelParsers.class)) {
+      bpmn.when(() -> ModelParsers.readDmnModel(Mockito.any(InputStream.class)))
           .thenReturn(dmnModel);
-      bpmn.when(() -> Dmn.validateModel(dmnModel))
+      bpmn.when(() -> ModelParsers.validateDmnModel(dmnModel))
           .thenThrow(new ModelValidationException());
 
       var errors = this.validator.validate(ruleFile, ValidationContext.of(RegulationFileType.DMN));
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ValidationExecutorTest {
+
+  @Test
+  void shouldPreserveOrderOfItems() {
+    var items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+    try (var executor = ValidationExecutor.of(8)) {
+      var results = executor.map(items, item -> item * 2);
+
+      assertThat(results).isEqualTo(
+          items.stream().map(item -> item * 2).collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  void shouldRunTasksOnWorkerThreads() {
+    try (var executor = ValidationExecutor.of(2)) {
+      var threadNames = executor.map(List.of(1, 2, 3), item -> Thread.currentThread().getName());
+
+      assertThat(threadNames).allMatch(name -> name.startsWith("validation-worker-"));
+    }
+  }
+
+  @Test
+  void shouldRunTasksOnCallingThreadIfSequential() {
+    var callingThread = Thread.currentThread().getName();
+
+    try (var executor = ValidationExecutor.sequential()) {
+      var threadNames = executor.map(List.of(1, 2, 3), item -> Thread.currentThread().getName());
+
+      assertThat(threadNames).containsOnly(callingThread);
+    }
+  }
+
+  @Test
+  void shouldRejectNonPositiveParallelism() {
+    assertThrows(IllegalArgumentException.class, () -> ValidationExecutor.of(0));
+  }
+}
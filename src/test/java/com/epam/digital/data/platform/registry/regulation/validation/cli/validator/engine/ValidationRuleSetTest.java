@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.AbstractRulesValidatorTest;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.MainLiquibaseRulesValidator;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.MainLiquibaseRulesRegistry;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ValidationRuleSetTest extends AbstractRulesValidatorTest {
+
+  private static final List<String> CHANGELOGS = List.of(
+      "registry-regulation/correct/test-main-liquibase.xml",
+      "registry-regulation/broken/main-liquibase/cyrillic-column-name.xml",
+      "registry-regulation/broken/main-liquibase/starts-from-digit-column-name.xml",
+      "registry-regulation/broken/main-liquibase/too-long-column-name.xml",
+      "registry-regulation/broken/main-liquibase/primary-key-capital-letter.xml",
+      "registry-regulation/broken/main-liquibase/reserved-java-word-table-name.xml");
+
+  @Test
+  void shouldKeepResultsOfConcurrentRunsApart() {
+    var validator = new MainLiquibaseRulesValidator(
+        ValidationRuleSet.of(MainLiquibaseRulesRegistry::ruleClasses), new ChangeIndexCache());
+    var changelogs = CHANGELOGS.stream().map(this::getFileFromClasspath)
+        .collect(Collectors.toList());
+    var expected = changelogs.stream()
+        .map(changelog -> errorMessages(validator.validate(changelog, liquibaseContext())))
+        .collect(Collectors.toList());
+    var repeated = IntStream.range(0, 20).boxed()
+        .flatMap(i -> changelogs.stream())
+        .collect(Collectors.toList());
+
+    List<Set<String>> results;
+    try (var executor = ValidationExecutor.of(8)) {
+      results = executor.map(repeated,
+          changelog -> errorMessages(validator.validate(changelog, liquibaseContext())));
+    }
+
+    assertThat(expected.get(0)).isEmpty();
+    assertThat(expected.subList(1, expected.size())).allSatisfy(
+        errors -> assertThat(errors).hasSize(1));
+    assertThat(results).isEqualTo(
+        Collections.nCopies(20, expected).stream().flatMap(List::stream)
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  void shouldStartEveryRunWithEmptyResult() {
+    var ruleSet = ValidationRuleSet.of(MainLiquibaseRulesRegistry::ruleClasses);
+    var validator = new MainLiquibaseRulesValidator(ruleSet, new ChangeIndexCache());
+    var broken = getFileFromClasspath(CHANGELOGS.get(1));
+    var correct = getFileFromClasspath(CHANGELOGS.get(0));
+
+    assertThat(validator.validate(broken, liquibaseContext())).isNotEmpty();
+    assertThat(validator.validate(correct, liquibaseContext())).isEmpty();
+  }
+
+  private static ValidationContext liquibaseContext() {
+    return ValidationContext.of(RegulationFileType.LIQUIBASE);
+  }
+
+  private static Set<String> errorMessages(Set<ValidationError> errors) {
+    return errors.stream().map(ValidationError::getErrorMessage).collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ValidationSchedulerTest {
+
+  private static final ValidationStageId BPMN_FILES = ValidationStageId.file(RegulationFileType.BPMN);
+  private static final ValidationStageId BPMN_GROUP = ValidationStageId.group(RegulationFileType.BPMN);
+  private static final ValidationStageId BP_AUTH_TO_BPMN = ValidationStageId.global(RegulationFileType.BP_AUTH_TO_BPMN);
+  private static final ValidationStageId FORMS_FILES = ValidationStageId.file(RegulationFileType.FORMS);
+
+  private final RegulationFiles regulationFiles = RegulationFiles.builder().build();
+  private final ConcurrentLinkedQueue<ValidationStageId> executedStages = new ConcurrentLinkedQueue<>();
+
+  private ValidationExecutor validationExecutor;
+  private ValidationScheduler validationScheduler;
+
+  @BeforeEach
+  void setUp() {
+    validationExecutor = ValidationExecutor.of(4);
+    validationScheduler = new ValidationScheduler(validationExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    validationExecutor.close();
+  }
+
+  @Test
+  void shouldRunAllStagesAndKeepDeclarationOrder() {
+    var stages = List.of(
+        stage(BPMN_FILES, Set.of()),
+        stage(BPMN_GROUP, Set.of(), BPMN_FILES),
+        stage(FORMS_FILES, Set.of(error(RegulationFileType.FORMS))),
+        stage(BP_AUTH_TO_BPMN, Set.of(error(RegulationFileType.BP_AUTH_TO_BPMN)), BPMN_FILES));
+
+    var errors = validationScheduler.run(stages, regulationFiles);
+
+    assertThat(errors.keySet()).containsExactly(BPMN_FILES, BPMN_GROUP, FORMS_FILES, BP_AUTH_TO_BPMN);
+    assertThat(errors.get(FORMS_FILES)).hasSize(1);
+    assertThat(errors.get(BP_AUTH_TO_BPMN)).hasSize(1);
+    assertThat(executedStages).containsExactlyInAnyOrder(BPMN_FILES, BPMN_GROUP, FORMS_FILES,
+        BP_AUTH_TO_BPMN);
+  }
+
+  @Test
+  void shouldSkipDependentStagesIfUpstreamStageFailed() {
+    var stages = List.of(
+        stage(BPMN_FILES, Set.of(error(RegulationFileType.BPMN))),
+        stage(BPMN_GROUP, Set.of(), BPMN_FILES),
+        stage(BP_AUTH_TO_BPMN, Set.of(), BPMN_GROUP),
+        stage(FORMS_FILES, Set.of()));
+
+    var errors = validationScheduler.run(stages, regulationFiles);
+
+    assertThat(errors.get(BPMN_FILES)).hasSize(1);
+    assertThat(errors.get(BPMN_GROUP)).isEmpty();
+    assertThat(errors.get(BP_AUTH_TO_BPMN)).isEmpty();
+    assertThat(executedStages).containsExactlyInAnyOrder(BPMN_FILES, FORMS_FILES);
+  }
+
+  @Test
+  void shouldRunStagesDeclaredBeforeTheirDependencies() {
+    var stages = List.of(
+        stage(BPMN_GROUP, Set.of(), BPMN_FILES),
+        stage(BPMN_FILES, Set.of()));
+
+    var errors = validationScheduler.run(stages, regulationFiles);
+
+    assertThat(errors.keySet()).containsExactly(BPMN_GROUP, BPMN_FILES);
+    assertThat(executedStages).containsExactly(BPMN_FILES, BPMN_GROUP);
+  }
+
+  @Test
+  void shouldRunStagesDependingOnCompletedStagesOfPreviousRun() {
+    var stages = List.of(
+        stage(BPMN_GROUP, Set.of(), BPMN_FILES),
+        stage(BP_AUTH_TO_BPMN, Set.of(), FORMS_FILES));
+
+    var errors = validationScheduler.run(stages, regulationFiles,
+        Map.of(BPMN_FILES, true, FORMS_FILES, false));
+
+    assertThat(errors.keySet()).containsExactly(BPMN_GROUP, BP_AUTH_TO_BPMN);
+    assertThat(executedStages).containsExactly(BPMN_GROUP);
+  }
+
+  @Test
+  void shouldRethrowStageFailure() {
+    var stages = List.of(ValidationStage.builder()
+        .id(BPMN_FILES)
+        .validation(files -> {
+          throw new IllegalArgumentException("broken");
+        })
+        .build());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> validationScheduler.run(stages, regulationFiles));
+  }
+
+  @Test
+  void shouldFailOnCyclicDependencies() {
+    var stages = List.of(
+        stage(BPMN_FILES, Set.of(), BPMN_GROUP),
+        stage(BPMN_GROUP, Set.of(), BPMN_FILES));
+
+    assertThrows(IllegalStateException.class,
+        () -> validationScheduler.run(stages, regulationFiles));
+  }
+
+  @Test
+  void shouldFailOnUnknownDependency() {
+    var stages = List.of(stage(BPMN_GROUP, Set.of(), BPMN_FILES));
+
+    assertThrows(IllegalStateException.class,
+        () -> validationScheduler.run(stages, regulationFiles));
+  }
+
+  private ValidationStage stage(ValidationStageId id, Set<ValidationError> errors,
+      ValidationStageId... dependsOn) {
+    return ValidationStage.builder()
+        .id(id)
+        .dependsOn(List.of(dependsOn))
+        .validation(files -> {
+          executedStages.add(id);
+          return errors;
+        })
+        .build();
+  }
+
+  private ValidationError error(RegulationFileType regulationFileType) {
+    return ValidationError.of(regulationFileType, new File("file"), "error");
+  }
+}
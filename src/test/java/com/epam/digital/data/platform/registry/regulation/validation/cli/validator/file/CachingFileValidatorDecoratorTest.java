@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ValidationResultCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingFileValidatorDecoratorTest {
+
+  @TempDir
+  Path tempDirectory;
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldValidateUnchangedFileOnlyOnce() throws IOException {
+    var file = Files.writeString(tempDirectory.resolve("roles.yml"), "roles:").toFile();
+    var context = ValidationContext.of(RegulationFileType.ROLES);
+    var error = ValidationError.of(RegulationFileType.ROLES, file, "Schema violation");
+    RegulationValidator<File> decoratedValidator = mock(RegulationValidator.class);
+    when(decoratedValidator.validate(any(), any())).thenReturn(Set.of(error));
+    var cache = ValidationResultCache.of(tempDirectory.resolve("cache"), "1");
+
+    var first = CachingFileValidatorDecorator.wrap(decoratedValidator, cache)
+        .validate(file, context);
+    var second = CachingFileValidatorDecorator.wrap(decoratedValidator, cache)
+        .validate(file, context);
+
+    assertThat(first).containsExactly(error);
+    assertThat(second).containsExactly(error);
+    verify(decoratedValidator, times(1)).validate(file, context);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldRevalidateChangedFile() throws IOException {
+    var file = Files.writeString(tempDirectory.resolve("roles.yml"), "roles:").toFile();
+    var context = ValidationContext.of(RegulationFileType.ROLES);
+    RegulationValidator<File> decoratedValidator = mock(RegulationValidator.class);
+    when(decoratedValidator.validate(any(), any())).thenReturn(Set.of());
+    var validator = CachingFileValidatorDecorator.wrap(decoratedValidator,
+        ValidationResultCache.of(tempDirectory.resolve("cache"), "1"));
+
+    validator.validate(file, context);
+    Files.writeString(file.toPath(), "roles: []");
+    validator.validate(file, context);
+
+    verify(decoratedValidator, times(2)).validate(file, context);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldNotDecorateWhenCacheIsDisabled() {
+    RegulationValidator<File> decoratedValidator = mock(RegulationValidator.class);
+
+    assertThat(CachingFileValidatorDecorator.wrap(decoratedValidator,
+        ValidationResultCache.disabled())).isSameAs(decoratedValidator);
+  }
+}
@@ -1,10 +1,12 @@
 package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.AbstractRulesValidatorTest;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.RegulationValidator;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationError;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationRuleSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,8 +28,8 @@ class MainLiquibaseRulesValidatorTest extends AbstractRulesValidatorTest {
 
     @BeforeEach
     public void setUp() {
-        this.validator = new MainLiquibaseRulesValidator(getRuleBookRunner(
-                "com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.rules"));
+        this.validator = new MainLiquibaseRulesValidator(
+                ValidationRuleSet.of(MainLiquibaseRulesRegistry::ruleClasses), new ChangeIndexCache());
     }
 
     @Test
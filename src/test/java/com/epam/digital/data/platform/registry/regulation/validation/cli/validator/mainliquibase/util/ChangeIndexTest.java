@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import liquibase.change.AbstractChange;
+import liquibase.change.Change;
+import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.DropTableChange;
+import org.junit.jupiter.api.Test;
+
+class ChangeIndexTest {
+
+  @Test
+  void shouldGroupChangesByType() {
+    var firstTable = new CreateTableChange();
+    var column = new AddColumnChange();
+    var secondTable = new CreateTableChange();
+
+    var changeIndex = ChangeIndex.of(List.of(firstTable, column, secondTable));
+
+    assertThat(changeIndex.getChangesByType(CreateTableChange.class))
+        .containsExactly(firstTable, secondTable);
+    assertThat(changeIndex.getChangesByType(AddColumnChange.class)).containsExactly(column);
+    assertThat(changeIndex.getChangesByType(DropTableChange.class)).isEmpty();
+  }
+
+  @Test
+  void shouldIndexChangesBySupertypes() {
+    var table = new CreateTableChange();
+    var column = new AddColumnChange();
+
+    var changeIndex = ChangeIndex.of(List.of(table, column));
+
+    assertThat(changeIndex.getChangesByType(AbstractChange.class)).containsExactly(table, column);
+    assertThat(changeIndex.getChangesByType(Change.class)).containsExactly(table, column);
+    assertThat(changeIndex.getAllChanges()).containsExactly(table, column);
+  }
+
+  @Test
+  void shouldKeepChangelogOrderAcrossTypes() {
+    var firstDrop = new DropTableChange();
+    var create = new CreateTableChange();
+    var column = new AddColumnChange();
+    var secondDrop = new DropTableChange();
+
+    var changeIndex = ChangeIndex.of(List.of(firstDrop, create, column, secondDrop));
+
+    assertThat(changeIndex.getChangesByTypes(CreateTableChange.class, DropTableChange.class))
+        .containsExactly(firstDrop, create, secondDrop);
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IdentifierCharactersTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "name", "прізвище", "last_імʼя", "Name", "fk_Person", "1age", "age1",
+      "١age", "ÀBC", "ǅ", "ѐ", "𝐀x", "ᲀ", "Ꙁ"})
+  void shouldMatchRegularExpressionClasses(String identifier) {
+    assertThat(IdentifierCharacters.hasCyrillic(identifier))
+        .isEqualTo(identifier.matches("^.*\\p{IsCyrillic}.*$"));
+    assertThat(IdentifierCharacters.hasUpperCase(identifier))
+        .isEqualTo(identifier.matches("^.*\\p{javaUpperCase}.*$"));
+    assertThat(IdentifierCharacters.startsWithDigit(identifier))
+        .isEqualTo(identifier.matches("^\\d.*"));
+  }
+}
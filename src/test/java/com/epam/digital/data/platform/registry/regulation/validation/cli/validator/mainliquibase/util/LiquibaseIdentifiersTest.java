@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.validator.mainliquibase.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import liquibase.change.ColumnConfig;
+import liquibase.change.ConstraintsConfig;
+import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.CreateTableChange;
+import org.junit.jupiter.api.Test;
+
+class LiquibaseIdentifiersTest {
+
+  @Test
+  void shouldCollectIdentifiersOfCreatedTablesInOnePass() {
+    var person = createTable("person", column("id", null), column("name", null));
+    var address = createTable("address", column("id", null),
+        column("person_id", "fk_address_Person"));
+    var addColumn = new AddColumnChange();
+    addColumn.setTableName("person");
+
+    var identifiers = LiquibaseIdentifiers.of(ChangeIndex.of(List.of(person, addColumn, address)));
+
+    assertThat(identifiers.getTableNames()).containsExactly("person", "address");
+    assertThat(identifiers.getColumnIdentifiers())
+        .containsExactlyInAnyOrder("id", "name", "person_id");
+    assertThat(identifiers.getForeignKeyNames()).containsExactly("fk_address_Person");
+  }
+
+  private static CreateTableChange createTable(String tableName, ColumnConfig... columns) {
+    var createTable = new CreateTableChange();
+    createTable.setTableName(tableName);
+    for (var column : columns) {
+      createTable.addColumn(column);
+    }
+    return createTable;
+  }
+
+  private static ColumnConfig column(String name, String foreignKeyName) {
+    var column = new ColumnConfig();
+    column.setName(name);
+    if (foreignKeyName != null) {
+      column.setConstraints(new ConstraintsConfig().setForeignKeyName(foreignKeyName));
+    }
+    return column;
+  }
+}
@@ -21,9 +21,13 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.Is.is;
 
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.BpmnModelCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.cache.ChangeIndexCache;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.index.RegulationIndexer;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFileType;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
 import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.ValidationContext;
+import com.epam.digital.data.platform.registry.regulation.validation.cli.validator.engine.ValidationExecutor;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import java.io.File;
 import java.util.Collections;
@@ -41,8 +45,9 @@ class ReportRoleExistenceValidatorTest {
     List<String> defaultRoles = List.of("officer", "citizen");
     String officerPermissionsFileName = "officer.yml";
     this.reportRoleExistenceValidator =
-        new ReportRoleExistenceValidator(new YAMLMapper(), officerPermissionsFileName,
-            defaultRoles);
+        new ReportRoleExistenceValidator(officerPermissionsFileName, defaultRoles,
+            new RegulationIndexer(new YAMLMapper(), new BpmnModelCache(),
+                new ChangeIndexCache(), ValidationExecutor.sequential()));
   }
 
   @Test
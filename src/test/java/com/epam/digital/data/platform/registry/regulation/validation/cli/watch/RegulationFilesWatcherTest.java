@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.registry.regulation.validation.cli.watch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.registry.regulation.validation.cli.model.RegulationFiles;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+@Timeout(value = 30, unit = TimeUnit.SECONDS)
+class RegulationFilesWatcherTest {
+
+  private static final Duration DEBOUNCE = Duration.ofMillis(100);
+
+  @TempDir
+  Path regulationDirectory;
+
+  @Test
+  void shouldReportChangedRegulationFile() throws IOException, InterruptedException {
+    var formFile = Files.writeString(regulationDirectory.resolve("form.json"), "{}");
+    var regulationFiles = RegulationFiles.builder()
+        .formFiles(List.of(formFile.toFile()))
+        .build();
+
+    try (var watcher = RegulationFilesWatcher.of(regulationFiles, DEBOUNCE)) {
+      Files.writeString(formFile, "{\"name\":\"form\"}");
+      Files.writeString(formFile, "{\"name\":\"updated-form\"}");
+
+      assertThat(watcher.awaitChanges()).contains(formFile);
+    }
+  }
+
+  @Test
+  void shouldWatchCreatedSubdirectoriesOfRegulationDirectory()
+      throws IOException, InterruptedException {
+    var templatesDirectory = Files.createDirectory(regulationDirectory.resolve("email"));
+    var regulationFiles = RegulationFiles.builder()
+        .emailNotificationTemplateDirectory(List.of(templatesDirectory.toFile()))
+        .build();
+
+    try (var watcher = RegulationFilesWatcher.of(regulationFiles, DEBOUNCE)) {
+      var templateDirectory = Files.createDirectory(templatesDirectory.resolve("template"));
+
+      assertThat(watcher.awaitChanges()).contains(templateDirectory);
+      assertThat(watcher.getWatchedDirectories()).contains(templatesDirectory, templateDirectory);
+    }
+  }
+}